@@ -2,13 +2,14 @@ package ChessGameJava.Controller;
 
 
 import java.util.ArrayList;
-import java.util.HashMap;
 
+import ChessGameJava.Logic.ChessBoard;
 import ChessGameJava.Logic.ChessBoardModel;
 import ChessGameJava.Logic.ChessSquareModel;
 import ChessGameJava.Logic.Colour;
+import ChessGameJava.Logic.LegalMoveGenerator;
 import ChessGameJava.Logic.Moves.ChessABSMove;
-import ChessGameJava.Logic.Pieces.ChessABSPieceModel;
+import ChessGameJava.Utility.FenHelper;
 import ChessGameJava.Utility.PieceName;
 import ChessGameJava.Utility.Position;
 import ChessGameJava.Utility.UiChange;
@@ -23,10 +24,10 @@ import ChessGameJava.Utility.UiChange;
  * not planned soon. 
  * 
  * @Author Charles Degrandpré
- * @Last_Updated 2023-09-01
+ * @Last_Updated 2026-10-17
  */
 public class ChessController {
-    private ChessBoardModel board;
+    private ChessBoard board;
     private Position firstPosition;
     private Position secondPosition;
     private Colour currentPlayer;
@@ -45,10 +46,60 @@ public class ChessController {
      * this constructor and set your desired colour of starting player. It also initializes the backend board. 
      */
     public ChessController() {
-        board = new ChessBoardModel();
-        firstPosition = null;
-        secondPosition = null;
-        currentPlayer = Colour.WHITE;
+        this(new ChessBoardModel(), Colour.WHITE);
+    }
+
+    /**
+     * Constructor of the ChessController class for a game that is already set up. It takes the 
+     * backend board the game is played on and the colour of the player who has to play first. 
+     * This is useful to continue a game from a position that is not the starting one. 
+     * 
+     * @param board The ChessBoard the game is played on. 
+     * @param startingPlayer The Colour of the player who plays the next move. 
+     */
+    public ChessController(ChessBoard board, Colour startingPlayer) {
+        this.board = board;
+        this.firstPosition = null;
+        this.secondPosition = null;
+        this.currentPlayer = startingPlayer;
+    }
+
+    /**
+     * Constructor of the ChessController class for a game starting from the position described by a FEN 
+     * string, see FenHelper. The board is set up directly in that position and the player who plays first 
+     * is the one of the string. If the string does not describe a valid position, it throws a RuntimeException. 
+     * 
+     * @param fen The FEN string of the position. 
+     */
+    public ChessController(String fen) {
+        this(new ChessBoardModel(fen), FenHelper.getSideToMove(fen));
+    }
+
+    /**
+     * Writes the current position of the game as a FEN string, see FenHelper. 
+     * 
+     * @return The FEN string of the position. 
+     */
+    public String toFen() {
+        return FenHelper.toFen(this.board, this.currentPlayer);
+    }
+
+    /**
+     * Getter for the backend board the game is played on. 
+     * 
+     * @return The ChessBoard of the ongoing game. 
+     */
+    public ChessBoard getBoard() {
+        return this.board;
+    }
+
+    /**
+     * Getter for the colour of the player who has to play the next move. 
+     * 
+     * @return The Colour of the current player. 
+     */
+    public Colour getCurrentPlayer() {
+        return this.currentPlayer;
     }
 
     /**
@@ -70,23 +121,14 @@ public class ChessController {
         System.out.println("--------------------------------------------------------------");
 
         if (this.firstPosition != null) {
-            this.secondPosition = click;
-
-            ChessABSMove validMove = this.isMoveValid();
-            if (validMove != null) {
-                listChanges = validMove.processExecuteMove(board);
-                this.setNextPlayer();
-            }
-
-            this.firstPosition = null;
-            this.secondPosition = null;
+            listChanges = this.playMove(this.firstPosition, click);
 
             System.out.println(this.determineGameState());
         }
         else if (board.getSquareModel(click).getPiece().getColour() == this.currentPlayer){
             this.firstPosition = click;
             ChessSquareModel selectedSquare = board.getSquareModel(click);
-            for (ChessABSMove move : selectedSquare.getPiece().getListMoves(selectedSquare, this.board)) {
+            for (ChessABSMove move : new LegalMoveGenerator(this.board, this.currentPlayer).getLegalMoves(selectedSquare)) {
                 listChanges.add(new UiChange(move.getSecondSquare().getPosition(), move.getFirstSquare().getPiece(), true));
             }
         }
@@ -94,6 +136,60 @@ public class ChessController {
         return listChanges;
     }
 
+    /**
+     * This method plays the move going from the first provided position to the second one if it is 
+     * valid for the current player and then hands the turn to the next player. It is the same as 
+     * registering two clicks from the UI but without any of the debugging output, which makes it 
+     * usable by headless tools that need to bring the game to a given position. 
+     * 
+     * If the move is not valid, the board is left untouched and an empty list is returned. 
+     * 
+     * @param from The Position of the piece we want to move. 
+     * @param to The Position we want the piece to go to. 
+     * @return An ArrayList<UiChange> that contains all the changes the UI needs to do. 
+     */
+    public ArrayList<UiChange> playMove(Position from, Position to) {
+        ArrayList<UiChange> listChanges = new ArrayList<UiChange>();
+
+        if (board.getSquareModel(from).getPiece().getColour() != this.currentPlayer) {
+            return listChanges;
+        }
+
+        this.firstPosition = from;
+        this.secondPosition = to;
+
+        ChessABSMove validMove = this.isMoveValid();
+        if (validMove != null) {
+            listChanges = validMove.processExecuteMove(board);
+            this.setNextPlayer();
+        }
+
+        this.firstPosition = null;
+        this.secondPosition = null;
+
+        return listChanges;
+    }
+
+    /**
+     * This method verifies if executing the provided move would leave the king of the provided 
+     * colour safe, in other words not under attack. It does so by executing the move, looking 
+     * if the king is attacked and then reverting the move. The board is therefore in the same 
+     * state before and after the call. 
+     * 
+     * @param move The ChessABSMove we want to verify. 
+     * @param colourOfPlayer The Colour of the player making the move. 
+     * @return True if the king of the player is not under attack after the move, false otherwise. 
+     */
+    public boolean isKingSafeAfterMove(ChessABSMove move, Colour colourOfPlayer) {
+        Colour colourOfAttacker = colourOfPlayer == Colour.BLACK ? Colour.WHITE : Colour.BLACK;
+
+        move.processExecuteMove(board);
+        boolean isKingSafe = !board.isSquareUnderAttackBy(board.getSquareOfKing(colourOfPlayer), colourOfAttacker);
+        move.processRevertMove(board);
+
+        return isKingSafe;
+    }
+
     /**
      * This method is in charge of verifying if the current registered move of the controller is a valid move.
      * If it is it will return the associated ChessABSMove instance. This function does not create any 
@@ -103,6 +199,8 @@ public class ChessController {
      * If multiple ChessABSMove objects match the provided positions of the first and second click, 
      * it will return the first one found. 
      * 
+     * Only the legal moves of the piece are considered, see LegalMoveGenerator. 
+     * 
      * @return the ChessABSMove of the move if it is valid and null otherwise. 
      */
     protected ChessABSMove isMoveValid() {
@@ -115,7 +213,7 @@ public class ChessController {
         ChessABSMove validMove = null;
 
         if (secondSquare.getPiece().getColour() != this.currentPlayer) {
-            ArrayList<ChessABSMove> possibleMoves = firstSquare.getPiece().getListMoves(firstSquare, this.board);
+            ArrayList<ChessABSMove> possibleMoves = new LegalMoveGenerator(this.board, this.currentPlayer).getLegalMoves(firstSquare);
 
             for(ChessABSMove move: possibleMoves) {
                 if((move.getFirstSquare() == firstSquare) && (move.getSecondSquare() == secondSquare)) {
@@ -123,66 +221,47 @@ public class ChessController {
                     break;
                 }
             }
-
-            if(validMove != null) {
-                validMove.processExecuteMove(board);
-                if(board.isSquareUnderAttackBy(board.getSquareOfKing(currentPlayer), currentPlayer == Colour.BLACK ? Colour.WHITE : Colour.BLACK)) {
-                    validMove.processRevertMove(board);
-                    validMove = null;
-                } else {
-                    validMove.processRevertMove(board);
-                }
-            }
         }
 
         return validMove;
     }
 
+    /**
+     * This method determines the state of the game for the current player. The game is a draw when 
+     * only the kings, or the kings and a single type of minor piece, are left or when the current 
+     * player cannot move without being in check. It is won by the opponent when the current player 
+     * is in check and cannot move. 
+     * 
+     * @return The GameState of the game. 
+     */
     protected GameState determineGameState() {
-        HashMap<PieceName, Integer> mapStateCount = new HashMap<>();
+        int[] pieceCounts = new int[PieceName.values().length];
+        int size = 0;
 
         for(ChessSquareModel square : this.board.getSquareList()) {
-            PieceName pieceName = UiChange.getNameFromABSPiece(square.getPiece());
-            mapStateCount.put(pieceName, mapStateCount.getOrDefault(pieceName, 0) + 1);
+            PieceName pieceName = square.getPiece().getPieceName();
+            if(pieceName != PieceName.NULL && pieceCounts[pieceName.ordinal()]++ == 0) {
+                size++;
+            }
         }
 
-        Integer size = mapStateCount.size();
         if(size == 2) {
-            if(mapStateCount.containsKey(PieceName.BISHOP) || mapStateCount.containsKey(PieceName.KNIGHT)) {
+            if(pieceCounts[PieceName.BISHOP.ordinal()] > 0 || pieceCounts[PieceName.KNIGHT.ordinal()] > 0) {
                 return GameState.DRAW;
             }
         } else if (size == 1) {
             return GameState.DRAW;
         }
 
-        Colour colourOfAttacker = currentPlayer == Colour.WHITE ? Colour.BLACK : Colour.WHITE;
+        LegalMoveGenerator generator = new LegalMoveGenerator(this.board, this.currentPlayer);
 
-        if(this.board.isSquareUnderAttackBy(this.board.getSquareOfKing(this.currentPlayer), colourOfAttacker)) {
-            boolean mate = this.isPlayerInMate(colourOfAttacker);
-            System.out.println(mate);
-            if(mate) {
+        if(!generator.hasLegalMove()) {
+            if(generator.isInCheck()) {
                 return this.currentPlayer == Colour.WHITE ? GameState.BLACK_WIN : GameState.WHITE_WIN;
             }
+            return GameState.DRAW;
         }
 
         return GameState.ONGOING;
     }
-
-    protected boolean isPlayerInMate(Colour colourOfAttacker) {
-        for(ChessSquareModel square : this.board.getSquareList()) {
-            ChessABSPieceModel piece = square.getPiece();
-            if(piece.getColour() == this.currentPlayer) {
-                for(ChessABSMove move : piece.getListMoves(square, board)) {
-                    move.processExecuteMove(board);
-                    if(!this.board.isSquareUnderAttackBy(this.board.getSquareOfKing(this.currentPlayer), colourOfAttacker)) {
-                        move.processRevertMove(board);
-                        return false;
-                    }
-                    move.processRevertMove(board);
-                }
-            }
-        }
-
-        return true; 
-    }
 }
@@ -0,0 +1,471 @@
+package ChessGameJava.Controller;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import ChessGameJava.Engine.Engine;
+import ChessGameJava.Engine.PawnHashTable;
+import ChessGameJava.Engine.SearchLimits;
+import ChessGameJava.Engine.SearchResult;
+import ChessGameJava.Engine.TranspositionTable;
+import ChessGameJava.Logic.BitboardBoardModel;
+import ChessGameJava.Logic.BitboardMoveGenerator;
+import ChessGameJava.Logic.ChessBoardModel;
+import ChessGameJava.Logic.Colour;
+import ChessGameJava.Logic.Moves.PackedMove;
+import ChessGameJava.Utility.FenHelper;
+
+/**
+ * Class that acts as a controller of the engine for the Universal Chess Interface (UCI) protocol. It reads 
+ * the commands of a graphical interface or of a tournament manager line by line and writes the answers of 
+ * the engine, which lets the engine run without the UI. The supported commands are uci, isready, 
+ * setoption (Hash, Threads, MultiPV and Ponder), ucinewgame, position, go, stop, ponderhit and quit. 
+ * 
+ * The position command starts from the position of a new ChessController or from a FEN string, see 
+ * FenHelper. Its moves are then made with the native moves of a BitboardBoardModel, which follow the FIDE 
+ * rules including the promotions, a move being only accepted if it is one of the legal moves of the position. 
+ * The positions reached are remembered by the board, so the search sees the repetitions of the game. 
+ * 
+ * A search runs on its own thread so the commands keep being read while the engine thinks: stop ends it 
+ * and the best move is written once it is over. Without any limit, the go command searches until stop. 
+ * When the clocks are provided, a TimeManager decides how long the search lasts. 
+ * 
+ * The best move is written along with the move expected from the opponent, which the interface can play 
+ * on the board to send a go ponder command: the engine then searches while the opponent thinks. If the 
+ * opponent plays the expected move, the ponderhit command turns the ponder search into the regular search 
+ * of the move, keeping everything found so far. Otherwise, the interface stops it and sends the new 
+ * position, the transposition table still holding the positions already searched. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public class UciController {
+    public final static String engineName = "ChessJavaProject";
+    public final static String engineAuthor = "Charles Degrandpré";
+    public final static int maxHashSize = 4096;
+    public final static int maxMultiPv = 256;
+
+    private final static int stopPollingMillis = 10;
+
+    private final BufferedReader input;
+    private final PrintStream output;
+    private Engine engine;
+    private int hashSize = Engine.defaultHashSize;
+    private int multiPv = 1;
+    private BitboardBoardModel board;
+    private Thread searchThread = null;
+    private boolean isInfinite = false;
+    private boolean isPondering = false;
+    private boolean isStopRequested = false;
+    private volatile boolean isSearchOver = true;
+
+    /**
+     * Constructor of the UciController class. The position is the starting position until a position 
+     * command is received. 
+     * 
+     * @param input The stream the commands are read from. 
+     * @param output The stream the answers are written to. 
+     */
+    public UciController(InputStream input, PrintStream output) {
+        this.input = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.output = output;
+        this.engine = this.createEngine(Engine.defaultHashSize, 1);
+        this.board = UciController.createStartingBoard();
+    }
+
+    /**
+     * Reads and processes the commands until the quit command is received or the input is closed. Any 
+     * running search is stopped before returning. 
+     */
+    public void run() {
+        try {
+            String line;
+            while ((line = this.input.readLine()) != null) {
+                if (!this.processCommand(line.trim())) {
+                    break;
+                }
+            }
+        } catch (IOException exception) {
+            throw new RuntimeException("Cannot read the UCI commands", exception);
+        } finally {
+            this.stopSearch();
+        }
+    }
+
+    /**
+     * Processes a single command. The unknown commands are ignored, as required by the protocol, and a 
+     * command that fails is reported in an info string instead of stopping the controller. 
+     * 
+     * @param command The command without its leading and trailing spaces. 
+     * @return False if the command is quit, true otherwise. 
+     */
+    public boolean processCommand(String command) {
+        String[] tokens = command.split("\\s+");
+
+        try {
+            switch (tokens[0]) {
+                case "uci":
+                    this.send("id name " + engineName);
+                    this.send("id author " + engineAuthor);
+                    this.send(String.format("option name Hash type spin default %d min 1 max %d", Engine.defaultHashSize, maxHashSize));
+                    this.send(String.format("option name Threads type spin default 1 min 1 max %d", Engine.maxThreads));
+                    this.send(String.format("option name MultiPV type spin default 1 min 1 max %d", maxMultiPv));
+                    this.send("option name Ponder type check default false");
+                    this.send("uciok");
+                    break;
+                case "isready":
+                    this.send("readyok");
+                    break;
+                case "setoption":
+                    this.stopSearch();
+                    this.setOption(tokens);
+                    break;
+                case "ucinewgame":
+                    this.stopSearch();
+                    this.engine.clear();
+                    this.board = UciController.createStartingBoard();
+                    break;
+                case "position":
+                    this.stopSearch();
+                    this.setPosition(tokens);
+                    break;
+                case "go":
+                    this.stopSearch();
+                    this.startSearch(tokens);
+                    break;
+                case "stop":
+                    this.stopSearch();
+                    break;
+                case "ponderhit":
+                    this.ponderHit();
+                    break;
+                case "quit":
+                    return false;
+                default:
+                    break;
+            }
+        } catch (RuntimeException exception) {
+            this.send(String.format("info string %s", exception.getMessage()));
+        }
+
+        return true;
+    }
+
+    /**
+     * Processes a setoption command of the form "setoption name <name> value <value>". 
+     * 
+     * @param tokens The words of the command. 
+     */
+    private void setOption(String[] tokens) {
+        if (tokens.length != 5 || !tokens[1].equals("name") || !tokens[3].equals("value")) {
+            this.send("info string Invalid option command");
+            return;
+        }
+
+        if (tokens[2].equalsIgnoreCase("Ponder")) {
+            return;
+        }
+
+        try {
+            int value = Integer.parseInt(tokens[4]);
+            if (tokens[2].equalsIgnoreCase("Hash")) {
+                this.hashSize = Math.max(1, Math.min(maxHashSize, value));
+                this.engine = this.createEngine(this.hashSize, this.engine.getThreads());
+            } else if (tokens[2].equalsIgnoreCase("Threads")) {
+                this.engine.setThreads(Math.max(1, Math.min(Engine.maxThreads, value)));
+            } else if (tokens[2].equalsIgnoreCase("MultiPV")) {
+                this.multiPv = Math.max(1, Math.min(maxMultiPv, value));
+            } else {
+                this.send(String.format("info string Unknown option %s", tokens[2]));
+            }
+        } catch (NumberFormatException exception) {
+            this.send(String.format("info string Invalid value %s", tokens[4]));
+        }
+    }
+
+    /**
+     * Processes a position command of the form "position startpos [moves <move> ...]" or "position fen 
+     * <fen> [moves <move> ...]". A FEN position is set up directly on a new board, see FenHelper, and an 
+     * invalid one leaves the position unchanged. The moves are written in the UCI notation (ex: e2e4, e7e8q). 
+     * An illegal move stops the processing of the moves, the position being the one before it. The board 
+     * forgets every move once it is made, see BitboardBoardModel.forgetMoves, so a game of any length fits 
+     * on its undo stack. 
+     * 
+     * @param tokens The words of the command. 
+     */
+    private void setPosition(String[] tokens) {
+        int movesIndex = Arrays.asList(tokens).indexOf("moves");
+        if (movesIndex < 0) {
+            movesIndex = tokens.length;
+        }
+
+        if (tokens.length >= 2 && tokens[1].equals("startpos")) {
+            this.board = UciController.createStartingBoard();
+        } else if (tokens.length >= 2 && tokens[1].equals("fen")) {
+            String fen = String.join(" ", Arrays.copyOfRange(tokens, 2, Math.max(2, movesIndex)));
+            try {
+                this.board = new BitboardBoardModel(new ChessBoardModel(fen), FenHelper.getSideToMove(fen));
+            } catch (RuntimeException exception) {
+                this.send(String.format("info string %s", exception.getMessage()));
+                return;
+            }
+        } else {
+            this.send("info string The position must be startpos or fen");
+            return;
+        }
+
+        for (int i = movesIndex + 1; i < tokens.length; i++) {
+            int move = UciController.findMove(this.board, tokens[i]);
+            if (move == PackedMove.noMove) {
+                this.send(String.format("info string Illegal move %s", tokens[i]));
+                return;
+            }
+            this.board.makeMove(move);
+            this.board.forgetMoves();
+        }
+    }
+
+    /**
+     * Processes a go command and starts the search on its own thread. The supported parameters are depth, 
+     * nodes, movetime, infinite, ponder, wtime, btime, winc, binc and movestogo. 
+     * 
+     * @param tokens The words of the command. 
+     */
+    private void startSearch(String[] tokens) {
+        SearchLimits limits = new SearchLimits();
+        limits.setMultiPv(this.multiPv);
+        boolean isWhite = this.board.getSideToMove() == Colour.WHITE;
+        boolean isInfinite = false;
+
+        try {
+            for (int i = 1; i < tokens.length; i++) {
+                boolean hasValue = i + 1 < tokens.length;
+                switch (tokens[i]) {
+                    case "depth":
+                        if (hasValue) {
+                            limits.setDepth(Integer.parseInt(tokens[++i]));
+                        }
+                        break;
+                    case "nodes":
+                        if (hasValue) {
+                            limits.setNodes(Long.parseLong(tokens[++i]));
+                        }
+                        break;
+                    case "movetime":
+                        if (hasValue) {
+                            limits.setMoveTime(Long.parseLong(tokens[++i]));
+                        }
+                        break;
+                    case "wtime":
+                    case "btime":
+                        if (hasValue && tokens[i].equals(isWhite ? "wtime" : "btime")) {
+                            limits.setTime(Long.parseLong(tokens[++i]));
+                        } else if (hasValue) {
+                            i++;
+                        }
+                        break;
+                    case "winc":
+                    case "binc":
+                        if (hasValue && tokens[i].equals(isWhite ? "winc" : "binc")) {
+                            limits.setIncrement(Long.parseLong(tokens[++i]));
+                        } else if (hasValue) {
+                            i++;
+                        }
+                        break;
+                    case "movestogo":
+                        if (hasValue) {
+                            limits.setMovesToGo(Math.max(1, Integer.parseInt(tokens[++i])));
+                        }
+                        break;
+                    case "infinite":
+                        isInfinite = true;
+                        break;
+                    case "ponder":
+                        limits.setPonder(true);
+                        break;
+                    default:
+                        break;
+                }
+            }
+        } catch (RuntimeException exception) {
+            this.send("info string Invalid go command");
+            return;
+        }
+
+        boolean hasLimit = limits.getDepth() != SearchLimits.noLimit || limits.getNodes() != SearchLimits.noLimit
+                || limits.getMoveTime() != SearchLimits.noLimit || limits.getTime() != SearchLimits.noLimit;
+
+        synchronized (this) {
+            this.isInfinite = isInfinite || !hasLimit;
+            this.isPondering = limits.isPonder();
+            this.isStopRequested = false;
+        }
+        this.isSearchOver = false;
+        Engine engine = this.engine;
+        BitboardBoardModel board = this.board;
+        this.searchThread = new Thread(() -> this.search(engine, board, limits), "UCI search");
+        this.searchThread.start();
+    }
+
+    /**
+     * Runs a search and writes its best move. An infinite or ponder search waits for the stop command (or 
+     * the ponderhit command for a ponder search) before writing its best move, even if it ended on its own. 
+     * A search that fails is reported in an info string and writes the null move 0000. 
+     * 
+     * @param engine The Engine running the search. 
+     * @param board The BitboardBoardModel to search. 
+     * @param limits The SearchLimits of the search. 
+     */
+    private void search(Engine engine, BitboardBoardModel board, SearchLimits limits) {
+        engine.setListener(result -> this.sendInfo(engine, result));
+        SearchResult result = null;
+        try {
+            result = engine.search(board, limits);
+        } catch (RuntimeException exception) {
+            this.send(String.format("info string %s", exception.getMessage()));
+        }
+        this.isSearchOver = true;
+
+        synchronized (this) {
+            while ((this.isInfinite || this.isPondering) && !this.isStopRequested) {
+                try {
+                    this.wait();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+
+        int[] principalVariation = result == null ? new int[0] : result.getPrincipalVariation();
+        if (principalVariation.length == 0) {
+            this.send("bestmove 0000");
+        } else if (principalVariation.length == 1) {
+            this.send("bestmove " + PackedMove.toAlgebraic(principalVariation[0]));
+        } else {
+            this.send(String.format("bestmove %s ponder %s", PackedMove.toAlgebraic(principalVariation[0]), PackedMove.toAlgebraic(principalVariation[1])));
+        }
+    }
+
+    /**
+     * Stops the running search, if there is one, and waits for its best move to be written. 
+     */
+    private void stopSearch() {
+        Thread thread = this.searchThread;
+        if (thread == null) {
+            return;
+        }
+
+        synchronized (this) {
+            this.isStopRequested = true;
+            this.notifyAll();
+        }
+        try {
+            while (thread.isAlive()) {
+                this.engine.stop();
+                thread.join(stopPollingMillis);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        this.searchThread = null;
+    }
+
+    /**
+     * Processes the ponderhit command: the opponent played the expected move, the ponder search goes on as 
+     * the regular search of the move. 
+     */
+    private void ponderHit() {
+        Thread thread = this.searchThread;
+        if (thread == null) {
+            return;
+        }
+
+        synchronized (this) {
+            this.isPondering = false;
+            this.notifyAll();
+        }
+        try {
+            while (!this.isSearchOver && !this.engine.ponderHit()) {
+                Thread.sleep(1);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes the info lines of an iteration of the search, one per line of a multi-PV search. 
+     * 
+     * @param engine The Engine running the search. 
+     * @param result The SearchResult of the iteration. 
+     */
+    private void sendInfo(Engine engine, SearchResult result) {
+        SearchResult[] lines = result.getLines();
+        int hashfull = engine.getTranspositionTable().getHashfull();
+
+        for (int i = 0; i < lines.length; i++) {
+            SearchResult line = lines[i];
+            String score = line.isMateScore() ? String.format("mate %d", line.getMateInMoves()) : String.format("cp %d", line.getScore());
+            String multiPv = lines.length > 1 ? String.format(" multipv %d", i + 1) : "";
+            this.send(String.format("info depth %d%s score %s nodes %d nps %d time %d hashfull %d pv %s", result.getDepth(), multiPv, score,
+                    result.getNodes(), result.getNodesPerSecond(), result.getElapsedNanos() / 1_000_000, hashfull, line.getPrincipalVariationString()));
+        }
+    }
+
+    /**
+     * Writes a line to the output. Both the thread reading the commands and the thread of the search 
+     * write to the output, the lines are therefore never mixed. 
+     * 
+     * @param line The line to write. 
+     */
+    private synchronized void send(String line) {
+        this.output.println(line);
+        this.output.flush();
+    }
+
+    /**
+     * Creates an Engine with a transposition table of the provided size. 
+     * 
+     * @param hashSize The size of the transposition table in megabytes. 
+     * @param threads The number of threads of the searches. 
+     * @return The new Engine. 
+     */
+    private Engine createEngine(int hashSize, int threads) {
+        Engine engine = new Engine(new TranspositionTable(hashSize), new PawnHashTable(Engine.defaultPawnHashSize));
+        engine.setThreads(threads);
+        return engine;
+    }
+
+    /**
+     * @return A BitboardBoardModel in the starting position of a new ChessController. 
+     */
+    private static BitboardBoardModel createStartingBoard() {
+        ChessController controller = new ChessController();
+        return new BitboardBoardModel(controller.getBoard(), controller.getCurrentPlayer());
+    }
+
+    /**
+     * Finds the legal move of a board written in the UCI notation. 
+     * 
+     * @param board The BitboardBoardModel the move is made on. 
+     * @param notation The move in the UCI notation (ex: e2e4, e7e8q). 
+     * @return The packed move or PackedMove.noMove if it is not a legal move of the board. 
+     */
+    private static int findMove(BitboardBoardModel board, String notation) {
+        int[] moves = new int[BitboardMoveGenerator.maxNumberOfMoves];
+        int numberOfMoves = BitboardMoveGenerator.generateLegalMoves(board, moves);
+
+        for (int i = 0; i < numberOfMoves; i++) {
+            if (PackedMove.toAlgebraic(moves[i]).equals(notation)) {
+                return moves[i];
+            }
+        }
+        return PackedMove.noMove;
+    }
+}
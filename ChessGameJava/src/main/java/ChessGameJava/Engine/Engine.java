@@ -0,0 +1,305 @@
+package ChessGameJava.Engine;
+
+import java.util.function.Supplier;
+
+import ChessGameJava.Logic.BitboardBoardModel;
+import ChessGameJava.Logic.ChessBoard;
+import ChessGameJava.Logic.Colour;
+
+/**
+ * Class in charge of finding the best move of a position. It owns the TranspositionTable kept from one 
+ * search to the next and creates a Searcher for every thread of a search, see Searcher for how the search 
+ * is done. 
+ * 
+ * With more than one thread, the search is a Lazy SMP: every thread searches the same position on its own 
+ * copy of the board, the threads only sharing the TranspositionTable. A thread finding the result of a 
+ * position already searched by another one does not search it again, which lets the threads work ahead of 
+ * each other. Every other helper thread searches one ply deeper than the main thread to spread the work 
+ * over more depths. Once the main thread is done, the helpers are stopped and the move played is chosen 
+ * by a vote of the threads, see voteBestResult. A multi-PV search returns the lines of the main thread, the 
+ * helpers only filling the TranspositionTable. 
+ * 
+ * The positions are searched on the native API of a BitboardBoardModel and the moves returned are PackedMove, 
+ * which follow the FIDE rules. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public class Engine {
+    public final static int defaultHashSize = 16;
+    public final static int defaultPawnHashSize = 2;
+    public final static int maxThreads = 256;
+
+    private final static int voteScoreMargin = 14;
+
+    private final TranspositionTable table;
+    private final Supplier<Evaluator> evaluatorFactory;
+    private SearchListener listener = null;
+    private int threads = 1;
+    private volatile Searcher[] currentSearchers = null;
+
+    /**
+     * Constructor of an Engine with a transposition table of defaultHashSize megabytes evaluating the 
+     * positions with a PositionalEvaluator and a pawn hash table of defaultPawnHashSize megabytes. 
+     */
+    public Engine() {
+        this(new TranspositionTable(defaultHashSize), new PawnHashTable(defaultPawnHashSize));
+    }
+
+    /**
+     * Constructor of an Engine evaluating the positions with a PositionalEvaluator, the threads sharing 
+     * the provided pawn hash table. 
+     * 
+     * @param table The TranspositionTable used by the searches. 
+     * @param pawnTable The PawnHashTable used by the evaluators. 
+     */
+    public Engine(TranspositionTable table, PawnHashTable pawnTable) {
+        this(table, () -> new PositionalEvaluator(pawnTable));
+    }
+
+    /**
+     * Constructor of the Engine class. 
+     * 
+     * @param table The TranspositionTable used by the searches. 
+     * @param evaluatorFactory Creates the Evaluator of every thread of a search. 
+     */
+    public Engine(TranspositionTable table, Supplier<Evaluator> evaluatorFactory) {
+        this.table = table;
+        this.evaluatorFactory = evaluatorFactory;
+    }
+
+    /**
+     * Searches the best move of the side to move of a board. The main thread searches the board itself, 
+     * which is in the same state once the search is over, and the helper threads search copies of it. 
+     * The positions reached by the native moves already made on the board are taken into account to 
+     * detect the repetitions. The number of nodes of the limits is shared between the threads. If a 
+     * helper thread fails, the search throws a RuntimeException holding the cause once every thread is over. 
+     * 
+     * @param board The BitboardBoardModel to search. 
+     * @param limits The SearchLimits of the search. 
+     * @return The SearchResult chosen by the threads, with the nodes of every thread. 
+     */
+    public SearchResult search(BitboardBoardModel board, SearchLimits limits) {
+        long start = System.nanoTime();
+        int numberOfThreads = this.threads;
+        SearchLimits threadLimits = new SearchLimits(limits);
+        if (limits.getNodes() != SearchLimits.noLimit) {
+            threadLimits.setNodes(Math.max(1, limits.getNodes() / numberOfThreads));
+        }
+
+        Searcher[] searchers = new Searcher[numberOfThreads];
+        for (int i = 0; i < numberOfThreads; i++) {
+            searchers[i] = new Searcher(i == 0 ? board : board.copy(), this.table, this.evaluatorFactory.get());
+            searchers[i].setDepthOffset(i % 2);
+        }
+        if (this.listener != null) {
+            SearchListener engineListener = this.listener;
+            searchers[0].setListener(result -> engineListener.onIteration(new SearchResult(result.getScore(), result.getDepth(),
+                    result.getPrincipalVariation(), Engine.countNodes(searchers), result.getElapsedNanos(), Engine.getMultiPvLines(result))));
+        }
+
+        this.table.newSearch();
+        this.currentSearchers = searchers;
+
+        SearchResult[] results = new SearchResult[numberOfThreads];
+        Throwable[] failures = new Throwable[numberOfThreads];
+        Thread[] helpers = new Thread[numberOfThreads - 1];
+        for (int i = 1; i < numberOfThreads; i++) {
+            int index = i;
+            helpers[i - 1] = new Thread(() -> {
+                try {
+                    results[index] = searchers[index].search(threadLimits);
+                } catch (Throwable failure) {
+                    failures[index] = failure;
+                }
+            }, "Searcher " + i);
+            helpers[i - 1].start();
+        }
+
+        try {
+            results[0] = searchers[0].search(threadLimits);
+        } finally {
+            for (Searcher searcher : searchers) {
+                searcher.stop();
+            }
+            Engine.joinHelpers(helpers);
+            this.currentSearchers = null;
+        }
+        for (Throwable failure : failures) {
+            if (failure != null) {
+                throw new RuntimeException(String.format("A helper thread of the search failed: %s", failure), failure);
+            }
+        }
+
+        SearchResult best = limits.getMultiPv() > 1 ? results[0] : Engine.voteBestResult(results);
+        return new SearchResult(best.getScore(), best.getDepth(), best.getPrincipalVariation(), Engine.countNodes(searchers),
+                System.nanoTime() - start, Engine.getMultiPvLines(best));
+    }
+
+    /**
+     * Searches the best move of a player on any ChessBoard. The position is copied in a new 
+     * BitboardBoardModel before being searched, the provided board is never modified. 
+     * 
+     * @param board The ChessBoard to search. 
+     * @param sideToMove The Colour of the player who plays the next move. 
+     * @param limits The SearchLimits of the search. 
+     * @return The SearchResult chosen by the threads, with the nodes of every thread. 
+     */
+    public SearchResult search(ChessBoard board, Colour sideToMove, SearchLimits limits) {
+        return this.search(new BitboardBoardModel(board, sideToMove), limits);
+    }
+
+    /**
+     * Stops the current search, if there is one, as soon as the first iteration of every thread is 
+     * completed. This can be called from any thread. 
+     */
+    public void stop() {
+        Searcher[] searchers = this.currentSearchers;
+        if (searchers != null) {
+            for (Searcher searcher : searchers) {
+                searcher.stop();
+            }
+        }
+    }
+
+    /**
+     * Turns the current ponder search, if there is one, into a regular search whose time starts now, see 
+     * Searcher.ponderHit. This can be called from any thread. 
+     * 
+     * @return True if a search was running, false otherwise. 
+     */
+    public boolean ponderHit() {
+        Searcher[] searchers = this.currentSearchers;
+        if (searchers == null) {
+            return false;
+        }
+        for (Searcher searcher : searchers) {
+            searcher.ponderHit();
+        }
+        return true;
+    }
+
+    /**
+     * @param listener The SearchListener notified of every iteration of the main thread of the next searches or null. 
+     */
+    public void setListener(SearchListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * @return The number of threads of the searches. 
+     */
+    public int getThreads() {
+        return this.threads;
+    }
+
+    /**
+     * Sets the number of threads of the next searches. If the number is not between 1 and maxThreads, 
+     * it throws a RuntimeException. 
+     * 
+     * @param threads The number of threads. 
+     */
+    public void setThreads(int threads) {
+        if (threads < 1 || threads > maxThreads) {
+            throw new RuntimeException(String.format("The number of threads must be between 1 and %d", maxThreads));
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Forgets every result of the previous searches, to call when starting a new game. 
+     */
+    public void clear() {
+        this.table.clear();
+    }
+
+    /**
+     * @return The TranspositionTable used by the searches. 
+     */
+    public TranspositionTable getTranspositionTable() {
+        return this.table;
+    }
+
+    /**
+     * @param result A SearchResult of a Searcher. 
+     * @return The lines of the result if it has several of them, null otherwise. 
+     */
+    private static SearchResult[] getMultiPvLines(SearchResult result) {
+        return result.getLines().length > 1 ? result.getLines() : null;
+    }
+
+    /**
+     * Chooses the move to play among the results of the threads of a search. A mate found by a thread is 
+     * always played, the shortest one first. Otherwise, every thread votes for its best move with a weight 
+     * growing with its depth and with how much better its score is than the worst score of the threads. The 
+     * move with the most votes is played, with the result of the deepest thread that found it. 
+     * 
+     * @param results The SearchResult of every thread, the one of the main thread first. 
+     * @return The SearchResult chosen. 
+     */
+    private static SearchResult voteBestResult(SearchResult[] results) {
+        SearchResult best = results[0];
+        int minScore = Integer.MAX_VALUE;
+
+        for (SearchResult result : results) {
+            if (result.getScore() >= Searcher.mateBound && result.getScore() > best.getScore()) {
+                best = result;
+            }
+            minScore = Math.min(minScore, result.getScore());
+        }
+        if (best.getScore() >= Searcher.mateBound || results.length == 1) {
+            return best;
+        }
+
+        long[] votes = new long[results.length];
+        for (int i = 0; i < results.length; i++) {
+            long weight = (long) (results[i].getScore() - minScore + voteScoreMargin) * results[i].getDepth();
+            for (int j = 0; j < results.length; j++) {
+                if (results[j].getBestMove() == results[i].getBestMove()) {
+                    votes[j] += weight;
+                }
+            }
+        }
+
+        int bestIndex = 0;
+        for (int i = 1; i < results.length; i++) {
+            if (votes[i] > votes[bestIndex] || (votes[i] == votes[bestIndex] && results[i].getDepth() > results[bestIndex].getDepth())) {
+                bestIndex = i;
+            }
+        }
+        return results[bestIndex];
+    }
+
+    /**
+     * @param searchers The Searcher of every thread of a search. 
+     * @return The number of nodes visited by all the threads. 
+     */
+    private static long countNodes(Searcher[] searchers) {
+        long nodes = 0;
+        for (Searcher searcher : searchers) {
+            nodes += searcher.getNodes();
+        }
+        return nodes;
+    }
+
+    /**
+     * Waits for the helper threads of a search to be over. 
+     * 
+     * @param helpers The helper threads. 
+     */
+    private static void joinHelpers(Thread[] helpers) {
+        boolean interrupted = false;
+        for (Thread helper : helpers) {
+            while (helper.isAlive()) {
+                try {
+                    helper.join();
+                } catch (InterruptedException exception) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
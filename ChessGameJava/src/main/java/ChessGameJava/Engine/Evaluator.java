@@ -0,0 +1,42 @@
+package ChessGameJava.Engine;
+
+import ChessGameJava.Logic.BitboardBoardModel;
+
+/**
+ * Interface describing the static evaluation used by the search of the Engine. An evaluation gives a 
+ * score in centipawns to a position without looking at any move, positive when the position is good 
+ * for the side to move of the board and negative when it is good for its opponent. 
+ * 
+ * The search keeps one Evaluator per thread, an Evaluator may therefore keep a state of its own as long 
+ * as it does not share it with other instances. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public interface Evaluator {
+
+    /**
+     * Evaluates the current position of a board. 
+     * 
+     * @param board The BitboardBoardModel to evaluate. 
+     * @return The score of the position in centipawns from the point of view of the side to move. 
+     */
+    int evaluate(BitboardBoardModel board);
+
+    /**
+     * Called before a search of the board starts, letting an evaluator that follows the moves made on the 
+     * board prepare its state. Nothing is done by default. 
+     * 
+     * @param board The BitboardBoardModel that will be evaluated. 
+     */
+    default void attach(BitboardBoardModel board) {
+    }
+
+    /**
+     * Called once the search of the board is over, see attach. Nothing is done by default. 
+     * 
+     * @param board The BitboardBoardModel that was evaluated. 
+     */
+    default void detach(BitboardBoardModel board) {
+    }
+}
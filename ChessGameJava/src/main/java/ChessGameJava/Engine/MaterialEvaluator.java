@@ -0,0 +1,65 @@
+package ChessGameJava.Engine;
+
+import ChessGameJava.Logic.BitboardBoardModel;
+import ChessGameJava.Logic.Colour;
+import ChessGameJava.Utility.PieceName;
+
+/**
+ * Evaluator counting the material of both players. Every piece is worth its usual value in centipawns 
+ * and the score is the difference between the material of the side to move and the one of its opponent. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public class MaterialEvaluator implements Evaluator {
+    private final static int[] pieceValues = { 0, 900, 500, 330, 320, 100 };
+    private final static PieceName[] materialPieces = { PieceName.QUEEN, PieceName.ROOK, PieceName.BISHOP, PieceName.KNIGHT, PieceName.PAWN };
+
+    /**
+     * Evaluates the current position of a board by counting the material of both players. 
+     * 
+     * @param board The BitboardBoardModel to evaluate. 
+     * @return The material of the side to move minus the material of its opponent. 
+     */
+    @Override
+    public int evaluate(BitboardBoardModel board) {
+        int score = MaterialEvaluator.getMaterial(board, Colour.WHITE) - MaterialEvaluator.getMaterial(board, Colour.BLACK);
+        return board.getSideToMove() == Colour.WHITE ? score : -score;
+    }
+
+    /**
+     * Returns the value of a type of piece. 
+     * 
+     * @param pieceName The PieceName of the piece. 
+     * @return The value of the piece in centipawns, 0 for the king. 
+     */
+    public static int getPieceValue(PieceName pieceName) {
+        return pieceValues[pieceName.ordinal()];
+    }
+
+    /**
+     * Returns the value of a type of piece given by the ordinal of its PieceName, as found in the code 
+     * of a piece of a BitboardBoardModel. 
+     * 
+     * @param pieceType The ordinal of the PieceName of the piece. 
+     * @return The value of the piece in centipawns, 0 for the king. 
+     */
+    public static int getPieceValue(int pieceType) {
+        return pieceValues[pieceType];
+    }
+
+    /**
+     * Sums the value of every piece of a player. 
+     * 
+     * @param board The BitboardBoardModel to evaluate. 
+     * @param colour The Colour of the player. 
+     * @return The material of the player in centipawns. 
+     */
+    private static int getMaterial(BitboardBoardModel board, Colour colour) {
+        int material = 0;
+        for (PieceName pieceName : materialPieces) {
+            material += Long.bitCount(board.getPieceBitboard(pieceName, colour)) * pieceValues[pieceName.ordinal()];
+        }
+        return material;
+    }
+}
@@ -0,0 +1,228 @@
+package ChessGameJava.Engine;
+
+import java.util.Arrays;
+
+import ChessGameJava.Logic.BitboardBoardModel;
+import ChessGameJava.Logic.Colour;
+import ChessGameJava.Logic.Moves.PackedMove;
+import ChessGameJava.Utility.PieceName;
+
+/**
+ * Class in charge of the order in which the moves of a node are searched. Alpha-beta pruning cuts the 
+ * most nodes when the best move is searched first, so the moves are searched in the following order: 
+ * 
+ * - the move of the TranspositionTable, 
+ * - the captures and the promotions, the most valuable piece taken first and, for the same piece taken, 
+ *   with the least valuable piece first (MVV-LVA), 
+ * - the two killer moves of the ply, quiet moves that caused a cutoff in another node of the same ply, 
+ * - the counter move, the quiet move that last caused a cutoff in answer to the previous move, 
+ * - the other quiet moves, by their history score. 
+ * 
+ * The history score of a quiet move grows every time it causes a cutoff and shrinks every time another 
+ * quiet move causes a cutoff after it was searched, by an amount growing with the remaining depth. 
+ * 
+ * The tables are arrays of ints allocated once. Every Searcher has its own MoveOrderer, meaning the 
+ * tables are never shared between threads. The moves are sorted lazily: selectMove only looks for the 
+ * next best move, which is cheaper than sorting every move of a node cut after its first moves. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public class MoveOrderer {
+    private final static int numberOfSquares = 64;
+    private final static int tableMoveScore = 1 << 30;
+    private final static int captureScore = 1 << 28;
+    private final static int firstKillerScore = 1 << 27;
+    private final static int secondKillerScore = firstKillerScore - 1;
+    private final static int counterMoveScore = 1 << 26;
+    private final static int maxHistory = 1 << 14;
+    private final static int maxHistoryBonus = 1200;
+
+    private final int[][] scores;
+    private final int[][] killers;
+    private final int[] history = new int[2 * numberOfSquares * numberOfSquares];
+    private final int[] counterMoves = new int[numberOfSquares * numberOfSquares];
+
+    /**
+     * Constructor of the MoveOrderer class. 
+     * 
+     * @param maxPly The number of plies of the search, the ply of a node being lower than it. 
+     * @param maxNumberOfMoves The number of moves of a node that can be scored. 
+     */
+    public MoveOrderer(int maxPly, int maxNumberOfMoves) {
+        this.scores = new int[maxPly][maxNumberOfMoves];
+        this.killers = new int[maxPly][2];
+    }
+
+    /**
+     * Scores every move of a node in the order described by the class. 
+     * 
+     * @param board The BitboardBoardModel the moves are made on. 
+     * @param moves The moves of the node. 
+     * @param numberOfMoves The number of moves of the node. 
+     * @param ply The ply of the node. 
+     * @param tableMove The move of the TranspositionTable or PackedMove.noMove. 
+     * @param previousMove The move that led to the node or PackedMove.noMove. 
+     */
+    public void scoreMoves(BitboardBoardModel board, int[] moves, int numberOfMoves, int ply, int tableMove, int previousMove) {
+        int[] nodeScores = this.scores[ply];
+        int[] nodeKillers = this.killers[ply];
+        int counterMove = previousMove == PackedMove.noMove ? PackedMove.noMove : this.counterMoves[MoveOrderer.getSquares(previousMove)];
+        int colourOffset = board.getSideToMove().ordinal() * numberOfSquares * numberOfSquares;
+
+        for (int i = 0; i < numberOfMoves; i++) {
+            int move = moves[i];
+            if (move == tableMove) {
+                nodeScores[i] = tableMoveScore;
+            } else if (!MoveOrderer.isQuiet(move)) {
+                nodeScores[i] = captureScore + MoveOrderer.getCaptureScore(board, move);
+            } else if (move == nodeKillers[0]) {
+                nodeScores[i] = firstKillerScore;
+            } else if (move == nodeKillers[1]) {
+                nodeScores[i] = secondKillerScore;
+            } else if (move == counterMove) {
+                nodeScores[i] = counterMoveScore;
+            } else {
+                nodeScores[i] = this.history[colourOffset + MoveOrderer.getSquares(move)];
+            }
+        }
+    }
+
+    /**
+     * Scores the captures and promotions of a node of the quiescence search by MVV-LVA. 
+     * 
+     * @param board The BitboardBoardModel the moves are made on. 
+     * @param moves The captures of the node. 
+     * @param numberOfMoves The number of captures of the node. 
+     * @param ply The ply of the node. 
+     */
+    public void scoreCaptures(BitboardBoardModel board, int[] moves, int numberOfMoves, int ply) {
+        int[] nodeScores = this.scores[ply];
+        for (int i = 0; i < numberOfMoves; i++) {
+            nodeScores[i] = MoveOrderer.getCaptureScore(board, moves[i]);
+        }
+    }
+
+    /**
+     * Finds the move with the highest score among the moves of a node from the provided index and swaps it, 
+     * along with its score, with the move at that index. Calling it for every index in order returns the 
+     * moves from the highest to the lowest score. 
+     * 
+     * @param moves The moves of the node, scored by scoreMoves or scoreCaptures. 
+     * @param numberOfMoves The number of moves of the node. 
+     * @param index The index of the next move to search. 
+     * @param ply The ply of the node. 
+     * @return The move to search. 
+     */
+    public int selectMove(int[] moves, int numberOfMoves, int index, int ply) {
+        int[] nodeScores = this.scores[ply];
+        int bestIndex = index;
+
+        for (int i = index + 1; i < numberOfMoves; i++) {
+            if (nodeScores[i] > nodeScores[bestIndex]) {
+                bestIndex = i;
+            }
+        }
+
+        int move = moves[bestIndex];
+        moves[bestIndex] = moves[index];
+        moves[index] = move;
+        int score = nodeScores[bestIndex];
+        nodeScores[bestIndex] = nodeScores[index];
+        nodeScores[index] = score;
+        return move;
+    }
+
+    /**
+     * Updates the tables after a quiet move caused a cutoff: the move becomes the first killer of the ply 
+     * and the counter move of the previous move, its history score grows and the history score of the 
+     * quiet moves searched before it shrinks. 
+     * 
+     * @param colour The Colour of the player making the move. 
+     * @param move The quiet move that caused the cutoff. 
+     * @param ply The ply of the node. 
+     * @param depth The remaining depth of the node. 
+     * @param searchedQuietMoves The quiet moves searched before the move. 
+     * @param numberOfSearchedQuietMoves The number of quiet moves searched before the move. 
+     * @param previousMove The move that led to the node or PackedMove.noMove. 
+     */
+    public void updateCutoff(Colour colour, int move, int ply, int depth, int[] searchedQuietMoves, int numberOfSearchedQuietMoves, int previousMove) {
+        int[] nodeKillers = this.killers[ply];
+        if (nodeKillers[0] != move) {
+            nodeKillers[1] = nodeKillers[0];
+            nodeKillers[0] = move;
+        }
+        if (previousMove != PackedMove.noMove) {
+            this.counterMoves[MoveOrderer.getSquares(previousMove)] = move;
+        }
+
+        int colourOffset = colour.ordinal() * numberOfSquares * numberOfSquares;
+        int bonus = Math.min(depth * depth * 8, maxHistoryBonus);
+        this.updateHistory(colourOffset + MoveOrderer.getSquares(move), bonus);
+        for (int i = 0; i < numberOfSearchedQuietMoves; i++) {
+            this.updateHistory(colourOffset + MoveOrderer.getSquares(searchedQuietMoves[i]), -bonus);
+        }
+    }
+
+    /**
+     * Forgets the killer moves, the counter moves and the history scores. 
+     */
+    public void clear() {
+        for (int[] nodeKillers : this.killers) {
+            Arrays.fill(nodeKillers, PackedMove.noMove);
+        }
+        Arrays.fill(this.history, 0);
+        Arrays.fill(this.counterMoves, PackedMove.noMove);
+    }
+
+    /**
+     * @param move The packed move. 
+     * @return True if the move neither takes a piece nor promotes a pawn. 
+     */
+    public static boolean isQuiet(int move) {
+        return !PackedMove.isCapture(move) && !PackedMove.isPromotion(move);
+    }
+
+    /**
+     * Scores a capture by the value of the piece taken first and the value of the piece taking it second 
+     * (MVV-LVA). A promotion adds the value of a queen to the piece taken. 
+     * 
+     * @param board The BitboardBoardModel the capture is made on. 
+     * @param move The capture or promotion. 
+     * @return The score of the capture, the highest being searched first. 
+     */
+    public static int getCaptureScore(BitboardBoardModel board, int move) {
+        int to = PackedMove.getTo(move);
+        int victim = 0;
+        if (PackedMove.getFlags(move) == PackedMove.enPassant) {
+            victim = MaterialEvaluator.getPieceValue(PieceName.PAWN);
+        } else if (board.getPieceCode(to) != BitboardBoardModel.noPiece) {
+            victim = MaterialEvaluator.getPieceValue(board.getPieceCode(to) % BitboardBoardModel.numberOfPieceTypes);
+        }
+        if (PackedMove.isPromotion(move)) {
+            victim += MaterialEvaluator.getPieceValue(PackedMove.getPromotion(move));
+        }
+
+        int attacker = MaterialEvaluator.getPieceValue(board.getPieceCode(PackedMove.getFrom(move)) % BitboardBoardModel.numberOfPieceTypes);
+        return victim * 16 - attacker;
+    }
+
+    /**
+     * Moves a history score toward the maximum, or the minimum for a negative bonus, by an amount that 
+     * shrinks as the score gets closer to it, which keeps the scores between -maxHistory and maxHistory. 
+     * 
+     * @param index The index of the score in the history table. 
+     * @param bonus The amount to add to the score. 
+     */
+    private void updateHistory(int index, int bonus) {
+        this.history[index] += bonus - this.history[index] * Math.abs(bonus) / maxHistory;
+    }
+
+    /**
+     * @param move The packed move. 
+     * @return The index of the pair of squares of the move, the first twelve bits of the move. 
+     */
+    private static int getSquares(int move) {
+        return move & (numberOfSquares * numberOfSquares - 1);
+    }
+}
@@ -0,0 +1,194 @@
+package ChessGameJava.Engine;
+
+import ChessGameJava.Logic.BitboardBoardModel;
+import ChessGameJava.Logic.Colour;
+import ChessGameJava.Logic.PieceListener;
+
+/**
+ * Evaluator using an efficiently updatable neural network (NNUE), see NnueNetwork. The evaluator keeps the 
+ * hidden layer of the network, the accumulator, for both players. Adding a piece to the position adds the 
+ * weights of its feature to the accumulators and removing it subtracts them, so a move only costs a few 
+ * additions of hiddenSize shorts instead of running the whole first layer again. 
+ * 
+ * To follow the moves, the evaluator is attached to a board as the PieceListener of its BoardState. The 
+ * ChessABSMove (BasicMove, Castle, EnPassant, ...) and the native moves of a BitboardBoardModel all notify 
+ * the listener of the pieces they remove and add, when they are executed as well as when they are reverted. 
+ * 
+ * The loops over the neurons work on plain arrays of shorts without any branch, which lets the JIT compiler 
+ * vectorize them with the SIMD instructions of the CPU. 
+ * 
+ * An evaluator is attached to one board at a time and is not thread safe: every thread needs its own, the 
+ * NnueNetwork being shared. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public class NnueEvaluator implements Evaluator, PieceListener {
+    private final static int numberOfSquares = 64;
+    private final static int[] whiteFeatures = new int[2 * BitboardBoardModel.numberOfPieceTypes * numberOfSquares];
+    private final static int[] blackFeatures = new int[2 * BitboardBoardModel.numberOfPieceTypes * numberOfSquares];
+
+    static {
+        for (int code = 0; code < 2 * BitboardBoardModel.numberOfPieceTypes; code++) {
+            int colour = code / BitboardBoardModel.numberOfPieceTypes;
+            int type = code % BitboardBoardModel.numberOfPieceTypes;
+            int whiteRelative = colour == Colour.WHITE.ordinal() ? type : BitboardBoardModel.numberOfPieceTypes + type;
+            int blackRelative = colour == Colour.BLACK.ordinal() ? type : BitboardBoardModel.numberOfPieceTypes + type;
+
+            for (int index = 0; index < numberOfSquares; index++) {
+                whiteFeatures[code * numberOfSquares + index] = whiteRelative * numberOfSquares + index;
+                blackFeatures[code * numberOfSquares + index] = blackRelative * numberOfSquares + (index ^ 56);
+            }
+        }
+    }
+
+    private final NnueNetwork network;
+    private final int hiddenSize;
+    private final short[] whiteAccumulator;
+    private final short[] blackAccumulator;
+    private BitboardBoardModel board = null;
+
+    /**
+     * Constructor of the NnueEvaluator class. 
+     * 
+     * @param network The NnueNetwork evaluating the positions. 
+     */
+    public NnueEvaluator(NnueNetwork network) {
+        this.network = network;
+        this.hiddenSize = network.getHiddenSize();
+        this.whiteAccumulator = new short[this.hiddenSize];
+        this.blackAccumulator = new short[this.hiddenSize];
+    }
+
+    /**
+     * Attaches the evaluator to a board, detaching it from the previous one, and computes its accumulators 
+     * from the pieces of the board. 
+     * 
+     * @param board The BitboardBoardModel that will be evaluated. 
+     */
+    @Override
+    public void attach(BitboardBoardModel board) {
+        if (this.board != null) {
+            this.detach(this.board);
+        }
+        this.board = board;
+        board.getBoardState().setPieceListener(this);
+        this.refresh();
+    }
+
+    /**
+     * Detaches the evaluator from the board it is attached to. 
+     * 
+     * @param board The BitboardBoardModel the evaluator is attached to. 
+     */
+    @Override
+    public void detach(BitboardBoardModel board) {
+        if (this.board == board) {
+            board.getBoardState().setPieceListener(null);
+            this.board = null;
+        }
+    }
+
+    /**
+     * Evaluates the current position of a board with the network. If the evaluator is not attached to the 
+     * board, it is attached to it first. 
+     * 
+     * @param board The BitboardBoardModel to evaluate. 
+     * @return The score of the position in centipawns from the point of view of the side to move. 
+     */
+    @Override
+    public int evaluate(BitboardBoardModel board) {
+        if (this.board != board) {
+            this.attach(board);
+        }
+
+        boolean isWhite = board.getSideToMove() == Colour.WHITE;
+        short[] outputWeights = this.network.getOutputWeights();
+        int sum = NnueEvaluator.activate(isWhite ? this.whiteAccumulator : this.blackAccumulator, outputWeights, 0, this.hiddenSize)
+                + NnueEvaluator.activate(isWhite ? this.blackAccumulator : this.whiteAccumulator, outputWeights, this.hiddenSize, this.hiddenSize);
+
+        return (sum / NnueNetwork.quantizationA + this.network.getOutputBias()) * NnueNetwork.outputScale / NnueNetwork.quantizationB;
+    }
+
+    /**
+     * Adds the feature of the piece to the accumulators of both players. 
+     */
+    @Override
+    public void onPieceAdded(int code, int index) {
+        short[] weights = this.network.getFeatureWeights();
+        NnueEvaluator.add(this.whiteAccumulator, weights, whiteFeatures[code * numberOfSquares + index] * this.hiddenSize, this.hiddenSize);
+        NnueEvaluator.add(this.blackAccumulator, weights, blackFeatures[code * numberOfSquares + index] * this.hiddenSize, this.hiddenSize);
+    }
+
+    /**
+     * Subtracts the feature of the piece from the accumulators of both players. 
+     */
+    @Override
+    public void onPieceRemoved(int code, int index) {
+        short[] weights = this.network.getFeatureWeights();
+        NnueEvaluator.subtract(this.whiteAccumulator, weights, whiteFeatures[code * numberOfSquares + index] * this.hiddenSize, this.hiddenSize);
+        NnueEvaluator.subtract(this.blackAccumulator, weights, blackFeatures[code * numberOfSquares + index] * this.hiddenSize, this.hiddenSize);
+    }
+
+    /**
+     * Computes the accumulators of both players from scratch with the pieces of the board the evaluator 
+     * is attached to. 
+     */
+    public void refresh() {
+        System.arraycopy(this.network.getFeatureBiases(), 0, this.whiteAccumulator, 0, this.hiddenSize);
+        System.arraycopy(this.network.getFeatureBiases(), 0, this.blackAccumulator, 0, this.hiddenSize);
+
+        for (int index = 0; index < numberOfSquares; index++) {
+            int code = this.board.getPieceCode(index);
+            if (code != BitboardBoardModel.noPiece) {
+                this.onPieceAdded(code, index);
+            }
+        }
+    }
+
+    /**
+     * Adds the weights of a feature to an accumulator. 
+     * 
+     * @param accumulator The accumulator. 
+     * @param weights The weights of the hidden layer. 
+     * @param offset The index of the first weight of the feature. 
+     * @param length The number of neurons of the accumulator. 
+     */
+    private static void add(short[] accumulator, short[] weights, int offset, int length) {
+        for (int i = 0; i < length; i++) {
+            accumulator[i] += weights[offset + i];
+        }
+    }
+
+    /**
+     * Subtracts the weights of a feature from an accumulator. 
+     * 
+     * @param accumulator The accumulator. 
+     * @param weights The weights of the hidden layer. 
+     * @param offset The index of the first weight of the feature. 
+     * @param length The number of neurons of the accumulator. 
+     */
+    private static void subtract(short[] accumulator, short[] weights, int offset, int length) {
+        for (int i = 0; i < length; i++) {
+            accumulator[i] -= weights[offset + i];
+        }
+    }
+
+    /**
+     * Clips the neurons of an accumulator between 0 and quantizationA and sums them weighted by the 
+     * output weights. 
+     * 
+     * @param accumulator The accumulator. 
+     * @param outputWeights The weights of the output layer. 
+     * @param offset The index of the first output weight of the accumulator. 
+     * @param length The number of neurons of the accumulator. 
+     * @return The weighted sum. 
+     */
+    private static int activate(short[] accumulator, short[] outputWeights, int offset, int length) {
+        int sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += Math.min(Math.max(accumulator[i], 0), NnueNetwork.quantizationA) * outputWeights[offset + i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,182 @@
+package ChessGameJava.Engine;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Class holding the quantized weights of an efficiently updatable neural network (NNUE) evaluating a 
+ * position, see NnueEvaluator for how it is used. The network has a single hidden layer seen from the 
+ * point of view of both players: 
+ * 
+ * - the input layer has one feature per type of piece, colour relative to the player and square seen by 
+ *   the player, numberOfFeatures in total, 
+ * - the hidden layer, or accumulator, has hiddenSize neurons per player sharing the same weights, 
+ * - the output layer takes the accumulators of the side to move and of its opponent, clipped between 0 
+ *   and quantizationA, and returns the score of the position. 
+ * 
+ * The weights of the hidden layer are quantized by quantizationA and the ones of the output layer, bias 
+ * included, by quantizationB, every weight being stored as a signed 16 bits integer. The output is multiplied 
+ * by outputScale to get a score in centipawns. 
+ * 
+ * A network is loaded from a binary file in little-endian order containing, one after the other: the int 
+ * fileMagic, the int hiddenSize, the numberOfFeatures * hiddenSize shorts of the feature weights (the weights 
+ * of a feature being contiguous), the hiddenSize shorts of the biases of the hidden layer, the 2 * hiddenSize 
+ * shorts of the output weights (side to move first) and the short of the output bias. 
+ * 
+ * A network is never modified once created and can be shared by the evaluators of every thread. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public class NnueNetwork {
+    public final static int numberOfFeatures = 2 * 6 * 64;
+    public final static int quantizationA = 255;
+    public final static int quantizationB = 64;
+    public final static int outputScale = 400;
+    public final static int fileMagic = 0x45554E4E;
+
+    private final int hiddenSize;
+    private final short[] featureWeights;
+    private final short[] featureBiases;
+    private final short[] outputWeights;
+    private final short outputBias;
+
+    /**
+     * Constructor of the NnueNetwork class. 
+     * 
+     * @param hiddenSize The number of neurons of the hidden layer of a player. 
+     * @param featureWeights The numberOfFeatures * hiddenSize weights of the hidden layer. 
+     * @param featureBiases The hiddenSize biases of the hidden layer. 
+     * @param outputWeights The 2 * hiddenSize weights of the output layer. 
+     * @param outputBias The bias of the output layer. 
+     */
+    public NnueNetwork(int hiddenSize, short[] featureWeights, short[] featureBiases, short[] outputWeights, short outputBias) {
+        if (hiddenSize < 1 || featureWeights.length != numberOfFeatures * hiddenSize || featureBiases.length != hiddenSize
+                || outputWeights.length != 2 * hiddenSize) {
+            throw new RuntimeException("The weights of the network do not match its hidden size");
+        }
+        this.hiddenSize = hiddenSize;
+        this.featureWeights = featureWeights;
+        this.featureBiases = featureBiases;
+        this.outputWeights = outputWeights;
+        this.outputBias = outputBias;
+    }
+
+    /**
+     * Loads a network from a binary file, see the description of the class for its format. If the file 
+     * cannot be read or is not a valid network, it throws a RuntimeException. 
+     * 
+     * @param path The Path of the file. 
+     * @return The NnueNetwork of the file. 
+     */
+    public static NnueNetwork load(Path path) {
+        ByteBuffer buffer;
+        try {
+            buffer = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.LITTLE_ENDIAN);
+        } catch (IOException exception) {
+            throw new RuntimeException(String.format("Cannot read the network file %s", path), exception);
+        }
+
+        if (buffer.remaining() < 2 * Integer.BYTES || buffer.getInt() != fileMagic) {
+            throw new RuntimeException(String.format("The file %s is not a network file", path));
+        }
+        int hiddenSize = buffer.getInt();
+        if (hiddenSize < 1 || buffer.remaining() != ((numberOfFeatures + 3) * (long) hiddenSize + 1) * Short.BYTES) {
+            throw new RuntimeException(String.format("The size of the network file %s does not match its hidden size", path));
+        }
+
+        short[] featureWeights = NnueNetwork.readShorts(buffer, numberOfFeatures * hiddenSize);
+        short[] featureBiases = NnueNetwork.readShorts(buffer, hiddenSize);
+        short[] outputWeights = NnueNetwork.readShorts(buffer, 2 * hiddenSize);
+        return new NnueNetwork(hiddenSize, featureWeights, featureBiases, outputWeights, buffer.getShort());
+    }
+
+    /**
+     * Writes the network in a binary file, see the description of the class for its format. If the file 
+     * cannot be written, it throws a RuntimeException. 
+     * 
+     * @param path The Path of the file. 
+     */
+    public void save(Path path) {
+        ByteBuffer buffer = ByteBuffer.allocate(2 * Integer.BYTES + ((numberOfFeatures + 3) * this.hiddenSize + 1) * Short.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(fileMagic).putInt(this.hiddenSize);
+        buffer.asShortBuffer().put(this.featureWeights).put(this.featureBiases).put(this.outputWeights).put(this.outputBias);
+
+        try {
+            Files.write(path, buffer.array());
+        } catch (IOException exception) {
+            throw new RuntimeException(String.format("Cannot write the network file %s", path), exception);
+        }
+    }
+
+    /**
+     * Creates a network with random weights. It does not evaluate anything meaningful, it is meant for 
+     * the benchmarks and to try the evaluator when no trained network is available. 
+     * 
+     * @param hiddenSize The number of neurons of the hidden layer of a player. 
+     * @param seed The seed of the random weights. 
+     * @return The random NnueNetwork. 
+     */
+    public static NnueNetwork createRandom(int hiddenSize, long seed) {
+        Random random = new Random(seed);
+        short[] featureWeights = new short[numberOfFeatures * hiddenSize];
+        short[] featureBiases = new short[hiddenSize];
+        short[] outputWeights = new short[2 * hiddenSize];
+
+        for (int i = 0; i < featureWeights.length; i++) {
+            featureWeights[i] = (short) (random.nextInt(65) - 32);
+        }
+        for (int i = 0; i < featureBiases.length; i++) {
+            featureBiases[i] = (short) random.nextInt(quantizationA / 2);
+        }
+        for (int i = 0; i < outputWeights.length; i++) {
+            outputWeights[i] = (short) (random.nextInt(2 * quantizationB + 1) - quantizationB);
+        }
+
+        return new NnueNetwork(hiddenSize, featureWeights, featureBiases, outputWeights, (short) 0);
+    }
+
+    /**
+     * @return The number of neurons of the hidden layer of a player. 
+     */
+    public int getHiddenSize() { return this.hiddenSize; }
+
+    /**
+     * @return The weights of the hidden layer, the hiddenSize weights of a feature being contiguous. 
+     */
+    public short[] getFeatureWeights() { return this.featureWeights; }
+
+    /**
+     * @return The biases of the hidden layer. 
+     */
+    public short[] getFeatureBiases() { return this.featureBiases; }
+
+    /**
+     * @return The weights of the output layer, the ones of the side to move first. 
+     */
+    public short[] getOutputWeights() { return this.outputWeights; }
+
+    /**
+     * @return The bias of the output layer. 
+     */
+    public short getOutputBias() { return this.outputBias; }
+
+    /**
+     * Reads shorts from a buffer. 
+     * 
+     * @param buffer The ByteBuffer to read. 
+     * @param length The number of shorts to read. 
+     * @return The shorts read. 
+     */
+    private static short[] readShorts(ByteBuffer buffer, int length) {
+        short[] values = new short[length];
+        buffer.asShortBuffer().get(values);
+        buffer.position(buffer.position() + length * Short.BYTES);
+        return values;
+    }
+}
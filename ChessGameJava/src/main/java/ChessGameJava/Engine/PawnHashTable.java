@@ -0,0 +1,118 @@
+package ChessGameJava.Engine;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+import ChessGameJava.Logic.BitboardBoardModel;
+
+/**
+ * Class caching the evaluation of the pawn structures, see PawnStructureHelper, by the pawn key of their 
+ * position (see BoardState.getPawnKey). The pawns rarely move compared to the other pieces, so most of 
+ * the positions evaluated during a search share their pawn structure with a position already evaluated. 
+ * 
+ * Like the TranspositionTable, the table is a single array of longs in which every entry takes two longs: 
+ * the entry of the pawn structure and the pawn key combined with it by an exclusive or. Several threads 
+ * can share the table without any lock, an entry written by two threads at once being seen as missing. 
+ * Every pawn structure has a single place in the table and replaces the one stored there. An empty place 
+ * only matches the pawn key of a position without pawns, whose entry is 0 as well. 
+ * 
+ * The table counts its probes and the ones finding the pawn structure (its hits), which gives its hit rate. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public class PawnHashTable {
+    private final static int bytesPerEntry = 2 * Long.BYTES;
+
+    private final long[] table;
+    private final long indexMask;
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * Constructor of a PawnHashTable. The number of entries is the largest power of two fitting in the 
+     * provided size. If the size is lower than one megabyte, it throws a RuntimeException. 
+     * 
+     * @param sizeInMegabytes The size of the table in megabytes. 
+     */
+    public PawnHashTable(int sizeInMegabytes) {
+        if (sizeInMegabytes < 1) {
+            throw new RuntimeException("The size of the pawn hash table must be at least 1 megabyte");
+        }
+
+        long numberOfEntries = Long.highestOneBit((long) sizeInMegabytes * 1024 * 1024 / bytesPerEntry);
+        numberOfEntries = Math.min(numberOfEntries, Integer.highestOneBit(Integer.MAX_VALUE) / 2);
+
+        this.table = new long[(int) numberOfEntries * 2];
+        this.indexMask = numberOfEntries - 1;
+    }
+
+    /**
+     * Returns the entry of the pawn structure of a board, evaluating it with PawnStructureHelper and storing 
+     * it if it is not in the table. 
+     * 
+     * @param board The BitboardBoardModel we want the pawn structure of. 
+     * @return The entry of the pawn structure, see PawnStructureHelper. 
+     */
+    public long probe(BitboardBoardModel board) {
+        long key = board.getBoardState().getPawnKey();
+        int index = (int) (key & this.indexMask) * 2;
+        long entry = this.table[index + 1];
+
+        this.probes.increment();
+        if ((this.table[index] ^ entry) == key) {
+            this.hits.increment();
+            return entry;
+        }
+
+        entry = PawnStructureHelper.computeEntry(board);
+        this.table[index] = key ^ entry;
+        this.table[index + 1] = entry;
+        return entry;
+    }
+
+    /**
+     * Removes every entry of the table and resets its statistics. 
+     */
+    public void clear() {
+        Arrays.fill(this.table, 0L);
+        this.resetStatistics();
+    }
+
+    /**
+     * Resets the number of probes and hits of the table. 
+     */
+    public void resetStatistics() {
+        this.probes.reset();
+        this.hits.reset();
+    }
+
+    /**
+     * @return The number of probes of the table since its statistics were reset. 
+     */
+    public long getProbes() {
+        return this.probes.sum();
+    }
+
+    /**
+     * @return The number of probes that found the pawn structure in the table since its statistics were reset. 
+     */
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * @return The proportion of the probes that found the pawn structure, between 0 and 1, or 0 if there was no probe. 
+     */
+    public double getHitRate() {
+        long probes = this.getProbes();
+        return probes == 0 ? 0.0 : (double) this.getHits() / probes;
+    }
+
+    /**
+     * @return The number of entries of the table. 
+     */
+    public int getNumberOfEntries() {
+        return this.table.length / 2;
+    }
+}
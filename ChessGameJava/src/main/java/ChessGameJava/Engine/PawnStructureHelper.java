@@ -0,0 +1,171 @@
+package ChessGameJava.Engine;
+
+import ChessGameJava.Logic.BitboardBoardModel;
+import ChessGameJava.Logic.Colour;
+import ChessGameJava.Utility.PieceName;
+
+/**
+ * A class that acts as a helper to evaluate the pawn structure of a position. The evaluation only depends 
+ * on the pawns of the position, which is why it can be cached by the PawnHashTable using the pawn key of 
+ * the position. It gives: 
+ * 
+ * - a bonus to the passed pawns, growing as they advance, a pawn is passed when no pawn of the opponent 
+ *   can stop it or take it on its way to promotion and no pawn of its own colour stands in front of it, 
+ * - a penalty to the isolated pawns, the pawns without any pawn of their colour on the adjacent columns, 
+ * - a penalty to the doubled pawns, for every pawn beyond the first of a colour on a column, 
+ * 
+ * along with the pawn shield masks of both players: the pawns standing on the two rows in front of the 
+ * first row of their player, which protect a castled king. 
+ * 
+ * The result is packed in a long, the entry of the pawn structure: 
+ * 
+ * - bits 0 to 15: the middlegame score of the structure, as a signed 16 bits number, positive when white is ahead, 
+ * - bits 16 to 31: the endgame score of the structure, as a signed 16 bits number, 
+ * - bits 32 to 47: the pawn shield mask of white, 
+ * - bits 48 to 63: the pawn shield mask of black. 
+ * 
+ * In a pawn shield mask, the bit of a column is set in the low byte if a pawn stands on the row right in 
+ * front of the first row of the player and in the high byte if it stands on the following row. A position 
+ * without pawns has an entry of 0. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public abstract class PawnStructureHelper {
+    private final static int numberOfRows = 8;
+    private final static int[] passedMidgameBonus = { 0, 5, 10, 15, 25, 45, 70, 0 };
+    private final static int[] passedEndgameBonus = { 0, 10, 15, 25, 45, 75, 120, 0 };
+    private final static int isolatedMidgamePenalty = 10;
+    private final static int isolatedEndgamePenalty = 15;
+    private final static int doubledMidgamePenalty = 10;
+    private final static int doubledEndgamePenalty = 25;
+
+    private final static long[] columnMasks = new long[numberOfRows];
+    private final static long[] adjacentColumnMasks = new long[numberOfRows];
+    private final static long[][] frontMasks = new long[2][numberOfRows * numberOfRows];
+    private final static long[][] passedMasks = new long[2][numberOfRows * numberOfRows];
+
+    static {
+        for (int column = 0; column < numberOfRows; column++) {
+            columnMasks[column] = 0x0101010101010101L << column;
+        }
+        for (int column = 0; column < numberOfRows; column++) {
+            adjacentColumnMasks[column] = (column > 0 ? columnMasks[column - 1] : 0L) | (column < numberOfRows - 1 ? columnMasks[column + 1] : 0L);
+        }
+
+        for (int index = 0; index < numberOfRows * numberOfRows; index++) {
+            int column = index % numberOfRows;
+            int row = index / numberOfRows;
+
+            for (int other = 0; other < numberOfRows * numberOfRows; other++) {
+                int otherColumn = other % numberOfRows;
+                int otherRow = other / numberOfRows;
+                if (Math.abs(otherColumn - column) > 1) {
+                    continue;
+                }
+
+                int colour = otherRow < row ? Colour.WHITE.ordinal() : otherRow > row ? Colour.BLACK.ordinal() : -1;
+                if (colour != -1) {
+                    passedMasks[colour][index] |= 1L << other;
+                    if (otherColumn == column) {
+                        frontMasks[colour][index] |= 1L << other;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Evaluates the pawn structure of the position of a board. 
+     * 
+     * @param board The BitboardBoardModel to evaluate. 
+     * @return The entry of the pawn structure, see the description of the class. 
+     */
+    public static long computeEntry(BitboardBoardModel board) {
+        long whitePawns = board.getPieceBitboard(PieceName.PAWN, Colour.WHITE);
+        long blackPawns = board.getPieceBitboard(PieceName.PAWN, Colour.BLACK);
+        int midgameScore = 0;
+        int endgameScore = 0;
+
+        for (Colour colour : new Colour[] { Colour.WHITE, Colour.BLACK }) {
+            boolean isWhite = colour == Colour.WHITE;
+            long ownPawns = isWhite ? whitePawns : blackPawns;
+            long enemyPawns = isWhite ? blackPawns : whitePawns;
+            int sign = isWhite ? 1 : -1;
+
+            for (long pawns = ownPawns; pawns != 0; pawns &= pawns - 1) {
+                int index = Long.numberOfTrailingZeros(pawns);
+                int column = index % numberOfRows;
+
+                if ((ownPawns & adjacentColumnMasks[column]) == 0) {
+                    midgameScore -= sign * isolatedMidgamePenalty;
+                    endgameScore -= sign * isolatedEndgamePenalty;
+                }
+                if ((enemyPawns & passedMasks[colour.ordinal()][index]) == 0 && (ownPawns & frontMasks[colour.ordinal()][index]) == 0) {
+                    int rank = isWhite ? numberOfRows - 1 - index / numberOfRows : index / numberOfRows;
+                    midgameScore += sign * passedMidgameBonus[rank];
+                    endgameScore += sign * passedEndgameBonus[rank];
+                }
+            }
+
+            for (int column = 0; column < numberOfRows; column++) {
+                int count = Long.bitCount(ownPawns & columnMasks[column]);
+                if (count > 1) {
+                    midgameScore -= sign * doubledMidgamePenalty * (count - 1);
+                    endgameScore -= sign * doubledEndgamePenalty * (count - 1);
+                }
+            }
+        }
+
+        long whiteShield = ((whitePawns >>> 48) & 0xFF) | (((whitePawns >>> 40) & 0xFF) << 8);
+        long blackShield = ((blackPawns >>> 8) & 0xFF) | (((blackPawns >>> 16) & 0xFF) << 8);
+
+        return (midgameScore & 0xFFFFL) | ((endgameScore & 0xFFFFL) << 16) | (whiteShield << 32) | (blackShield << 48);
+    }
+
+    /**
+     * @param entry The entry of a pawn structure. 
+     * @return The middlegame score of the structure, positive when white is ahead. 
+     */
+    public static int getMidgameScore(long entry) {
+        return (short) entry;
+    }
+
+    /**
+     * @param entry The entry of a pawn structure. 
+     * @return The endgame score of the structure, positive when white is ahead. 
+     */
+    public static int getEndgameScore(long entry) {
+        return (short) (entry >>> 16);
+    }
+
+    /**
+     * @param entry The entry of a pawn structure. 
+     * @param colour The Colour of the player, cannot be Colour.NULL. 
+     * @return The pawn shield mask of the player, see the description of the class. 
+     */
+    public static int getShieldMask(long entry, Colour colour) {
+        return (int) (entry >>> (colour == Colour.WHITE ? 32 : 48)) & 0xFFFF;
+    }
+
+    /**
+     * Counts the pawns sheltering a king on its first row, on its column and the adjacent ones. A pawn right 
+     * in front of the first row counts for 2 and a pawn on the following row for 1. 
+     * 
+     * @param entry The entry of a pawn structure. 
+     * @param colour The Colour of the king, cannot be Colour.NULL. 
+     * @param kingIndex The index of the square of the king. 
+     * @return The shield score of the king, 0 if it is not on its first row. 
+     */
+    public static int getShieldScore(long entry, Colour colour, int kingIndex) {
+        int firstRow = colour == Colour.WHITE ? numberOfRows - 1 : 0;
+        if (kingIndex / numberOfRows != firstRow) {
+            return 0;
+        }
+
+        int column = kingIndex % numberOfRows;
+        int columns = (0x7 << column >>> 1) & 0xFF;
+        int mask = PawnStructureHelper.getShieldMask(entry, colour);
+        return 2 * Integer.bitCount(mask & columns) + Integer.bitCount((mask >>> 8) & columns);
+    }
+}
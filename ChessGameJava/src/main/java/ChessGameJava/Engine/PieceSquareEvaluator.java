@@ -0,0 +1,33 @@
+package ChessGameJava.Engine;
+
+import ChessGameJava.Logic.BitboardBoardModel;
+import ChessGameJava.Logic.BoardState;
+import ChessGameJava.Logic.Colour;
+import ChessGameJava.Utility.PieceSquareTableHelper;
+
+/**
+ * Evaluator using the material and the piece-square tables of PieceSquareTableHelper. The middlegame and 
+ * endgame scores are blended according to the phase of the game (a tapered evaluation), so the pieces 
+ * move toward their endgame squares as the material comes off the board. 
+ * 
+ * The scores are kept up to date by the BoardState of the board every time a piece is added or removed, 
+ * the evaluation therefore costs the same whatever the number of pieces on the board. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public class PieceSquareEvaluator implements Evaluator {
+
+    /**
+     * Evaluates the current position of a board with the scores of its BoardState. 
+     * 
+     * @param board The BitboardBoardModel to evaluate. 
+     * @return The tapered score of the position from the point of view of the side to move. 
+     */
+    @Override
+    public int evaluate(BitboardBoardModel board) {
+        BoardState state = board.getBoardState();
+        int score = PieceSquareTableHelper.taper(state.getMidgameScore(), state.getEndgameScore(), state.getPhase());
+        return board.getSideToMove() == Colour.WHITE ? score : -score;
+    }
+}
@@ -0,0 +1,58 @@
+package ChessGameJava.Engine;
+
+import ChessGameJava.Logic.BitboardBoardModel;
+import ChessGameJava.Logic.BoardState;
+import ChessGameJava.Logic.Colour;
+import ChessGameJava.Utility.PieceName;
+import ChessGameJava.Utility.PieceSquareTableHelper;
+
+/**
+ * Evaluator adding the pawn structure to the piece-square tables of the PieceSquareEvaluator: the passed, 
+ * isolated and doubled pawns and the pawn shield of the kings still on their first row, see 
+ * PawnStructureHelper. The pawn structure is read from a PawnHashTable, which can be shared by the 
+ * evaluators of every thread, and only evaluated when it is not found in the table. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public class PositionalEvaluator implements Evaluator {
+    private final static int shieldBonus = 6;
+
+    private final PawnHashTable pawnTable;
+
+    /**
+     * Constructor of the PositionalEvaluator class. 
+     * 
+     * @param pawnTable The PawnHashTable caching the pawn structures. 
+     */
+    public PositionalEvaluator(PawnHashTable pawnTable) {
+        this.pawnTable = pawnTable;
+    }
+
+    /**
+     * Evaluates the current position of a board with the scores of its BoardState and its pawn structure. 
+     * 
+     * @param board The BitboardBoardModel to evaluate. 
+     * @return The tapered score of the position from the point of view of the side to move. 
+     */
+    @Override
+    public int evaluate(BitboardBoardModel board) {
+        BoardState state = board.getBoardState();
+        long entry = this.pawnTable.probe(board);
+
+        int whiteShield = PawnStructureHelper.getShieldScore(entry, Colour.WHITE, Long.numberOfTrailingZeros(board.getPieceBitboard(PieceName.KING, Colour.WHITE)));
+        int blackShield = PawnStructureHelper.getShieldScore(entry, Colour.BLACK, Long.numberOfTrailingZeros(board.getPieceBitboard(PieceName.KING, Colour.BLACK)));
+        int midgameScore = state.getMidgameScore() + PawnStructureHelper.getMidgameScore(entry) + shieldBonus * (whiteShield - blackShield);
+        int endgameScore = state.getEndgameScore() + PawnStructureHelper.getEndgameScore(entry);
+
+        int score = PieceSquareTableHelper.taper(midgameScore, endgameScore, state.getPhase());
+        return board.getSideToMove() == Colour.WHITE ? score : -score;
+    }
+
+    /**
+     * @return The PawnHashTable caching the pawn structures. 
+     */
+    public PawnHashTable getPawnTable() {
+        return this.pawnTable;
+    }
+}
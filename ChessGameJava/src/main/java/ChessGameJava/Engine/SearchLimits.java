@@ -0,0 +1,169 @@
+package ChessGameJava.Engine;
+
+/**
+ * Class holding the limits of a search. The search stops as soon as one of them is reached: the depth 
+ * of the last iteration, the number of nodes visited or the time spent. A limit that is not set does 
+ * not stop the search, a search without any limit runs until Engine.stop is called or the maximum 
+ * depth is reached. 
+ * 
+ * The time can also be given as the clock of the side to move: its remaining time, its increment and 
+ * the number of moves before the next time control. A TimeManager then decides how long the search 
+ * lasts. A ponder search ignores the time until Engine.ponderHit is called, see Searcher.ponderHit. 
+ * 
+ * The limits also hold the number of best moves the search returns, see setMultiPv. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public class SearchLimits {
+    public final static int noLimit = -1;
+
+    private int depth = noLimit;
+    private long nodes = noLimit;
+    private long moveTime = noLimit;
+    private long time = noLimit;
+    private long increment = 0;
+    private int movesToGo = noLimit;
+    private boolean ponder = false;
+    private int multiPv = 1;
+
+    /**
+     * Constructor of SearchLimits without any limit. 
+     */
+    public SearchLimits() {
+    }
+
+    /**
+     * Constructor of SearchLimits that copies the provided ones. 
+     * 
+     * @param source The SearchLimits to copy. 
+     */
+    public SearchLimits(SearchLimits source) {
+        this.depth = source.depth;
+        this.nodes = source.nodes;
+        this.moveTime = source.moveTime;
+        this.time = source.time;
+        this.increment = source.increment;
+        this.movesToGo = source.movesToGo;
+        this.ponder = source.ponder;
+        this.multiPv = source.multiPv;
+    }
+
+    /**
+     * @return The depth of the last iteration of the search or noLimit. 
+     */
+    public int getDepth() { return this.depth; }
+
+    /**
+     * @param depth The depth of the last iteration of the search, must be at least 1. 
+     */
+    public void setDepth(int depth) {
+        if (depth < 1) {
+            throw new RuntimeException("The depth of a search must be at least 1");
+        }
+        this.depth = depth;
+    }
+
+    /**
+     * @return The number of nodes after which the search stops or noLimit. 
+     */
+    public long getNodes() { return this.nodes; }
+
+    /**
+     * @param nodes The number of nodes after which the search stops, must be at least 1. 
+     */
+    public void setNodes(long nodes) {
+        if (nodes < 1) {
+            throw new RuntimeException("The number of nodes of a search must be at least 1");
+        }
+        this.nodes = nodes;
+    }
+
+    /**
+     * @return The time in milliseconds after which the search stops or noLimit. 
+     */
+    public long getMoveTime() { return this.moveTime; }
+
+    /**
+     * @param moveTime The time in milliseconds after which the search stops, must be at least 1. 
+     */
+    public void setMoveTime(long moveTime) {
+        if (moveTime < 1) {
+            throw new RuntimeException("The time of a search must be at least 1 millisecond");
+        }
+        this.moveTime = moveTime;
+    }
+
+    /**
+     * @return The remaining time in milliseconds on the clock of the side to move or noLimit. 
+     */
+    public long getTime() { return this.time; }
+
+    /**
+     * @param time The remaining time in milliseconds on the clock of the side to move, cannot be negative. 
+     */
+    public void setTime(long time) {
+        if (time < 0) {
+            throw new RuntimeException("The remaining time of a player cannot be negative");
+        }
+        this.time = time;
+    }
+
+    /**
+     * @return The time in milliseconds added to the clock of the side to move after every move. 
+     */
+    public long getIncrement() { return this.increment; }
+
+    /**
+     * @param increment The time in milliseconds added to the clock of the side to move after every move, cannot be negative. 
+     */
+    public void setIncrement(long increment) {
+        if (increment < 0) {
+            throw new RuntimeException("The increment of a player cannot be negative");
+        }
+        this.increment = increment;
+    }
+
+    /**
+     * @return The number of moves before the next time control or noLimit. 
+     */
+    public int getMovesToGo() { return this.movesToGo; }
+
+    /**
+     * @param movesToGo The number of moves before the next time control, must be at least 1. 
+     */
+    public void setMovesToGo(int movesToGo) {
+        if (movesToGo < 1) {
+            throw new RuntimeException("The number of moves before the next time control must be at least 1");
+        }
+        this.movesToGo = movesToGo;
+    }
+
+    /**
+     * @return True if the search is a ponder search, false otherwise. 
+     */
+    public boolean isPonder() { return this.ponder; }
+
+    /**
+     * @param ponder True if the search is a ponder search, which ignores the time until Engine.ponderHit is called. 
+     */
+    public void setPonder(boolean ponder) { this.ponder = ponder; }
+
+    /**
+     * @return The number of best moves searched, each with its score and principal variation. 
+     */
+    public int getMultiPv() { return this.multiPv; }
+
+    /**
+     * Sets the number of best moves searched. Above 1, the search returns the best moves of the position 
+     * along with their score and principal variation, see SearchResult.getLines. 
+     * 
+     * @param multiPv The number of best moves searched, must be at least 1. 
+     */
+    public void setMultiPv(int multiPv) {
+        if (multiPv < 1) {
+            throw new RuntimeException("The number of best moves of a search must be at least 1");
+        }
+        this.multiPv = multiPv;
+    }
+}
@@ -0,0 +1,18 @@
+package ChessGameJava.Engine;
+
+/**
+ * Interface of the objects notified of the progress of a search, for example to print the result of 
+ * every iteration while the search is still running. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public interface SearchListener {
+
+    /**
+     * Called by the search every time it completes an iteration, on the thread running the search. 
+     * 
+     * @param result The SearchResult of the iteration. 
+     */
+    void onIteration(SearchResult result);
+}
@@ -0,0 +1,114 @@
+package ChessGameJava.Engine;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+
+import ChessGameJava.Controller.ChessController;
+import ChessGameJava.Logic.Moves.PackedMove;
+import ChessGameJava.Utility.FenHelper;
+import ChessGameJava.Utility.Position;
+
+/**
+ * Command line entry point of the engine. It brings a new game to the requested position by playing the 
+ * provided moves and then searches the best move of that position, printing the result of every iteration. 
+ * The game starts from the starting position or from the FEN string of the --fen option, see FenHelper. 
+ * 
+ * Usage: SearchMain [--depth <depth>] [--nodes <nodes>] [--movetime <milliseconds>] [--threads <threads>] [--multipv <lines>] [--nnue <file>] [--fen <fen>] [move ...] 
+ * 
+ * The moves are written as their two squares in algebraic notation (ex: e2e4) and are played with the rules 
+ * of the game. The --threads option runs the search on several threads, see Engine, the --multipv option 
+ * prints the given number of best moves with their principal variation and the --nnue option 
+ * evaluates the positions with the network of the file instead of a PositionalEvaluator, see NnueNetwork 
+ * for its format. Otherwise, the hit rate of the pawn hash table is printed once the search is over, see 
+ * PawnHashTable. Without any limit, the search stops at the depth defaultDepth. The output of every 
+ * iteration is close to the info lines of the UCI protocol. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public class SearchMain {
+    private final static int defaultDepth = 6;
+
+    public static void main(String[] args) {
+        SearchLimits limits = new SearchLimits();
+        boolean hasLimit = false;
+        int threads = 1;
+        NnueNetwork network = null;
+        String fen = FenHelper.startingPosition;
+        ArrayList<String> moves = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--depth") && i + 1 < args.length) {
+                limits.setDepth(Integer.parseInt(args[++i]));
+                hasLimit = true;
+            } else if (args[i].equals("--nodes") && i + 1 < args.length) {
+                limits.setNodes(Long.parseLong(args[++i]));
+                hasLimit = true;
+            } else if (args[i].equals("--movetime") && i + 1 < args.length) {
+                limits.setMoveTime(Long.parseLong(args[++i]));
+                hasLimit = true;
+            } else if (args[i].equals("--threads") && i + 1 < args.length) {
+                threads = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("--multipv") && i + 1 < args.length) {
+                limits.setMultiPv(Integer.parseInt(args[++i]));
+            } else if (args[i].equals("--nnue") && i + 1 < args.length) {
+                network = NnueNetwork.load(Paths.get(args[++i]));
+            } else if (args[i].equals("--fen") && i + 1 < args.length) {
+                fen = args[++i];
+            } else if (args[i].startsWith("--")) {
+                System.out.println("Usage: SearchMain [--depth <depth>] [--nodes <nodes>] [--movetime <milliseconds>] [--threads <threads>] [--multipv <lines>] [--nnue <file>] [--fen <fen>] [move ...]");
+                return;
+            } else {
+                moves.add(args[i]);
+            }
+        }
+        if (!hasLimit) {
+            limits.setDepth(defaultDepth);
+        }
+
+        ChessController controller = new ChessController(fen);
+        for (String move : moves) {
+            if (move.length() != 4 || controller.playMove(Position.fromAlgebraic(move.substring(0, 2)), Position.fromAlgebraic(move.substring(2, 4))).isEmpty()) {
+                System.out.println(String.format("Illegal move: %s", move));
+                return;
+            }
+        }
+
+        Engine engine;
+        PawnHashTable pawnTable = new PawnHashTable(Engine.defaultPawnHashSize);
+        if (network == null) {
+            engine = new Engine(new TranspositionTable(Engine.defaultHashSize), pawnTable);
+        } else {
+            NnueNetwork loadedNetwork = network;
+            engine = new Engine(new TranspositionTable(Engine.defaultHashSize), () -> new NnueEvaluator(loadedNetwork));
+        }
+        engine.setThreads(threads);
+        engine.setListener(SearchMain::printIteration);
+        SearchResult result = engine.search(controller.getBoard(), controller.getCurrentPlayer(), limits);
+
+        System.out.println();
+        System.out.println(String.format("%d nodes in %d ms (%d nodes/s) with %d threads", result.getNodes(),
+                result.getElapsedNanos() / 1_000_000, result.getNodesPerSecond(), threads));
+        if (network == null) {
+            System.out.println(String.format("pawn hash: %d probes, %d hits (%.1f%%)", pawnTable.getProbes(), pawnTable.getHits(), 100 * pawnTable.getHitRate()));
+        }
+        System.out.println(String.format("bestmove %s", result.getBestMove() == PackedMove.noMove ? "none" : PackedMove.toAlgebraic(result.getBestMove())));
+    }
+
+    /**
+     * Prints the depth, the score, the statistics and the principal variation of an iteration, once for 
+     * every line of a multi-PV search. 
+     * 
+     * @param result The SearchResult of the iteration. 
+     */
+    private static void printIteration(SearchResult result) {
+        SearchResult[] lines = result.getLines();
+        for (int i = 0; i < lines.length; i++) {
+            SearchResult line = lines[i];
+            String score = line.isMateScore() ? String.format("mate %d", line.getMateInMoves()) : String.format("cp %d", line.getScore());
+            String multiPv = lines.length > 1 ? String.format(" multipv %d", i + 1) : "";
+            System.out.println(String.format("depth %d%s score %s nodes %d time %d ms (%d nodes/s) pv %s", result.getDepth(), multiPv, score,
+                    result.getNodes(), result.getElapsedNanos() / 1_000_000, result.getNodesPerSecond(), line.getPrincipalVariationString()));
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package ChessGameJava.Engine;
+
+import ChessGameJava.Logic.Moves.PackedMove;
+
+/**
+ * Class holding the result of the last iteration completed by a search: the best move, its score, the 
+ * principal variation (the sequence of moves both players are expected to play) and the statistics of 
+ * the search. The moves are PackedMove. 
+ * 
+ * A multi-PV search (see SearchLimits.setMultiPv) also returns its lines: one SearchResult per best move 
+ * found, from the best to the worst, only their score and principal variation being meaningful. The first 
+ * line is the best move of the result. A regular search has a single line, the result itself. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public class SearchResult {
+    private final int bestMove;
+    private final int score;
+    private final int depth;
+    private final int[] principalVariation;
+    private final long nodes;
+    private final long elapsedNanos;
+    private final SearchResult[] lines;
+
+    /**
+     * Constructor of the SearchResult class. 
+     * 
+     * @param score The score of the best move in centipawns, see Searcher for the scores of the mates. 
+     * @param depth The depth of the iteration. 
+     * @param principalVariation The principal variation, starting with the best move. It is empty if the side to move has no move. 
+     * @param nodes The number of nodes visited by the search. 
+     * @param elapsedNanos The time the search took in nanoseconds. 
+     */
+    public SearchResult(int score, int depth, int[] principalVariation, long nodes, long elapsedNanos) {
+        this(score, depth, principalVariation, nodes, elapsedNanos, null);
+    }
+
+    /**
+     * Constructor of the SearchResult class of a multi-PV search. 
+     * 
+     * @param score The score of the best move in centipawns, see Searcher for the scores of the mates. 
+     * @param depth The depth of the iteration. 
+     * @param principalVariation The principal variation, starting with the best move. It is empty if the side to move has no move. 
+     * @param nodes The number of nodes visited by the search. 
+     * @param elapsedNanos The time the search took in nanoseconds. 
+     * @param lines The lines of the search from the best to the worst or null if the result is its only line. 
+     */
+    public SearchResult(int score, int depth, int[] principalVariation, long nodes, long elapsedNanos, SearchResult[] lines) {
+        this.bestMove = principalVariation.length == 0 ? PackedMove.noMove : principalVariation[0];
+        this.score = score;
+        this.depth = depth;
+        this.principalVariation = principalVariation;
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+        this.lines = lines == null ? new SearchResult[] { this } : lines;
+    }
+
+    /**
+     * @return The best move or PackedMove.noMove if the side to move has no move. 
+     */
+    public int getBestMove() { return this.bestMove; }
+
+    /**
+     * @return The score of the best move in centipawns from the point of view of the side to move. 
+     */
+    public int getScore() { return this.score; }
+
+    /**
+     * @return The depth of the iteration. 
+     */
+    public int getDepth() { return this.depth; }
+
+    /**
+     * @return The principal variation, starting with the best move. 
+     */
+    public int[] getPrincipalVariation() { return this.principalVariation; }
+
+    /**
+     * @return The lines of the search from the best to the worst, see the description of the class. 
+     */
+    public SearchResult[] getLines() { return this.lines; }
+
+    /**
+     * @return The number of nodes visited by the search. 
+     */
+    public long getNodes() { return this.nodes; }
+
+    /**
+     * @return The time the search took in nanoseconds. 
+     */
+    public long getElapsedNanos() { return this.elapsedNanos; }
+
+    /**
+     * @return The number of nodes visited per second. 
+     */
+    public long getNodesPerSecond() {
+        return this.elapsedNanos == 0 ? 0 : this.nodes * 1_000_000_000L / this.elapsedNanos;
+    }
+
+    /**
+     * @return True if the score is the one of a mate, for either player. 
+     */
+    public boolean isMateScore() {
+        return Math.abs(this.score) >= Searcher.mateBound;
+    }
+
+    /**
+     * Returns the number of moves of the side to move before the mate, negative if the side to move is 
+     * the one getting mated. 
+     * 
+     * @return The number of moves before the mate, 0 if the score is not a mate score. 
+     */
+    public int getMateInMoves() {
+        if (!this.isMateScore()) {
+            return 0;
+        }
+        int plies = Searcher.mateScore - Math.abs(this.score);
+        return this.score > 0 ? (plies + 1) / 2 : -(plies / 2);
+    }
+
+    /**
+     * Writes the principal variation with the UCI notation of its moves separated by spaces (ex: "e2e4 e7e5"). 
+     * 
+     * @return The principal variation as a String. 
+     */
+    public String getPrincipalVariationString() {
+        StringBuilder builder = new StringBuilder();
+        for (int move : this.principalVariation) {
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            builder.append(PackedMove.toAlgebraic(move));
+        }
+        return builder.toString();
+    }
+}
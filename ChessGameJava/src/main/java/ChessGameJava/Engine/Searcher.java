@@ -0,0 +1,591 @@
+package ChessGameJava.Engine;
+
+import java.util.Arrays;
+
+import ChessGameJava.Logic.BitboardBoardModel;
+import ChessGameJava.Logic.BitboardMoveGenerator;
+import ChessGameJava.Logic.Colour;
+import ChessGameJava.Logic.Moves.PackedMove;
+
+/**
+ * Class in charge of searching the best move of the side to move of a BitboardBoardModel. The search is a 
+ * negamax with alpha-beta pruning run by iterative deepening: the position is searched at the depth 1, then 
+ * 2 and so on until one of the SearchLimits is reached, the result of the last completed iteration being kept. 
+ * 
+ * Every node is searched with principal variation search: the first move is searched with the full window 
+ * and the others with a null window around alpha, only searched again with the full window if they turn 
+ * out to be better. From the depth aspirationDepth, the iterations start with a small window around the 
+ * score of the previous one which is widened every time the score falls outside of it. 
+ * 
+ * Once the depth is reached, the captures are searched by a quiescence search until the position is quiet. 
+ * 
+ * The results of the nodes are stored in a TranspositionTable, its best move being searched first when the 
+ * position is found again and the other moves being ordered by a MoveOrderer. The moves are made and unmade 
+ * on the board itself with its native API and are generated in arrays allocated once per ply, meaning the 
+ * search does not allocate anything. The board is in the same state before and after the search. 
+ * 
+ * The time of the search is either a fixed time or managed by a TimeManager from the clock of the side to 
+ * move. A ponder search, run while the opponent thinks on the position after the move it is expected to 
+ * play, ignores the time until ponderHit is called: the search then goes on as a regular search whose 
+ * time starts at the call, keeping everything already found. 
+ * 
+ * A multi-PV search finds the best moves of the position one after the other at every iteration: once 
+ * the best move is found, the root is searched again without it to find the second best move and so on, 
+ * every line reusing the positions stored in the TranspositionTable by the previous ones. 
+ * 
+ * Several Searcher can search the same position at the same time on copies of the board sharing the same 
+ * TranspositionTable, see Engine. 
+ * 
+ * The scores are in centipawns from the point of view of the side to move. A mate is scored mateScore minus 
+ * the number of plies before it, a position repeated or without capture nor pawn move for fifty moves is a draw. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public class Searcher {
+    public final static int maxPly = 128;
+    public final static int infinity = 32000;
+    public final static int mateScore = 31000;
+    public final static int mateBound = mateScore - maxPly;
+
+    private final static int aspirationDepth = 4;
+    private final static int aspirationWindow = 25;
+    private final static int nodesBetweenChecks = 2048;
+    private final static int fiftyMovesRule = 100;
+
+    private final BitboardBoardModel board;
+    private final TranspositionTable table;
+    private final Evaluator evaluator;
+    private SearchListener listener = null;
+    private int depthOffset = 0;
+
+    private final MoveOrderer moveOrderer = new MoveOrderer(maxPly, BitboardMoveGenerator.maxNumberOfMoves);
+    private final int[][] moves = new int[maxPly][BitboardMoveGenerator.maxNumberOfMoves];
+    private final int[][] searchedQuietMoves = new int[maxPly][BitboardMoveGenerator.maxNumberOfMoves];
+    private final int[] playedMoves = new int[maxPly];
+    private final int[][] principalVariations = new int[maxPly + 1][maxPly + 1];
+    private final int[] principalVariationLengths = new int[maxPly + 1];
+    private final int[] excludedRootMoves = new int[BitboardMoveGenerator.maxNumberOfMoves];
+    private int numberOfExcludedRootMoves = 0;
+
+    private long nodes = 0;
+    private long nodeLimit = Long.MAX_VALUE;
+    private long moveTime = SearchLimits.noLimit;
+    private TimeManager timeManager = null;
+    private volatile long startTime = 0;
+    private volatile long deadline = Long.MAX_VALUE;
+    private volatile boolean pondering = false;
+    private boolean ponderHitReceived = false;
+    private boolean canStop = false;
+    private boolean stopped = false;
+    private volatile boolean stopRequested = false;
+
+    /**
+     * Constructor of the Searcher class. 
+     * 
+     * @param board The BitboardBoardModel whose side to move we want the best move of. 
+     * @param table The TranspositionTable storing the results of the search. 
+     * @param evaluator The Evaluator scoring the positions at the end of the search. 
+     */
+    public Searcher(BitboardBoardModel board, TranspositionTable table, Evaluator evaluator) {
+        this.board = board;
+        this.table = table;
+        this.evaluator = evaluator;
+    }
+
+    /**
+     * @param listener The SearchListener notified of every completed iteration or null. 
+     */
+    public void setListener(SearchListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Sets the number of plies added to the depth of every iteration. When several Searcher share the same 
+     * TranspositionTable, giving them different offsets makes them search different depths at the same time. 
+     * 
+     * @param depthOffset The number of plies added to the depth of every iteration, must be positive. 
+     */
+    public void setDepthOffset(int depthOffset) {
+        if (depthOffset < 0) {
+            throw new RuntimeException("The depth offset of a search cannot be negative");
+        }
+        this.depthOffset = depthOffset;
+    }
+
+    /**
+     * Turns a ponder search into a regular search: the time of the search starts now and its limits are 
+     * applied from now on. This can be called from any thread. If the search has not started yet, its next 
+     * search starts as a regular search. 
+     */
+    public synchronized void ponderHit() {
+        if (this.pondering) {
+            long now = System.nanoTime();
+            this.startTime = now;
+            this.pondering = false;
+            this.deadline = this.getDeadline(now);
+        } else {
+            this.ponderHitReceived = true;
+        }
+    }
+
+    /**
+     * Searches the best move of the side to move of the board until one of the limits is reached. At 
+     * least the first iteration is always completed. 
+     * 
+     * @param limits The SearchLimits of the search. 
+     * @return The SearchResult of the last completed iteration. 
+     */
+    public SearchResult search(SearchLimits limits) {
+        long start = System.nanoTime();
+        int maxDepth = limits.getDepth() == SearchLimits.noLimit ? maxPly - 1 : Math.min(limits.getDepth(), maxPly - 1);
+        this.nodes = 0;
+        this.nodeLimit = limits.getNodes() == SearchLimits.noLimit ? Long.MAX_VALUE : limits.getNodes();
+        this.moveTime = limits.getMoveTime();
+        this.timeManager = limits.getTime() == SearchLimits.noLimit ? null : new TimeManager(limits);
+        synchronized (this) {
+            this.startTime = start;
+            this.pondering = limits.isPonder() && !this.ponderHitReceived;
+            this.ponderHitReceived = false;
+            this.deadline = this.pondering ? Long.MAX_VALUE : this.getDeadline(start);
+        }
+        this.canStop = false;
+
+        SearchResult result = null;
+        int numberOfLines = Math.max(1, Math.min(limits.getMultiPv(), BitboardMoveGenerator.generateLegalMoves(this.board, this.moves[0])));
+        int[] lineScores = new int[numberOfLines];
+        this.evaluator.attach(this.board);
+
+        try {
+            for (int depth = Math.min(1 + this.depthOffset, maxDepth); depth <= maxDepth; depth++) {
+                SearchResult[] lines = this.searchLines(depth, lineScores, start);
+                if (this.stopped) {
+                    break;
+                }
+
+                int score = lines[0].getScore();
+                int[] principalVariation = lines[0].getPrincipalVariation();
+                result = new SearchResult(score, depth, principalVariation, this.nodes, System.nanoTime() - start, numberOfLines > 1 ? lines : null);
+                this.canStop = true;
+                if (this.listener != null) {
+                    this.listener.onIteration(result);
+                }
+
+                if (this.stopRequested || principalVariation.length == 0
+                        || (numberOfLines == 1 && Math.abs(score) >= mateBound && mateScore - Math.abs(score) <= depth)) {
+                    break;
+                }
+                if (this.timeManager != null) {
+                    this.timeManager.onIteration(principalVariation[0], score);
+                }
+                if (!this.pondering && this.isTimeUp()) {
+                    break;
+                }
+            }
+        } finally {
+            this.evaluator.detach(this.board);
+        }
+
+        return result;
+    }
+
+    /**
+     * Stops the search as soon as possible, which is once its first iteration is completed. The result of 
+     * the last completed iteration is returned by search. This can be called from any thread. 
+     */
+    public void stop() {
+        this.stopRequested = true;
+    }
+
+    /**
+     * @return The number of nodes visited by the search. 
+     */
+    public long getNodes() {
+        return this.nodes;
+    }
+
+    /**
+     * Runs one iteration of the search for every line: the root is searched without the best moves of the 
+     * lines already found, the best move of the previous line being excluded for the next one. The lines 
+     * are then sorted from the best to the worst score, a line searched later possibly getting a better score 
+     * than a previous one because of the aspiration windows. 
+     * 
+     * @param depth The depth of the iteration. 
+     * @param lineScores The scores of the lines of the previous iteration, replaced by the scores of this one. 
+     * @param start The time the search started at, in nanoseconds. 
+     * @return The lines of the iteration, from the best to the worst. 
+     */
+    private SearchResult[] searchLines(int depth, int[] lineScores, long start) {
+        SearchResult[] lines = new SearchResult[lineScores.length];
+
+        try {
+            for (int line = 0; line < lines.length; line++) {
+                this.numberOfExcludedRootMoves = line;
+                int score = this.searchRoot(depth, lineScores[line]);
+                if (this.stopped) {
+                    return lines;
+                }
+
+                int[] principalVariation = Arrays.copyOf(this.principalVariations[0], this.principalVariationLengths[0]);
+                lines[line] = new SearchResult(score, depth, principalVariation, this.nodes, System.nanoTime() - start);
+                if (principalVariation.length == 0) {
+                    return lines;
+                }
+                this.excludedRootMoves[line] = principalVariation[0];
+            }
+        } finally {
+            this.numberOfExcludedRootMoves = 0;
+        }
+
+        Arrays.sort(lines, (first, second) -> Integer.compare(second.getScore(), first.getScore()));
+        for (int line = 0; line < lines.length; line++) {
+            lineScores[line] = lines[line].getScore();
+        }
+        return lines;
+    }
+
+    /**
+     * Runs one iteration of the search. From the depth aspirationDepth, the window starts around the 
+     * score of the previous iteration and is widened on the side the score falls out of until the score 
+     * lands inside of it. 
+     * 
+     * @param depth The depth of the iteration. 
+     * @param previousScore The score of the previous iteration. 
+     * @return The score of the position. 
+     */
+    private int searchRoot(int depth, int previousScore) {
+        if (depth < aspirationDepth) {
+            return this.negamax(depth, -infinity, infinity, 0);
+        }
+
+        int window = aspirationWindow;
+        int alpha = Math.max(previousScore - window, -infinity);
+        int beta = Math.min(previousScore + window, infinity);
+
+        while (true) {
+            int score = this.negamax(depth, alpha, beta, 0);
+            if (this.stopped) {
+                return score;
+            }
+
+            window *= 2;
+            if (score <= alpha) {
+                alpha = Math.max(score - window, -infinity);
+            } else if (score >= beta) {
+                beta = Math.min(score + window, infinity);
+            } else {
+                return score;
+            }
+        }
+    }
+
+    /**
+     * Searches the current position of the board with alpha-beta pruning. The principal variation of the 
+     * node is written in the row ply of principalVariations. 
+     * 
+     * @param depth The remaining depth. 
+     * @param alpha The score the side to move is already guaranteed. 
+     * @param beta The score its opponent is already guaranteed. 
+     * @param ply The number of plies from the root. 
+     * @return The score of the position, exact if it is strictly between alpha and beta, a bound otherwise. 
+     */
+    private int negamax(int depth, int alpha, int beta, int ply) {
+        if (depth <= 0) {
+            return this.quiescence(alpha, beta, ply);
+        }
+
+        this.principalVariationLengths[ply] = ply;
+        this.nodes++;
+        this.checkLimits();
+
+        if (ply > 0 && (this.board.getHalfmoveClock() >= fiftyMovesRule || this.board.isRepetition(ply))) {
+            return 0;
+        }
+        if (ply >= maxPly) {
+            return this.evaluator.evaluate(this.board);
+        }
+
+        boolean inCheck = this.board.isInCheck();
+        if (inCheck) {
+            depth++;
+        }
+
+        boolean isPrincipalNode = beta - alpha > 1;
+        long key = this.board.getBoardState().getZobristKey();
+        long entry = this.table.probe(key);
+        int tableMove = PackedMove.noMove;
+
+        if (entry != 0) {
+            tableMove = TranspositionTable.getMove(entry);
+            if (!isPrincipalNode && TranspositionTable.getDepth(entry) >= depth) {
+                int score = Searcher.scoreFromTable(TranspositionTable.getScore(entry), ply);
+                int bound = TranspositionTable.getBound(entry);
+                if (bound == TranspositionTable.exactBound
+                        || (bound == TranspositionTable.lowerBound && score >= beta)
+                        || (bound == TranspositionTable.upperBound && score <= alpha)) {
+                    return score;
+                }
+            }
+        }
+
+        int[] nodeMoves = this.moves[ply];
+        int numberOfMoves = BitboardMoveGenerator.generateMoves(this.board, nodeMoves);
+        int previousMove = ply > 0 ? this.playedMoves[ply - 1] : PackedMove.noMove;
+        this.moveOrderer.scoreMoves(this.board, nodeMoves, numberOfMoves, ply, tableMove, previousMove);
+
+        Colour colour = this.board.getSideToMove();
+        int[] nodeQuietMoves = this.searchedQuietMoves[ply];
+        int numberOfQuietMoves = 0;
+        int originalAlpha = alpha;
+        int bestScore = -infinity;
+        int bestMove = PackedMove.noMove;
+        int legalMoves = 0;
+
+        for (int i = 0; i < numberOfMoves; i++) {
+            int move = this.moveOrderer.selectMove(nodeMoves, numberOfMoves, i, ply);
+            if (ply == 0 && this.isExcludedRootMove(move)) {
+                continue;
+            }
+
+            this.board.makeMove(move);
+            if (this.board.isKingAttacked(colour)) {
+                this.board.unmakeMove();
+                continue;
+            }
+            legalMoves++;
+            this.playedMoves[ply] = move;
+
+            int score;
+            if (legalMoves == 1) {
+                score = -this.negamax(depth - 1, -beta, -alpha, ply + 1);
+            } else {
+                score = -this.negamax(depth - 1, -alpha - 1, -alpha, ply + 1);
+                if (score > alpha && score < beta) {
+                    score = -this.negamax(depth - 1, -beta, -alpha, ply + 1);
+                }
+            }
+            this.board.unmakeMove();
+
+            if (this.stopped) {
+                return 0;
+            }
+
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = move;
+                if (score > alpha) {
+                    alpha = score;
+                    this.updatePrincipalVariation(ply, move);
+                    if (alpha >= beta) {
+                        if (MoveOrderer.isQuiet(move)) {
+                            this.moveOrderer.updateCutoff(colour, move, ply, depth, nodeQuietMoves, numberOfQuietMoves, previousMove);
+                        }
+                        break;
+                    }
+                }
+            }
+            if (MoveOrderer.isQuiet(move)) {
+                nodeQuietMoves[numberOfQuietMoves++] = move;
+            }
+        }
+
+        if (legalMoves == 0) {
+            return inCheck ? -mateScore + ply : 0;
+        }
+
+        if (ply > 0 || this.numberOfExcludedRootMoves == 0) {
+            int bound = bestScore >= beta ? TranspositionTable.lowerBound
+                    : bestScore > originalAlpha ? TranspositionTable.exactBound : TranspositionTable.upperBound;
+            this.table.store(key, bestScore > originalAlpha ? bestMove : PackedMove.noMove, Searcher.scoreToTable(bestScore, ply), depth, bound);
+        }
+
+        return bestScore;
+    }
+
+    /**
+     * Searches the captures of the current position until it is quiet, so that the positions are not 
+     * evaluated in the middle of an exchange. The side to move may stand pat, meaning it can keep the 
+     * static evaluation of the position instead of taking. The captures are searched from the most to the 
+     * least valuable piece taken, see MoveOrderer, and those losing material according to StaticExchangeHelper 
+     * are skipped. When the side to move is in check, it cannot stand pat and every move is searched instead. 
+     * 
+     * @param alpha The score the side to move is already guaranteed. 
+     * @param beta The score its opponent is already guaranteed. 
+     * @param ply The number of plies from the root. 
+     * @return The score of the position, exact if it is strictly between alpha and beta, a bound otherwise. 
+     */
+    private int quiescence(int alpha, int beta, int ply) {
+        this.principalVariationLengths[ply] = ply;
+        this.nodes++;
+        this.checkLimits();
+
+        if (ply >= maxPly) {
+            return this.evaluator.evaluate(this.board);
+        }
+
+        boolean inCheck = this.board.isInCheck();
+        int[] nodeMoves = this.moves[ply];
+        int numberOfMoves;
+        int bestScore;
+
+        if (inCheck) {
+            bestScore = -infinity;
+            numberOfMoves = BitboardMoveGenerator.generateMoves(this.board, nodeMoves);
+            this.moveOrderer.scoreMoves(this.board, nodeMoves, numberOfMoves, ply, PackedMove.noMove, PackedMove.noMove);
+        } else {
+            bestScore = this.evaluator.evaluate(this.board);
+            if (bestScore >= beta) {
+                return bestScore;
+            }
+            alpha = Math.max(alpha, bestScore);
+            numberOfMoves = BitboardMoveGenerator.generateCaptures(this.board, nodeMoves);
+            this.moveOrderer.scoreCaptures(this.board, nodeMoves, numberOfMoves, ply);
+        }
+
+        Colour colour = this.board.getSideToMove();
+        int legalMoves = 0;
+
+        for (int i = 0; i < numberOfMoves; i++) {
+            int move = this.moveOrderer.selectMove(nodeMoves, numberOfMoves, i, ply);
+            if (!inCheck && !StaticExchangeHelper.isAtLeast(this.board, move, 0)) {
+                continue;
+            }
+
+            this.board.makeMove(move);
+            if (this.board.isKingAttacked(colour)) {
+                this.board.unmakeMove();
+                continue;
+            }
+            legalMoves++;
+
+            int score = -this.quiescence(-beta, -alpha, ply + 1);
+            this.board.unmakeMove();
+
+            if (this.stopped) {
+                return 0;
+            }
+
+            if (score > bestScore) {
+                bestScore = score;
+                if (score > alpha) {
+                    alpha = score;
+                    this.updatePrincipalVariation(ply, move);
+                    if (alpha >= beta) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        if (inCheck && legalMoves == 0) {
+            return -mateScore + ply;
+        }
+
+        return bestScore;
+    }
+
+    /**
+     * Stops the search if it was asked to or if the number of nodes or the time of the limits is reached. 
+     * The time is only read every nodesBetweenChecks nodes and nothing stops the search before its first 
+     * iteration is completed. 
+     */
+    private void checkLimits() {
+        if (!this.canStop) {
+            return;
+        }
+        if (this.stopRequested || this.nodes >= this.nodeLimit || ((this.nodes & (nodesBetweenChecks - 1)) == 0 && System.nanoTime() >= this.deadline)) {
+            this.stopped = true;
+        }
+    }
+
+    /**
+     * @param move A move of the root. 
+     * @return True if the move is the best move of a line already found in the current iteration, false otherwise. 
+     */
+    private boolean isExcludedRootMove(int move) {
+        for (int i = 0; i < this.numberOfExcludedRootMoves; i++) {
+            if (this.excludedRootMoves[i] == move) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Computes the time after which the search is stopped in the middle of an iteration: the hard limit of 
+     * the TimeManager or the fixed time of the search. 
+     * 
+     * @param start The time the search started at, in nanoseconds. 
+     * @return The deadline in nanoseconds or Long.MAX_VALUE if the time is not limited. 
+     */
+    private long getDeadline(long start) {
+        long limit = this.timeManager != null ? this.timeManager.getHardLimit() : this.moveTime;
+        return limit == SearchLimits.noLimit ? Long.MAX_VALUE : start + limit * 1_000_000L;
+    }
+
+    /**
+     * Tells if the time of the search is too far gone to start a new iteration. With a fixed time, a new 
+     * iteration only starts if less than half of it was used. 
+     * 
+     * @return True if no new iteration should start, false otherwise. 
+     */
+    private boolean isTimeUp() {
+        long elapsedMillis = (System.nanoTime() - this.startTime) / 1_000_000L;
+        if (this.timeManager != null) {
+            return this.timeManager.shouldStop(elapsedMillis);
+        }
+        return this.moveTime != SearchLimits.noLimit && elapsedMillis * 2 > this.moveTime;
+    }
+
+    /**
+     * Writes the principal variation of a node: its best move followed by the principal variation of the 
+     * child reached by the move. 
+     * 
+     * @param ply The ply of the node. 
+     * @param move The best move of the node. 
+     */
+    private void updatePrincipalVariation(int ply, int move) {
+        int[] principalVariation = this.principalVariations[ply];
+        int childLength = this.principalVariationLengths[ply + 1];
+
+        principalVariation[ply] = move;
+        System.arraycopy(this.principalVariations[ply + 1], ply + 1, principalVariation, ply + 1, childLength - ply - 1);
+        this.principalVariationLengths[ply] = childLength;
+    }
+
+    /**
+     * Converts a score to the one stored in the TranspositionTable. The mate scores are stored as the 
+     * number of plies from the position instead of from the root, so they stay right when the position 
+     * is reached at another ply. 
+     * 
+     * @param score The score of the position. 
+     * @param ply The ply of the position. 
+     * @return The score to store. 
+     */
+    private static int scoreToTable(int score, int ply) {
+        if (score >= mateBound) {
+            return score + ply;
+        }
+        if (score <= -mateBound) {
+            return score - ply;
+        }
+        return score;
+    }
+
+    /**
+     * Converts a score read from the TranspositionTable back to a score from the root, see scoreToTable. 
+     * 
+     * @param score The stored score. 
+     * @param ply The ply of the position. 
+     * @return The score of the position. 
+     */
+    private static int scoreFromTable(int score, int ply) {
+        if (score >= mateBound) {
+            return score - ply;
+        }
+        if (score <= -mateBound) {
+            return score + ply;
+        }
+        return score;
+    }
+}
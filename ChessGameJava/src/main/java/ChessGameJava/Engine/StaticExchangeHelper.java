@@ -0,0 +1,125 @@
+package ChessGameJava.Engine;
+
+import ChessGameJava.Logic.BitboardBoardModel;
+import ChessGameJava.Logic.Colour;
+import ChessGameJava.Logic.Moves.PackedMove;
+import ChessGameJava.Utility.MagicBitboardHelper;
+import ChessGameJava.Utility.PieceName;
+
+/**
+ * A class that acts as a helper to run a static exchange evaluation (SEE) of a move. The evaluation 
+ * plays every capture on the square the move goes to, each player always taking with its least valuable 
+ * piece and being free to stop taking when it would lose material, and tells how much material the 
+ * player who made the move wins at the end of the exchange. 
+ * 
+ * The attackers of the square are read from the bitboards of the board with BitboardBoardModel.getAttackers 
+ * using an occupancy from which the pieces that already took are removed, which reveals the sliding pieces 
+ * standing behind them. Nothing is made on the board and nothing is allocated. The pins are not considered. 
+ * 
+ * The pieces are worth their value in MaterialEvaluator. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public abstract class StaticExchangeHelper {
+
+    /**
+     * Checks if the player making a move wins at least the provided amount of material once every capture 
+     * on the square of the move is played. 
+     * 
+     * @param board The BitboardBoardModel the move is made on, with its side to move being the one making the move. 
+     * @param move The packed move. 
+     * @param threshold The amount of material in centipawns. 
+     * @return True if the exchange wins at least the threshold, false otherwise. 
+     */
+    public static boolean isAtLeast(BitboardBoardModel board, int move, int threshold) {
+        int flags = PackedMove.getFlags(move);
+        if (flags == PackedMove.kingCastle || flags == PackedMove.queenCastle) {
+            return threshold <= 0;
+        }
+
+        int from = PackedMove.getFrom(move);
+        int to = PackedMove.getTo(move);
+        Colour side = board.getSideToMove();
+        long occupancy = board.getOccupancy() ^ (1L << from) ^ (1L << to);
+
+        int capturedValue = 0;
+        if (flags == PackedMove.enPassant) {
+            capturedValue = MaterialEvaluator.getPieceValue(PieceName.PAWN);
+            occupancy ^= 1L << (side == Colour.WHITE ? to + 8 : to - 8);
+        } else if (PackedMove.isCapture(move)) {
+            capturedValue = MaterialEvaluator.getPieceValue(board.getPieceCode(to) % BitboardBoardModel.numberOfPieceTypes);
+        }
+
+        int swap = capturedValue - threshold;
+        if (swap < 0) {
+            return false;
+        }
+        swap = MaterialEvaluator.getPieceValue(board.getPieceCode(from) % BitboardBoardModel.numberOfPieceTypes) - swap;
+        if (swap <= 0) {
+            return true;
+        }
+
+        long queens = StaticExchangeHelper.getPieces(board, PieceName.QUEEN);
+        long diagonalSliders = StaticExchangeHelper.getPieces(board, PieceName.BISHOP) | queens;
+        long straightSliders = StaticExchangeHelper.getPieces(board, PieceName.ROOK) | queens;
+        long attackers = board.getAttackers(to, occupancy);
+        int result = 1;
+
+        while (true) {
+            side = side == Colour.WHITE ? Colour.BLACK : Colour.WHITE;
+            attackers &= occupancy;
+            long sideAttackers = attackers & board.getColourBitboard(side);
+            if (sideAttackers == 0) {
+                break;
+            }
+            result ^= 1;
+
+            long pieces;
+            if ((pieces = sideAttackers & board.getPieceBitboard(PieceName.PAWN, side)) != 0) {
+                if ((swap = MaterialEvaluator.getPieceValue(PieceName.PAWN) - swap) < result) {
+                    break;
+                }
+                occupancy ^= Long.lowestOneBit(pieces);
+                attackers |= MagicBitboardHelper.getBishopAttacks(to, occupancy) & diagonalSliders;
+            } else if ((pieces = sideAttackers & board.getPieceBitboard(PieceName.KNIGHT, side)) != 0) {
+                if ((swap = MaterialEvaluator.getPieceValue(PieceName.KNIGHT) - swap) < result) {
+                    break;
+                }
+                occupancy ^= Long.lowestOneBit(pieces);
+            } else if ((pieces = sideAttackers & board.getPieceBitboard(PieceName.BISHOP, side)) != 0) {
+                if ((swap = MaterialEvaluator.getPieceValue(PieceName.BISHOP) - swap) < result) {
+                    break;
+                }
+                occupancy ^= Long.lowestOneBit(pieces);
+                attackers |= MagicBitboardHelper.getBishopAttacks(to, occupancy) & diagonalSliders;
+            } else if ((pieces = sideAttackers & board.getPieceBitboard(PieceName.ROOK, side)) != 0) {
+                if ((swap = MaterialEvaluator.getPieceValue(PieceName.ROOK) - swap) < result) {
+                    break;
+                }
+                occupancy ^= Long.lowestOneBit(pieces);
+                attackers |= MagicBitboardHelper.getRookAttacks(to, occupancy) & straightSliders;
+            } else if ((pieces = sideAttackers & board.getPieceBitboard(PieceName.QUEEN, side)) != 0) {
+                if ((swap = MaterialEvaluator.getPieceValue(PieceName.QUEEN) - swap) < result) {
+                    break;
+                }
+                occupancy ^= Long.lowestOneBit(pieces);
+                attackers |= (MagicBitboardHelper.getBishopAttacks(to, occupancy) & diagonalSliders)
+                        | (MagicBitboardHelper.getRookAttacks(to, occupancy) & straightSliders);
+            } else {
+                return ((attackers & ~board.getColourBitboard(side)) != 0 ? result ^ 1 : result) != 0;
+            }
+        }
+
+        return result != 0;
+    }
+
+    /**
+     * @param board The BitboardBoardModel. 
+     * @param pieceName The PieceName of the pieces. 
+     * @return The bitboard of the pieces of that type of both colours. 
+     */
+    private static long getPieces(BitboardBoardModel board, PieceName pieceName) {
+        return board.getPieceBitboard(pieceName, Colour.WHITE) | board.getPieceBitboard(pieceName, Colour.BLACK);
+    }
+}
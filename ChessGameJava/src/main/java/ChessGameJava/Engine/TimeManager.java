@@ -0,0 +1,109 @@
+package ChessGameJava.Engine;
+
+import ChessGameJava.Logic.Moves.PackedMove;
+
+/**
+ * Class deciding how long a search lasts from the clock of the side to move, see SearchLimits. It gives 
+ * two limits: 
+ * 
+ * - the soft limit, the time the search is expected to take: the remaining time divided by the number of 
+ *   moves before the next time control (defaultMovesToGo if unknown) plus most of the increment, 
+ * - the hard limit, the time after which the search is stopped in the middle of an iteration: maxScale 
+ *   times the soft limit, without ever using more than three quarters of the remaining time. 
+ * 
+ * The soft limit is scaled after every iteration. A best move that keeps changing or a score dropping 
+ * compared to the previous iteration extends it, the search needing more time to settle, while a best 
+ * move that stays the same over several iterations cuts it. A new iteration only starts if less than half 
+ * of the scaled soft limit was used, as the next iteration usually takes as long as all the previous ones. 
+ * 
+ * moveOverhead milliseconds are always kept on the clock for the time lost outside of the search. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public class TimeManager {
+    public final static int defaultMovesToGo = 30;
+    public final static int moveOverhead = 50;
+
+    private final static int maxMovesToGo = 50;
+    private final static int maxScale = 4;
+    private final static double unstableScale = 1.5;
+    private final static double minStableScale = 0.5;
+    private final static double stableScaleStep = 0.1;
+    private final static int scoreDropLimit = 100;
+
+    private final long softLimit;
+    private final long hardLimit;
+    private int previousBestMove = PackedMove.noMove;
+    private int previousScore = 0;
+    private int stableIterations = 0;
+    private double scale = 1.0;
+
+    /**
+     * Constructor of the TimeManager class. If the limits have no clock, it throws a RuntimeException. 
+     * 
+     * @param limits The SearchLimits of the search, with the clock of the side to move. 
+     */
+    public TimeManager(SearchLimits limits) {
+        if (limits.getTime() == SearchLimits.noLimit) {
+            throw new RuntimeException("The time of a player is needed to manage the time of a search");
+        }
+
+        long available = Math.max(1, limits.getTime() - moveOverhead);
+        int movesToGo = limits.getMovesToGo() == SearchLimits.noLimit ? defaultMovesToGo : Math.min(limits.getMovesToGo(), maxMovesToGo);
+        long softLimit = available / movesToGo + limits.getIncrement() * 3 / 4;
+        long hardLimit = Math.min(available * 3 / 4, softLimit * maxScale);
+        if (limits.getMoveTime() != SearchLimits.noLimit) {
+            hardLimit = Math.min(hardLimit, limits.getMoveTime());
+        }
+
+        this.hardLimit = Math.max(1, hardLimit);
+        this.softLimit = Math.max(1, Math.min(softLimit, this.hardLimit));
+    }
+
+    /**
+     * Scales the soft limit with the result of a completed iteration. 
+     * 
+     * @param bestMove The best move of the iteration. 
+     * @param score The score of the iteration. 
+     */
+    public void onIteration(int bestMove, int score) {
+        if (this.previousBestMove != PackedMove.noMove) {
+            this.stableIterations = bestMove == this.previousBestMove ? this.stableIterations + 1 : 0;
+            double stabilityScale = this.stableIterations == 0 ? unstableScale : Math.max(minStableScale, 1.0 - stableScaleStep * (this.stableIterations - 1));
+
+            int drop = Math.abs(score) < Searcher.mateBound && Math.abs(this.previousScore) < Searcher.mateBound ? this.previousScore - score : 0;
+            double swingScale = 1.0 + (double) Math.max(0, Math.min(drop, scoreDropLimit)) / scoreDropLimit;
+
+            this.scale = stabilityScale * swingScale;
+        }
+
+        this.previousBestMove = bestMove;
+        this.previousScore = score;
+    }
+
+    /**
+     * Tells if a new iteration should be started. 
+     * 
+     * @param elapsedMillis The time spent by the search in milliseconds. 
+     * @return True if the search should stop, false otherwise. 
+     */
+    public boolean shouldStop(long elapsedMillis) {
+        return elapsedMillis > this.getScaledSoftLimit() / 2;
+    }
+
+    /**
+     * @return The soft limit in milliseconds, before being scaled. 
+     */
+    public long getSoftLimit() { return this.softLimit; }
+
+    /**
+     * @return The soft limit in milliseconds scaled by the results of the iterations, never above the hard limit. 
+     */
+    public long getScaledSoftLimit() { return Math.min(this.hardLimit, (long) (this.softLimit * this.scale)); }
+
+    /**
+     * @return The hard limit in milliseconds. 
+     */
+    public long getHardLimit() { return this.hardLimit; }
+}
@@ -0,0 +1,238 @@
+package ChessGameJava.Engine;
+
+import java.util.Arrays;
+
+/**
+ * Class storing the results of a search for positions identified by their Zobrist key (see ZobristHelper), 
+ * so that a position reached again through another order of moves does not have to be searched again. 
+ * 
+ * The table is a single array of longs allocated once with the size asked for in megabytes. Every entry 
+ * takes two longs: the data of the entry and the key of the position combined with the data by an 
+ * exclusive or. The data packs the best move, the score, the depth and the bound of the search along with 
+ * the generation the entry was written in: 
+ * 
+ * - bits 0 to 15: the best move, a PackedMove, 
+ * - bits 16 to 31: the score, as a signed 16 bits number, 
+ * - bits 32 to 39: the depth of the search, 
+ * - bits 40 to 41: the bound, one of upperBound, lowerBound or exactBound, 
+ * - bits 42 to 47: the generation of the entry. 
+ * 
+ * Several threads can read and write the table at the same time without any lock. If two threads write the 
+ * same entry at once, the key stored with the data no longer matches and the entry is simply seen as missing 
+ * when probed. A valid entry always has a bound, its data is therefore never 0 and probe returns 0 when the 
+ * position is not found. 
+ * 
+ * The entries are grouped by buckets of four, a key being stored in one of the four entries of its bucket. 
+ * When the bucket is full, the entry replaced is the one with the lowest depth, the entries of older searches 
+ * being considered as having a lower depth. newSearch must be called before every search to age the entries. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public class TranspositionTable {
+    public final static int upperBound = 1;
+    public final static int lowerBound = 2;
+    public final static int exactBound = 3;
+    public final static int maxDepth = 0xFF;
+
+    private final static int bytesPerEntry = 2 * Long.BYTES;
+    private final static int entriesPerBucket = 4;
+    private final static int generationCycle = 64;
+    private final static int agePenalty = 8;
+
+    private final long[] table;
+    private final long bucketMask;
+    private int generation = 0;
+
+    /**
+     * Constructor of a TranspositionTable. The number of entries is the largest power of two fitting in 
+     * the provided size. If the size is lower than one megabyte, it throws a RuntimeException. 
+     * 
+     * @param sizeInMegabytes The size of the table in megabytes. 
+     */
+    public TranspositionTable(int sizeInMegabytes) {
+        if (sizeInMegabytes < 1) {
+            throw new RuntimeException("The size of the transposition table must be at least 1 megabyte");
+        }
+
+        long numberOfEntries = Long.highestOneBit((long) sizeInMegabytes * 1024 * 1024 / bytesPerEntry);
+        numberOfEntries = Math.min(numberOfEntries, Integer.highestOneBit(Integer.MAX_VALUE) / 2);
+
+        this.table = new long[(int) numberOfEntries * 2];
+        this.bucketMask = numberOfEntries / entriesPerBucket - 1;
+    }
+
+    /**
+     * Looks for the entry of a position. 
+     * 
+     * @param key The Zobrist key of the position. 
+     * @return The data of the entry, to read with the getters of this class, or 0 if there is no entry for the position. 
+     */
+    public long probe(long key) {
+        int bucket = this.getBucket(key);
+
+        for (int i = bucket; i < bucket + 2 * entriesPerBucket; i += 2) {
+            long data = this.table[i + 1];
+            if ((this.table[i] ^ data) == key && data != 0) {
+                return data;
+            }
+        }
+
+        return 0L;
+    }
+
+    /**
+     * Stores the result of the search of a position. If the position already has an entry, it is replaced 
+     * unless it comes from a deeper search of the current generation with the same kind of bound. The best 
+     * move of the previous entry is kept if no move is provided. 
+     * 
+     * @param key The Zobrist key of the position. 
+     * @param move The best move found, a PackedMove, or PackedMove.noMove. 
+     * @param score The score of the position, between Short.MIN_VALUE and Short.MAX_VALUE. 
+     * @param depth The depth of the search, clamped between 0 and maxDepth. 
+     * @param bound The bound of the score, one of upperBound, lowerBound or exactBound. 
+     */
+    public void store(long key, int move, int score, int depth, int bound) {
+        int bucket = this.getBucket(key);
+        int replaced = bucket;
+        int lowestValue = Integer.MAX_VALUE;
+
+        for (int i = bucket; i < bucket + 2 * entriesPerBucket; i += 2) {
+            long data = this.table[i + 1];
+
+            if ((this.table[i] ^ data) == key && data != 0) {
+                if (bound != exactBound && TranspositionTable.getGeneration(data) == this.generation
+                        && TranspositionTable.getDepth(data) > depth && TranspositionTable.getBound(data) == bound) {
+                    return;
+                }
+                if (move == 0) {
+                    move = TranspositionTable.getMove(data);
+                }
+                replaced = i;
+                break;
+            }
+
+            int value = data == 0 ? Integer.MIN_VALUE : TranspositionTable.getDepth(data) - agePenalty * this.getAge(data);
+            if (value < lowestValue) {
+                lowestValue = value;
+                replaced = i;
+            }
+        }
+
+        long data = TranspositionTable.pack(move, score, Math.max(0, Math.min(maxDepth, depth)), bound, this.generation);
+        this.table[replaced] = key ^ data;
+        this.table[replaced + 1] = data;
+    }
+
+    /**
+     * Starts a new generation of entries. The entries written in the previous generations are replaced 
+     * first once their bucket is full. 
+     */
+    public void newSearch() {
+        this.generation = (this.generation + 1) % generationCycle;
+    }
+
+    /**
+     * Removes every entry of the table. 
+     */
+    public void clear() {
+        Arrays.fill(this.table, 0L);
+        this.generation = 0;
+    }
+
+    /**
+     * Estimates how full the table is by looking at its first thousand entries. 
+     * 
+     * @return The number of entries written during the current generation per thousand entries. 
+     */
+    public int getHashfull() {
+        int count = 0;
+        int numberOfEntries = Math.min(1000, this.table.length / 2);
+
+        for (int i = 0; i < numberOfEntries; i++) {
+            long data = this.table[2 * i + 1];
+            if (data != 0 && TranspositionTable.getGeneration(data) == this.generation) {
+                count++;
+            }
+        }
+
+        return count * 1000 / numberOfEntries;
+    }
+
+    /**
+     * @return The number of entries of the table. 
+     */
+    public int getNumberOfEntries() {
+        return this.table.length / 2;
+    }
+
+    /**
+     * @param data The data of an entry. 
+     * @return The best move of the entry. 
+     */
+    public static int getMove(long data) {
+        return (int) (data & 0xFFFF);
+    }
+
+    /**
+     * @param data The data of an entry. 
+     * @return The score of the entry. 
+     */
+    public static int getScore(long data) {
+        return (short) (data >>> 16);
+    }
+
+    /**
+     * @param data The data of an entry. 
+     * @return The depth of the entry. 
+     */
+    public static int getDepth(long data) {
+        return (int) ((data >>> 32) & 0xFF);
+    }
+
+    /**
+     * @param data The data of an entry. 
+     * @return The bound of the entry. 
+     */
+    public static int getBound(long data) {
+        return (int) ((data >>> 40) & 0x3);
+    }
+
+    /**
+     * @param data The data of an entry. 
+     * @return The generation the entry was written in. 
+     */
+    private static int getGeneration(long data) {
+        return (int) ((data >>> 42) & (generationCycle - 1));
+    }
+
+    /**
+     * @param data The data of an entry. 
+     * @return The number of generations since the entry was written. 
+     */
+    private int getAge(long data) {
+        return (this.generation - TranspositionTable.getGeneration(data) + generationCycle) % generationCycle;
+    }
+
+    /**
+     * Packs the fields of an entry in a long, see the description of the class. 
+     * 
+     * @param move The best move. 
+     * @param score The score. 
+     * @param depth The depth. 
+     * @param bound The bound. 
+     * @param generation The generation. 
+     * @return The data of the entry. 
+     */
+    private static long pack(int move, int score, int depth, int bound, int generation) {
+        return (move & 0xFFFFL) | ((score & 0xFFFFL) << 16) | ((long) depth << 32) | ((long) bound << 40) | ((long) generation << 42);
+    }
+
+    /**
+     * @param key The Zobrist key of a position. 
+     * @return The index in the table of the first entry of the bucket of the key. 
+     */
+    private int getBucket(long key) {
+        return (int) (key & this.bucketMask) * 2 * entriesPerBucket;
+    }
+}
@@ -0,0 +1,134 @@
+package ChessGameJava.Logic;
+
+import ChessGameJava.Logic.Pieces.ChessABSPieceModel;
+import ChessGameJava.Utility.BitboardHelper;
+import ChessGameJava.Utility.MagicBitboardHelper;
+
+/**
+ * Class keeping, for every square of a board and for both colours, the number of pieces of that colour 
+ * attacking the square. It lets a board answer if a square is attacked with a single array lookup. 
+ * 
+ * The counts are updated incrementally every time squares of the board change. Only the pieces whose 
+ * attacks may change are touched: the pieces on the changed squares and the sliding pieces that see 
+ * one of the changed squares, as their lines may now be blocked or opened. The board removes the 
+ * attacks of these pieces before the change and adds them back once the change is done. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public class AttackMap {
+    private final int[][] attackCounts = new int[2][ChessBoardModel.numberOfRows * ChessBoardModel.numberOfRows];
+
+    /**
+     * Returns the number of pieces of the given colour attacking a square. 
+     * 
+     * @param index The index of the square. 
+     * @param colourOfAttacker The Colour of the attacking pieces, cannot be Colour.NULL. 
+     * @return The number of attackers of the square. 
+     */
+    public int getAttackCount(int index, Colour colourOfAttacker) {
+        return this.attackCounts[colourOfAttacker.ordinal()][index];
+    }
+
+    /**
+     * Returns the squares holding a piece whose attacks may change when the provided squares change. 
+     * These are the changed squares themselves and every occupied square on a line or a diagonal 
+     * ending on one of them. The non sliding pieces found that way are returned as well, updating 
+     * them is harmless and cheaper than checking their type. 
+     * 
+     * This method must be called before the squares change. 
+     * 
+     * @param changedSquares The bitboard of the squares about to change. 
+     * @param occupancy The bitboard of every occupied square before the change. 
+     * @return The bitboard of the squares whose attacks must be updated. 
+     */
+    public long getAffectedSquares(long changedSquares, long occupancy) {
+        long affectedSquares = changedSquares;
+
+        while (changedSquares != 0) {
+            int index = Long.numberOfTrailingZeros(changedSquares);
+            affectedSquares |= MagicBitboardHelper.getQueenAttacks(index, occupancy) & occupancy;
+            changedSquares &= changedSquares - 1;
+        }
+
+        return affectedSquares;
+    }
+
+    /**
+     * Adds the attacks of the pieces standing on the provided squares to the counts. 
+     * 
+     * @param squareList The squares of the board. 
+     * @param squares The bitboard of the squares whose pieces we add the attacks of. 
+     * @param occupancy The bitboard of every occupied square. 
+     */
+    public void addAttacks(ChessSquareModel[] squareList, long squares, long occupancy) {
+        this.updateAttacks(squareList, squares, occupancy, 1);
+    }
+
+    /**
+     * Removes the attacks of the pieces standing on the provided squares from the counts. The 
+     * occupancy must be the same as when the attacks were added. 
+     * 
+     * @param squareList The squares of the board. 
+     * @param squares The bitboard of the squares whose pieces we remove the attacks of. 
+     * @param occupancy The bitboard of every occupied square. 
+     */
+    public void removeAttacks(ChessSquareModel[] squareList, long squares, long occupancy) {
+        this.updateAttacks(squareList, squares, occupancy, -1);
+    }
+
+    /**
+     * Adds the provided value to the count of every square attacked by the pieces of the provided squares. 
+     * 
+     * @param squareList The squares of the board. 
+     * @param squares The bitboard of the squares of the pieces. 
+     * @param occupancy The bitboard of every occupied square. 
+     * @param value The value to add to the counts, 1 or -1. 
+     */
+    private void updateAttacks(ChessSquareModel[] squareList, long squares, long occupancy, int value) {
+        while (squares != 0) {
+            int index = Long.numberOfTrailingZeros(squares);
+            ChessABSPieceModel piece = squareList[index].getPiece();
+
+            if (piece.getColour() != Colour.NULL) {
+                int[] counts = this.attackCounts[piece.getColour().ordinal()];
+                long attacks = AttackMap.getAttackingBitboard(piece, index, occupancy);
+                while (attacks != 0) {
+                    counts[Long.numberOfTrailingZeros(attacks)] += value;
+                    attacks &= attacks - 1;
+                }
+            }
+
+            squares &= squares - 1;
+        }
+    }
+
+    /**
+     * Returns the squares attacked by a piece. The attacks of the standard pieces are read directly from 
+     * the tables by switching on the PieceName of the piece, which avoids calling the method of one of 
+     * the many piece classes for every updated square. Any other piece gives its own attacks. 
+     * 
+     * @param piece The ChessABSPieceModel we want the attacks of. 
+     * @param index The index of the square of the piece. 
+     * @param occupancy The bitboard of every occupied square. 
+     * @return The bitboard of the attacked squares. 
+     */
+    private static long getAttackingBitboard(ChessABSPieceModel piece, int index, long occupancy) {
+        switch (piece.getPieceName()) {
+            case KING:
+                return BitboardHelper.getKingAttacks(index);
+            case QUEEN:
+                return MagicBitboardHelper.getQueenAttacks(index, occupancy);
+            case ROOK:
+                return MagicBitboardHelper.getRookAttacks(index, occupancy);
+            case BISHOP:
+                return MagicBitboardHelper.getBishopAttacks(index, occupancy);
+            case KNIGHT:
+                return BitboardHelper.getKnightAttacks(index);
+            case PAWN:
+                return BitboardHelper.getPawnAttacks(index, piece.getColour());
+            default:
+                return piece.getAttackingBitboard(index, occupancy);
+        }
+    }
+}
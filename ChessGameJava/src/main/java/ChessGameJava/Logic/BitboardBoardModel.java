@@ -0,0 +1,698 @@
+package ChessGameJava.Logic;
+
+import java.util.Arrays;
+
+import ChessGameJava.Logic.Moves.PackedMove;
+import ChessGameJava.Logic.Pieces.Bishop;
+import ChessGameJava.Logic.Pieces.ChessABSPieceModel;
+import ChessGameJava.Logic.Pieces.King;
+import ChessGameJava.Logic.Pieces.Knight;
+import ChessGameJava.Logic.Pieces.NullPiece;
+import ChessGameJava.Logic.Pieces.Pawn;
+import ChessGameJava.Logic.Pieces.Queen;
+import ChessGameJava.Logic.Pieces.Rook;
+import ChessGameJava.Utility.BitboardHelper;
+import ChessGameJava.Utility.FenHelper;
+import ChessGameJava.Utility.MagicBitboardHelper;
+import ChessGameJava.Utility.PieceName;
+import ChessGameJava.Utility.Position;
+import ChessGameJava.Utility.PieceSquareTableHelper;
+import ChessGameJava.Utility.ZobristHelper;
+
+/**
+ * Class representing a chess board whose position is stored as bitboards. It keeps one bitboard per 
+ * colour and type of piece (twelve in total), one bitboard per colour and one bitboard of every occupied 
+ * square. See BitboardHelper for the meaning of every bit. 
+ * 
+ * The bitboards are the source of truth of every query this board answers: locating a king is a single 
+ * bit scan and checking if a square is attacked is a handful of shifts and masks instead of asking every 
+ * piece of the board for the squares it attacks. 
+ * 
+ * The board also keeps an array of ChessSquareModel so that the pieces and the moves, which work with 
+ * squares, can be used on it. The array and the bitboards are kept in sync by swappSquare and 
+ * swappSquares, the only two methods the moves use to modify a board. 
+ * 
+ * On top of the moves of the pieces, the board has a native API working with moves packed in an int 
+ * (see PackedMove and BitboardMoveGenerator). It follows the FIDE rules, promotions included, and keeps 
+ * the side to move on top of the BoardState of the board, which the moves of the pieces and the packed 
+ * moves both update. makeMove saves what it needs to undo a move in arrays allocated once with the 
+ * board, so making and unmaking a move never allocates anything, a promotion aside. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public class BitboardBoardModel implements ChessBoard {
+    public final static int numberOfPieceTypes = 6;
+    public final static int noPiece = -1;
+    private final static int maxNumberOfMoves = 1024;
+    private final static int maxKeptHistory = maxNumberOfMoves / 2;
+
+    private final long[] pieceBitboards = new long[2 * numberOfPieceTypes];
+    private final long[] colourBitboards = new long[2];
+    private long occupancy = 0;
+    private final ChessSquareModel[] squareList = new ChessSquareModel[ChessBoardModel.numberOfRows * ChessBoardModel.numberOfRows];
+    private final int[] pieceCodes = new int[ChessBoardModel.numberOfRows * ChessBoardModel.numberOfRows];
+    private final NullPiece emptyPiece = NullPiece.getInstance();
+
+    private final BoardState boardState;
+    private Colour sideToMove;
+
+    private final int[] undoMoves = new int[maxNumberOfMoves];
+    private final int[] undoCapturedCodes = new int[maxNumberOfMoves];
+    private final int[] undoCastlingRights = new int[maxNumberOfMoves];
+    private final int[] undoEnPassantSquares = new int[maxNumberOfMoves];
+    private final int[] undoHalfmoveClocks = new int[maxNumberOfMoves];
+    private final boolean[] undoHasMoved = new boolean[maxNumberOfMoves];
+    private final boolean[] undoRookHasMoved = new boolean[maxNumberOfMoves];
+    private final ChessABSPieceModel[] undoMovedPieces = new ChessABSPieceModel[maxNumberOfMoves];
+    private final ChessABSPieceModel[] undoCapturedPieces = new ChessABSPieceModel[maxNumberOfMoves];
+    private int undoSize = 0;
+
+    private final long[] keyHistory = new long[maxNumberOfMoves];
+    private int keyHistorySize = 0;
+
+    /**
+     * Constructor of a BitboardBoardModel. It initiates the pieces as if we where playing standard 
+     * chess, see ChessBoardModel for the placement of the pieces. 
+     */
+    public BitboardBoardModel() {
+        this(new ChessBoardModel());
+    }
+
+    /**
+     * Constructor of a BitboardBoardModel that copies the position of another board, with white to move. 
+     * 
+     * @param source The ChessBoard to copy the position of. 
+     */
+    public BitboardBoardModel(ChessBoard source) {
+        this(source, Colour.WHITE);
+    }
+
+    /**
+     * Constructor of a BitboardBoardModel that copies the position of another board. The pieces are 
+     * copied as well, meaning both boards can be played on independently. 
+     * 
+     * The BoardState of the source board is copied. The castling rights are only kept for the kings 
+     * and rooks standing on their starting squares without having moved and the en-passant square is 
+     * only kept if a pawn of the opponent of the side to move stands in front of it. The Zobrist keys 
+     * and the piece-square scores are then computed for the copied position. 
+     * 
+     * @param source The ChessBoard to copy the position of. 
+     * @param sideToMove The Colour of the player who plays the next move. 
+     */
+    public BitboardBoardModel(ChessBoard source, Colour sideToMove) {
+        ChessSquareModel[] sourceList = source.getSquareList();
+        Arrays.fill(this.pieceCodes, noPiece);
+        this.boardState = new BoardState(source.getBoardState());
+
+        for (int index = 0; index < this.squareList.length; index++) {
+            ChessSquareModel square = new ChessSquareModel(index % ChessBoardModel.numberOfRows, index / ChessBoardModel.numberOfRows);
+            square.piece = BitboardBoardModel.copyPiece(sourceList[index].getPiece());
+            this.squareList[index] = square;
+            this.addPiece(index, square.piece);
+        }
+
+        this.sideToMove = sideToMove;
+        this.boardState.setCastlingRights(this.boardState.getCastlingRights() & this.findCastlingRights());
+        this.boardState.setEnPassantSquare(this.findEnPassantSquare());
+        this.boardState.setZobristKey(ZobristHelper.computeKey(this, sideToMove));
+        this.boardState.setPawnKey(ZobristHelper.computePawnKey(this));
+        PieceSquareTableHelper.computeScores(this);
+    }
+
+    /**
+     * Creates an independent copy of the board in its current position, with the same side to move. The 
+     * copy also knows the positions reached by the native moves made on this board, so it detects the same 
+     * repetitions, but these moves cannot be unmade on the copy. 
+     * 
+     * @return The copy of the board. 
+     */
+    public BitboardBoardModel copy() {
+        BitboardBoardModel copy = new BitboardBoardModel(this, this.sideToMove);
+        System.arraycopy(this.keyHistory, 0, copy.keyHistory, 0, this.keyHistorySize);
+        copy.keyHistorySize = this.keyHistorySize;
+        return copy;
+    }
+
+    /**
+     * Returns the bitboard of the pieces of a given type and colour. 
+     * 
+     * @param pieceName The PieceName of the pieces. 
+     * @param colour The Colour of the pieces. 
+     * @return The bitboard of the pieces. 
+     */
+    public long getPieceBitboard(PieceName pieceName, Colour colour) {
+        return this.pieceBitboards[colour.ordinal() * numberOfPieceTypes + pieceName.ordinal()];
+    }
+
+    /**
+     * Returns the bitboard of every piece of a given colour. 
+     * 
+     * @param colour The Colour of the pieces. 
+     * @return The bitboard of the pieces. 
+     */
+    public long getColourBitboard(Colour colour) {
+        return this.colourBitboards[colour.ordinal()];
+    }
+
+    @Override
+    public long getOccupancy() {
+        return this.occupancy;
+    }
+
+    @Override
+    public BoardState getBoardState() {
+        return this.boardState;
+    }
+
+    @Override
+    public ChessSquareModel getSquareModel(Position position) {
+        return this.squareList[BitboardHelper.getIndex(position)];
+    }
+
+    @Override
+    public ChessSquareModel[] getSquareList() {
+        return this.squareList;
+    }
+
+    /**
+     * Locates the king of the given colour with a bit scan of its bitboard. If there is no 
+     * such king on the board, it returns null. 
+     */
+    @Override
+    public ChessSquareModel getSquareOfKing(Colour colourOfKing) {
+        long king = this.getPieceBitboard(PieceName.KING, colourOfKing);
+        return king == 0 ? null : this.squareList[Long.numberOfTrailingZeros(king)];
+    }
+
+    /**
+     * Checks if a square is attacked by looking at it from the point of view of every type of piece, 
+     * see getAttackers. 
+     */
+    @Override
+    public boolean isSquareUnderAttackBy(ChessSquareModel observedSquare, Colour colourOfAttacker) {
+        return this.getAttackers(BitboardHelper.getIndex(observedSquare.getPosition()), colourOfAttacker) != 0;
+    }
+
+    /**
+     * The bitboards already give the attackers of a square in a few lookups, so this board does not 
+     * keep an AttackMap and counts the bits of getAttackers instead. 
+     */
+    @Override
+    public int getAttackCount(ChessSquareModel observedSquare, Colour colourOfAttacker) {
+        return Long.bitCount(this.getAttackers(BitboardHelper.getIndex(observedSquare.getPosition()), colourOfAttacker));
+    }
+
+    /**
+     * Returns the bitboard of the pieces of the provided colour attacking a square. A knight standing 
+     * on the observed square would attack every knight that attacks the square, the same goes for the 
+     * other types of pieces. Pawns are the exception as their attacks depend on their colour, we use 
+     * the attacks of a pawn of the other colour. 
+     * 
+     * @param index The index of the observed square. 
+     * @param colourOfAttacker The Colour of the attacking pieces. 
+     * @return The bitboard of the attacking pieces. 
+     */
+    public long getAttackers(int index, Colour colourOfAttacker) {
+        Colour colourOfDefender = colourOfAttacker == Colour.WHITE ? Colour.BLACK : Colour.WHITE;
+        long queens = this.getPieceBitboard(PieceName.QUEEN, colourOfAttacker);
+
+        return (BitboardHelper.getPawnAttacks(index, colourOfDefender) & this.getPieceBitboard(PieceName.PAWN, colourOfAttacker))
+                | (BitboardHelper.getKnightAttacks(index) & this.getPieceBitboard(PieceName.KNIGHT, colourOfAttacker))
+                | (BitboardHelper.getKingAttacks(index) & this.getPieceBitboard(PieceName.KING, colourOfAttacker))
+                | (MagicBitboardHelper.getRookAttacks(index, this.occupancy) & (this.getPieceBitboard(PieceName.ROOK, colourOfAttacker) | queens))
+                | (MagicBitboardHelper.getBishopAttacks(index, this.occupancy) & (this.getPieceBitboard(PieceName.BISHOP, colourOfAttacker) | queens));
+    }
+
+    /**
+     * Returns the bitboard of the pieces of both colours attacking a square as if only the squares of the 
+     * provided occupancy were occupied. Removing a piece from the occupancy reveals the sliding pieces 
+     * standing behind it, which is what a static exchange evaluation needs. The pieces that are not part 
+     * of the occupancy may still be returned, the caller has to remove them. 
+     * 
+     * @param index The index of the observed square. 
+     * @param occupancy The bitboard of the squares considered occupied. 
+     * @return The bitboard of the attacking pieces. 
+     */
+    public long getAttackers(int index, long occupancy) {
+        long queens = this.getPieceBitboard(PieceName.QUEEN, Colour.WHITE) | this.getPieceBitboard(PieceName.QUEEN, Colour.BLACK);
+        long rooks = this.getPieceBitboard(PieceName.ROOK, Colour.WHITE) | this.getPieceBitboard(PieceName.ROOK, Colour.BLACK) | queens;
+        long bishops = this.getPieceBitboard(PieceName.BISHOP, Colour.WHITE) | this.getPieceBitboard(PieceName.BISHOP, Colour.BLACK) | queens;
+
+        return (BitboardHelper.getPawnAttacks(index, Colour.BLACK) & this.getPieceBitboard(PieceName.PAWN, Colour.WHITE))
+                | (BitboardHelper.getPawnAttacks(index, Colour.WHITE) & this.getPieceBitboard(PieceName.PAWN, Colour.BLACK))
+                | (BitboardHelper.getKnightAttacks(index) & (this.getPieceBitboard(PieceName.KNIGHT, Colour.WHITE) | this.getPieceBitboard(PieceName.KNIGHT, Colour.BLACK)))
+                | (BitboardHelper.getKingAttacks(index) & (this.getPieceBitboard(PieceName.KING, Colour.WHITE) | this.getPieceBitboard(PieceName.KING, Colour.BLACK)))
+                | (MagicBitboardHelper.getRookAttacks(index, occupancy) & rooks)
+                | (MagicBitboardHelper.getBishopAttacks(index, occupancy) & bishops);
+    }
+
+    /**
+     * @return The Colour of the player who plays the next native move. 
+     */
+    public Colour getSideToMove() {
+        return this.sideToMove;
+    }
+
+    /**
+     * Writes the current position of the board as a FEN string, with its side to move, see FenHelper. 
+     * 
+     * @return The FEN string of the position. 
+     */
+    public String toFen() {
+        return FenHelper.toFen(this, this.sideToMove);
+    }
+
+    /**
+     * @return The castling rights, see BoardState.getCastlingRights. 
+     */
+    public int getCastlingRights() {
+        return this.boardState.getCastlingRights();
+    }
+
+    /**
+     * @return The index of the square a pawn can move to by taking en-passant or BoardState.noSquare if there is none. 
+     */
+    public int getEnPassantSquare() {
+        return this.boardState.getEnPassantSquare();
+    }
+
+    /**
+     * @return The number of half moves since the last capture or pawn move. 
+     */
+    public int getHalfmoveClock() {
+        return this.boardState.getHalfmoveClock();
+    }
+
+    /**
+     * Returns the code of the piece standing on a square. The code of a piece is the index of its 
+     * bitboard, meaning colour * numberOfPieceTypes + type, both being ordinals of Colour and PieceName. 
+     * 
+     * @param index The index of the square. 
+     * @return The code of the piece or noPiece if the square is empty. 
+     */
+    public int getPieceCode(int index) {
+        return this.pieceCodes[index];
+    }
+
+    /**
+     * Checks if the king of the provided colour is attacked by the pieces of its opponent. 
+     * 
+     * @param colourOfKing The Colour of the king. 
+     * @return True if the king is attacked, false otherwise. 
+     */
+    public boolean isKingAttacked(Colour colourOfKing) {
+        long king = this.getPieceBitboard(PieceName.KING, colourOfKing);
+        Colour colourOfAttacker = colourOfKing == Colour.WHITE ? Colour.BLACK : Colour.WHITE;
+        return king != 0 && this.getAttackers(Long.numberOfTrailingZeros(king), colourOfAttacker) != 0;
+    }
+
+    /**
+     * @return True if the side to move is in check, false otherwise. 
+     */
+    public boolean isInCheck() {
+        return this.isKingAttacked(this.sideToMove);
+    }
+
+    /**
+     * Checks if the current position is a repetition among the positions reached by the native moves made 
+     * on the board since the last capture or pawn move. The positions are compared with their Zobrist key. 
+     * 
+     * The last plies moves are the ones of a search: a single earlier occurrence after the root of the search 
+     * is enough, as the side that could repeat the position can repeat it again. A position played before 
+     * the root, which is part of the game, must have appeared twice already, making the current one the 
+     * third occurrence the rules require. 
+     * 
+     * @param plies The number of moves made since the root of the search. 
+     * @return True if the position is a repetition, false otherwise. 
+     */
+    public boolean isRepetition(int plies) {
+        long key = this.boardState.getZobristKey();
+        int oldest = Math.max(0, this.keyHistorySize - this.boardState.getHalfmoveClock());
+        int root = this.keyHistorySize - plies;
+        int occurrences = 0;
+
+        for (int i = this.keyHistorySize - 2; i >= oldest; i -= 2) {
+            if (this.keyHistory[i] == key && (i > root || ++occurrences == 2)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Forgets the native moves made on the board so far, which cannot be unmade anymore. Only the keys of 
+     * the positions reached since the last capture or pawn move are kept, as no earlier position can be 
+     * repeated, and at most maxKeptHistory of them, which leaves room on the undo stack for a search. It is 
+     * meant to be called after every move of a game, whose length the undo stack would otherwise bound. 
+     */
+    public void forgetMoves() {
+        int kept = Math.min(maxKeptHistory, Math.min(this.keyHistorySize, this.boardState.getHalfmoveClock()));
+        System.arraycopy(this.keyHistory, this.keyHistorySize - kept, this.keyHistory, 0, kept);
+        this.keyHistorySize = kept;
+
+        Arrays.fill(this.undoMovedPieces, 0, this.undoSize, null);
+        Arrays.fill(this.undoCapturedPieces, 0, this.undoSize, null);
+        this.undoSize = 0;
+    }
+
+    /**
+     * Makes a packed move for the side to move. The move must have been generated by BitboardMoveGenerator 
+     * for the current position, it is not verified. Everything needed to unmake the move is pushed on the 
+     * undo stack of the board. 
+     * 
+     * If the move leaves the king of the player under attack, it is still made and isKingAttacked tells it. 
+     * 
+     * @param move The packed move to make. 
+     */
+    public void makeMove(int move) {
+        if (this.undoSize == maxNumberOfMoves || this.keyHistorySize == maxNumberOfMoves) {
+            throw new RuntimeException("Cannot make move, the undo stack of the board is full");
+        }
+
+        int from = PackedMove.getFrom(move);
+        int to = PackedMove.getTo(move);
+        int flags = PackedMove.getFlags(move);
+        int pieceCode = this.pieceCodes[from];
+        int capturedIndex = flags == PackedMove.enPassant ? (this.sideToMove == Colour.WHITE ? to + 8 : to - 8) : to;
+        ChessABSPieceModel piece = this.squareList[from].piece;
+
+        this.undoMoves[this.undoSize] = move;
+        this.undoCapturedCodes[this.undoSize] = this.pieceCodes[capturedIndex];
+        this.undoCapturedPieces[this.undoSize] = this.squareList[capturedIndex].piece;
+        this.undoMovedPieces[this.undoSize] = piece;
+        this.undoHasMoved[this.undoSize] = piece.hasMoved;
+        this.undoCastlingRights[this.undoSize] = this.boardState.getCastlingRights();
+        this.undoEnPassantSquares[this.undoSize] = this.boardState.getEnPassantSquare();
+        this.undoHalfmoveClocks[this.undoSize] = this.boardState.getHalfmoveClock();
+        this.keyHistory[this.keyHistorySize++] = this.boardState.getZobristKey();
+
+        if (this.pieceCodes[capturedIndex] != noPiece) {
+            this.removeCode(capturedIndex);
+        }
+
+        this.moveCode(from, to);
+        piece.hasMoved = true;
+
+        if (PackedMove.isPromotion(move)) {
+            int promotionCode = this.sideToMove.ordinal() * numberOfPieceTypes + PackedMove.getPromotion(move).ordinal();
+            this.removeCode(to);
+            this.placeCode(to, promotionCode, BitboardBoardModel.createPiece(PackedMove.getPromotion(move), this.sideToMove));
+        } else if (flags == PackedMove.kingCastle || flags == PackedMove.queenCastle) {
+            int rookFrom = flags == PackedMove.kingCastle ? to + 1 : to - 2;
+            int rookTo = flags == PackedMove.kingCastle ? to - 1 : to + 1;
+            this.undoRookHasMoved[this.undoSize] = this.squareList[rookFrom].piece.hasMoved;
+            this.moveCode(rookFrom, rookTo);
+            this.squareList[rookTo].piece.hasMoved = true;
+        }
+
+        this.boardState.setCastlingRights(this.boardState.getCastlingRights() & BoardState.getCastlingMask(from) & BoardState.getCastlingMask(to));
+        this.boardState.setEnPassantSquare(flags == PackedMove.doublePawnPush ? (from + to) / 2 : BoardState.noSquare);
+        this.boardState.setHalfmoveClock(pieceCode % numberOfPieceTypes == PieceName.PAWN.ordinal() || PackedMove.isCapture(move) ? 0 : this.boardState.getHalfmoveClock() + 1);
+        this.boardState.setMoveCount(this.boardState.getMoveCount() + 1);
+        this.sideToMove = this.sideToMove == Colour.WHITE ? Colour.BLACK : Colour.WHITE;
+        this.boardState.toggleSideToMove();
+        this.undoSize++;
+    }
+
+    /**
+     * Unmakes the last packed move made on the board and restores the state it had before the move. 
+     */
+    public void unmakeMove() {
+        if (this.undoSize == 0) {
+            throw new RuntimeException("Cannot unmake move, no move was made on the board");
+        }
+
+        this.undoSize--;
+        this.keyHistorySize--;
+        this.sideToMove = this.sideToMove == Colour.WHITE ? Colour.BLACK : Colour.WHITE;
+        this.boardState.toggleSideToMove();
+
+        int move = this.undoMoves[this.undoSize];
+        int from = PackedMove.getFrom(move);
+        int to = PackedMove.getTo(move);
+        int flags = PackedMove.getFlags(move);
+
+        if (PackedMove.isPromotion(move)) {
+            this.removeCode(to);
+            this.placeCode(to, this.sideToMove.ordinal() * numberOfPieceTypes + PieceName.PAWN.ordinal(), this.undoMovedPieces[this.undoSize]);
+        } else if (flags == PackedMove.kingCastle || flags == PackedMove.queenCastle) {
+            int rookFrom = flags == PackedMove.kingCastle ? to + 1 : to - 2;
+            int rookTo = flags == PackedMove.kingCastle ? to - 1 : to + 1;
+            this.moveCode(rookTo, rookFrom);
+            this.squareList[rookFrom].piece.hasMoved = this.undoRookHasMoved[this.undoSize];
+        }
+
+        this.moveCode(to, from);
+        this.undoMovedPieces[this.undoSize].hasMoved = this.undoHasMoved[this.undoSize];
+
+        int capturedCode = this.undoCapturedCodes[this.undoSize];
+        if (capturedCode != noPiece) {
+            int capturedIndex = flags == PackedMove.enPassant ? (this.sideToMove == Colour.WHITE ? to + 8 : to - 8) : to;
+            this.placeCode(capturedIndex, capturedCode, this.undoCapturedPieces[this.undoSize]);
+        }
+
+        this.boardState.setCastlingRights(this.undoCastlingRights[this.undoSize]);
+        this.boardState.setEnPassantSquare(this.undoEnPassantSquares[this.undoSize]);
+        this.boardState.setHalfmoveClock(this.undoHalfmoveClocks[this.undoSize]);
+        this.boardState.setMoveCount(this.boardState.getMoveCount() - 1);
+        this.undoMovedPieces[this.undoSize] = null;
+        this.undoCapturedPieces[this.undoSize] = null;
+    }
+
+    /**
+     * Moves the piece of a square to an empty square, in the bitboards and in the square list. 
+     * 
+     * @param from The index of the square of the piece. 
+     * @param to The index of the empty square. 
+     */
+    private void moveCode(int from, int to) {
+        int code = this.pieceCodes[from];
+        ChessABSPieceModel piece = this.squareList[from].piece;
+        this.removeCode(from);
+        this.placeCode(to, code, piece);
+    }
+
+    /**
+     * Places a piece on an empty square, in the bitboards, in the square list and in the BoardState. 
+     * 
+     * @param index The index of the square. 
+     * @param code The code of the piece. 
+     * @param piece The ChessABSPieceModel placed on the square. 
+     */
+    private void placeCode(int index, int code, ChessABSPieceModel piece) {
+        this.toggleCode(index, code);
+        this.boardState.addPiece(code, index);
+        this.pieceCodes[index] = code;
+        this.squareList[index].piece = piece;
+    }
+
+    /**
+     * Removes the piece of a square, in the bitboards, in the square list and in the BoardState. 
+     * 
+     * @param index The index of the square. 
+     */
+    private void removeCode(int index) {
+        this.toggleCode(index, this.pieceCodes[index]);
+        this.boardState.removePiece(this.pieceCodes[index], index);
+        this.pieceCodes[index] = noPiece;
+        this.squareList[index].piece = this.emptyPiece;
+    }
+
+    /**
+     * The position of the kings is read from their bitboards, there is nothing to update. 
+     */
+    @Override
+    public void updatePositionOfKing(Colour colourOfKing) {
+        // Do nothing.
+    }
+
+    @Override
+    public ChessSquareModel swappSquare(ChessSquareModel newSquare) {
+        int index = BitboardHelper.getIndex(newSquare.getPosition());
+        ChessSquareModel oldSquare = this.squareList[index];
+
+        this.removePiece(index, oldSquare.getPiece());
+        this.squareList[index] = newSquare;
+        this.addPiece(index, newSquare.getPiece());
+
+        return oldSquare;
+    }
+
+    @Override
+    public void swappSquares(Position first, Position second) {
+        int firstIndex = BitboardHelper.getIndex(first);
+        int secondIndex = BitboardHelper.getIndex(second);
+        ChessSquareModel firstSquare = this.squareList[firstIndex];
+        ChessSquareModel secondSquare = this.squareList[secondIndex];
+
+        this.removePiece(firstIndex, firstSquare.getPiece());
+        this.removePiece(secondIndex, secondSquare.getPiece());
+
+        this.squareList[firstIndex] = secondSquare;
+        this.squareList[secondIndex] = firstSquare;
+        secondSquare.position = first;
+        firstSquare.position = second;
+
+        this.addPiece(firstIndex, secondSquare.getPiece());
+        this.addPiece(secondIndex, firstSquare.getPiece());
+    }
+
+    /**
+     * Sets the bit of the given square in the bitboards of the provided piece and adds it to the BoardState. 
+     * 
+     * @param index The index of the square. 
+     * @param piece The ChessABSPieceModel placed on the square. 
+     */
+    private void addPiece(int index, ChessABSPieceModel piece) {
+        this.togglePiece(index, piece);
+        this.boardState.addPiece(piece, index);
+        this.pieceCodes[index] = BitboardBoardModel.getPieceCode(piece);
+    }
+
+    /**
+     * Clears the bit of the given square in the bitboards of the provided piece and removes it from the BoardState. 
+     * 
+     * @param index The index of the square. 
+     * @param piece The ChessABSPieceModel removed from the square. 
+     */
+    private void removePiece(int index, ChessABSPieceModel piece) {
+        this.togglePiece(index, piece);
+        this.boardState.removePiece(piece, index);
+        this.pieceCodes[index] = noPiece;
+    }
+
+    /**
+     * Flips the bit of the given square in the bitboards of the provided piece. A NullPiece 
+     * is not part of any bitboard. 
+     * 
+     * @param index The index of the square. 
+     * @param piece The ChessABSPieceModel on the square. 
+     */
+    private void togglePiece(int index, ChessABSPieceModel piece) {
+        int code = BitboardBoardModel.getPieceCode(piece);
+        if (code != noPiece) {
+            this.toggleCode(index, code);
+        }
+    }
+
+    /**
+     * Flips the bit of the given square in the bitboards of the piece of the provided code. 
+     * 
+     * @param index The index of the square. 
+     * @param code The code of the piece, see getPieceCode. 
+     */
+    private void toggleCode(int index, int code) {
+        long bit = 1L << index;
+        this.pieceBitboards[code] ^= bit;
+        this.colourBitboards[code / numberOfPieceTypes] ^= bit;
+        this.occupancy ^= bit;
+    }
+
+    /**
+     * Returns the code of a piece, see getPieceCode(int). 
+     * 
+     * @param piece The ChessABSPieceModel we want the code of. 
+     * @return The code of the piece or noPiece for a NullPiece. 
+     */
+    private static int getPieceCode(ChessABSPieceModel piece) {
+        PieceName pieceName = piece.getPieceName();
+        if (pieceName == PieceName.NULL) {
+            return noPiece;
+        }
+        return piece.getColour().ordinal() * numberOfPieceTypes + pieceName.ordinal();
+    }
+
+    /**
+     * Finds the castling rights of the position by looking for the kings and rooks that are on their 
+     * starting squares and have not moved. 
+     * 
+     * @return The castling rights of the position. 
+     */
+    private int findCastlingRights() {
+        int rights = 0;
+
+        if (this.isUnmoved(60, PieceName.KING, Colour.WHITE)) {
+            rights |= this.isUnmoved(63, PieceName.ROOK, Colour.WHITE) ? BoardState.whiteKingSide : 0;
+            rights |= this.isUnmoved(56, PieceName.ROOK, Colour.WHITE) ? BoardState.whiteQueenSide : 0;
+        }
+        if (this.isUnmoved(4, PieceName.KING, Colour.BLACK)) {
+            rights |= this.isUnmoved(7, PieceName.ROOK, Colour.BLACK) ? BoardState.blackKingSide : 0;
+            rights |= this.isUnmoved(0, PieceName.ROOK, Colour.BLACK) ? BoardState.blackQueenSide : 0;
+        }
+
+        return rights;
+    }
+
+    /**
+     * @param index The index of a square. 
+     * @param pieceName The PieceName expected on the square. 
+     * @param colour The Colour expected on the square. 
+     * @return True if the square holds a piece of that type and colour that has not moved. 
+     */
+    private boolean isUnmoved(int index, PieceName pieceName, Colour colour) {
+        return this.pieceCodes[index] == colour.ordinal() * numberOfPieceTypes + pieceName.ordinal() && !this.squareList[index].piece.hasMoved;
+    }
+
+    /**
+     * Finds the en-passant square of the position. It is the en-passant square of the BoardState if a pawn 
+     * of the opponent of the side to move stands in front of it, meaning the pawn did its double move on 
+     * the last move played. 
+     * 
+     * @return The index of the en-passant square or BoardState.noSquare if there is none. 
+     */
+    private int findEnPassantSquare() {
+        int enPassantSquare = this.boardState.getEnPassantSquare();
+        if (enPassantSquare == BoardState.noSquare) {
+            return BoardState.noSquare;
+        }
+
+        Colour opponent = this.sideToMove == Colour.WHITE ? Colour.BLACK : Colour.WHITE;
+        int indexOfPawn = opponent == Colour.WHITE ? enPassantSquare - 8 : enPassantSquare + 8;
+        if ((this.getPieceBitboard(PieceName.PAWN, opponent) & (1L << indexOfPawn)) == 0) {
+            return BoardState.noSquare;
+        }
+
+        return enPassantSquare;
+    }
+
+    /**
+     * Creates a new piece of the provided type and colour. 
+     * 
+     * @param pieceName The PieceName of the piece. 
+     * @param colour The Colour of the piece. 
+     * @return The new piece. 
+     */
+    private static ChessABSPieceModel createPiece(PieceName pieceName, Colour colour) {
+        switch (pieceName) {
+            case KING:
+                return new King(colour);
+            case QUEEN:
+                return new Queen(colour);
+            case ROOK:
+                return new Rook(colour);
+            case BISHOP:
+                return new Bishop(colour);
+            case KNIGHT:
+                return new Knight(colour);
+            case PAWN:
+                return new Pawn(colour);
+            default:
+                return NullPiece.getInstance();
+        }
+    }
+
+    /**
+     * Creates a new piece of the same type and colour as the provided one and copies its state. 
+     * 
+     * @param piece The ChessABSPieceModel to copy. 
+     * @return The copy of the piece. 
+     */
+    private static ChessABSPieceModel copyPiece(ChessABSPieceModel piece) {
+        ChessABSPieceModel copy = BitboardBoardModel.createPiece(piece.getPieceName(), piece.getColour());
+
+        copy.hasMoved = piece.hasMoved;
+        return copy;
+    }
+}
@@ -0,0 +1,317 @@
+package ChessGameJava.Logic;
+
+import ChessGameJava.Logic.Moves.PackedMove;
+import ChessGameJava.Utility.BitboardHelper;
+import ChessGameJava.Utility.MagicBitboardHelper;
+import ChessGameJava.Utility.PieceName;
+
+/**
+ * A class that acts as a helper to generate the packed moves of the side to move of a BitboardBoardModel. 
+ * The moves are written in an int array provided by the caller, meaning the generation does not allocate 
+ * anything. The generation follows the FIDE rules: promotions, en-passant and castling on the first row 
+ * with the king and the rook on their starting squares. 
+ * 
+ * The generated moves are pseudo-legal, they may leave the king of the player under attack. A move is 
+ * legal if, once made, BitboardBoardModel.isKingAttacked returns false for the player, which is what 
+ * generateLegalMoves checks. An array of maxNumberOfMoves ints is always large enough. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public abstract class BitboardMoveGenerator {
+    public final static int maxNumberOfMoves = 256;
+
+    private final static long rowOfWhiteDoubleMove = 0xFFL << 40;
+    private final static long rowOfBlackDoubleMove = 0xFFL << 16;
+    private final static long rowOfWhitePromotion = 0xFFL;
+    private final static long rowOfBlackPromotion = 0xFFL << 56;
+
+    /**
+     * Writes every pseudo-legal move of the side to move of the board in the provided array. 
+     * 
+     * @param board The BitboardBoardModel we want the moves of. 
+     * @param moves The array the packed moves are written in, starting at the index 0. 
+     * @return The number of moves written. 
+     */
+    public static int generateMoves(BitboardBoardModel board, int[] moves) {
+        Colour colour = board.getSideToMove();
+        Colour opponent = colour == Colour.WHITE ? Colour.BLACK : Colour.WHITE;
+        long targets = ~board.getColourBitboard(colour);
+        long enemies = board.getColourBitboard(opponent);
+        long occupancy = board.getOccupancy();
+
+        int count = BitboardMoveGenerator.generatePawnMoves(board, moves, 0, colour, enemies, occupancy);
+        count = BitboardMoveGenerator.generatePieceMoves(board, moves, count, colour, targets, enemies, occupancy);
+
+        long king = board.getPieceBitboard(PieceName.KING, colour);
+        if (king != 0) {
+            int from = Long.numberOfTrailingZeros(king);
+            count = BitboardMoveGenerator.addMoves(moves, count, from, BitboardHelper.getKingAttacks(from) & targets, enemies);
+            count = BitboardMoveGenerator.generateCastleMoves(board, moves, count, colour, opponent, occupancy);
+        }
+
+        return count;
+    }
+
+    /**
+     * Writes the pseudo-legal captures of the side to move of the board in the provided array, en-passant 
+     * included, as well as the promotions to a queen. These are the moves a quiescence search looks at. 
+     * 
+     * @param board The BitboardBoardModel we want the captures of. 
+     * @param moves The array the packed moves are written in, starting at the index 0. 
+     * @return The number of moves written. 
+     */
+    public static int generateCaptures(BitboardBoardModel board, int[] moves) {
+        Colour colour = board.getSideToMove();
+        Colour opponent = colour == Colour.WHITE ? Colour.BLACK : Colour.WHITE;
+        long enemies = board.getColourBitboard(opponent);
+        long occupancy = board.getOccupancy();
+        boolean isWhite = colour == Colour.WHITE;
+        long promotionRow = isWhite ? rowOfWhitePromotion : rowOfBlackPromotion;
+        int forward = isWhite ? -8 : 8;
+        int count = 0;
+
+        long pawns = board.getPieceBitboard(PieceName.PAWN, colour);
+        long promotions = (isWhite ? pawns >>> 8 : pawns << 8) & ~occupancy & promotionRow;
+        while (promotions != 0) {
+            int to = Long.numberOfTrailingZeros(promotions);
+            moves[count++] = PackedMove.create(to - forward, to, PackedMove.queenPromotion);
+            promotions &= promotions - 1;
+        }
+
+        while (pawns != 0) {
+            int from = Long.numberOfTrailingZeros(pawns);
+            long captures = BitboardHelper.getPawnAttacks(from, colour) & enemies;
+            while (captures != 0) {
+                int to = Long.numberOfTrailingZeros(captures);
+                moves[count++] = PackedMove.create(from, to, (promotionRow & (1L << to)) != 0 ? PackedMove.queenPromotionCapture : PackedMove.capture);
+                captures &= captures - 1;
+            }
+            pawns &= pawns - 1;
+        }
+
+        int enPassantSquare = board.getEnPassantSquare();
+        if (enPassantSquare != BoardState.noSquare) {
+            long attackers = BitboardHelper.getPawnAttacks(enPassantSquare, opponent) & board.getPieceBitboard(PieceName.PAWN, colour);
+            while (attackers != 0) {
+                moves[count++] = PackedMove.create(Long.numberOfTrailingZeros(attackers), enPassantSquare, PackedMove.enPassant);
+                attackers &= attackers - 1;
+            }
+        }
+
+        count = BitboardMoveGenerator.generatePieceMoves(board, moves, count, colour, enemies, enemies, occupancy);
+
+        long king = board.getPieceBitboard(PieceName.KING, colour);
+        if (king != 0) {
+            int from = Long.numberOfTrailingZeros(king);
+            count = BitboardMoveGenerator.addMoves(moves, count, from, BitboardHelper.getKingAttacks(from) & enemies, enemies);
+        }
+
+        return count;
+    }
+
+    /**
+     * Writes every legal move of the side to move of the board in the provided array. Every pseudo-legal 
+     * move is made and unmade to verify that it does not leave the king of the player under attack. 
+     * 
+     * @param board The BitboardBoardModel we want the moves of. 
+     * @param moves The array the packed moves are written in, starting at the index 0. 
+     * @return The number of moves written. 
+     */
+    public static int generateLegalMoves(BitboardBoardModel board, int[] moves) {
+        int numberOfMoves = BitboardMoveGenerator.generateMoves(board, moves);
+        Colour colour = board.getSideToMove();
+        int count = 0;
+
+        for (int i = 0; i < numberOfMoves; i++) {
+            board.makeMove(moves[i]);
+            if (!board.isKingAttacked(colour)) {
+                moves[count++] = moves[i];
+            }
+            board.unmakeMove();
+        }
+
+        return count;
+    }
+
+    /**
+     * Writes the moves of the knights, bishops, rooks and queens of the player to the provided squares. 
+     * 
+     * @param board The BitboardBoardModel we want the moves of. 
+     * @param moves The array the packed moves are written in. 
+     * @param count The number of moves already written. 
+     * @param colour The Colour of the player. 
+     * @param targets The bitboard of the squares the pieces may go to. 
+     * @param enemies The bitboard of the pieces of the opponent. 
+     * @param occupancy The bitboard of every occupied square. 
+     * @return The number of moves written. 
+     */
+    private static int generatePieceMoves(BitboardBoardModel board, int[] moves, int count, Colour colour, long targets, long enemies, long occupancy) {
+        long knights = board.getPieceBitboard(PieceName.KNIGHT, colour);
+        while (knights != 0) {
+            int from = Long.numberOfTrailingZeros(knights);
+            count = BitboardMoveGenerator.addMoves(moves, count, from, BitboardHelper.getKnightAttacks(from) & targets, enemies);
+            knights &= knights - 1;
+        }
+
+        long bishops = board.getPieceBitboard(PieceName.BISHOP, colour);
+        while (bishops != 0) {
+            int from = Long.numberOfTrailingZeros(bishops);
+            count = BitboardMoveGenerator.addMoves(moves, count, from, MagicBitboardHelper.getBishopAttacks(from, occupancy) & targets, enemies);
+            bishops &= bishops - 1;
+        }
+
+        long rooks = board.getPieceBitboard(PieceName.ROOK, colour);
+        while (rooks != 0) {
+            int from = Long.numberOfTrailingZeros(rooks);
+            count = BitboardMoveGenerator.addMoves(moves, count, from, MagicBitboardHelper.getRookAttacks(from, occupancy) & targets, enemies);
+            rooks &= rooks - 1;
+        }
+
+        long queens = board.getPieceBitboard(PieceName.QUEEN, colour);
+        while (queens != 0) {
+            int from = Long.numberOfTrailingZeros(queens);
+            count = BitboardMoveGenerator.addMoves(moves, count, from, MagicBitboardHelper.getQueenAttacks(from, occupancy) & targets, enemies);
+            queens &= queens - 1;
+        }
+
+        return count;
+    }
+
+    /**
+     * Writes the moves of the pawns of the player: the moves forward, the captures, the en-passant 
+     * captures and the promotions. 
+     * 
+     * @param board The BitboardBoardModel we want the moves of. 
+     * @param moves The array the packed moves are written in. 
+     * @param count The number of moves already written. 
+     * @param colour The Colour of the player. 
+     * @param enemies The bitboard of the pieces of the opponent. 
+     * @param occupancy The bitboard of every occupied square. 
+     * @return The number of moves written. 
+     */
+    private static int generatePawnMoves(BitboardBoardModel board, int[] moves, int count, Colour colour, long enemies, long occupancy) {
+        long pawns = board.getPieceBitboard(PieceName.PAWN, colour);
+        long empty = ~occupancy;
+        boolean isWhite = colour == Colour.WHITE;
+        int forward = isWhite ? -8 : 8;
+
+        long singleMoves = isWhite ? (pawns >>> 8) & empty : (pawns << 8) & empty;
+        long doubleMoves = isWhite ? ((singleMoves & rowOfWhiteDoubleMove) >>> 8) & empty : ((singleMoves & rowOfBlackDoubleMove) << 8) & empty;
+        long promotionRow = isWhite ? rowOfWhitePromotion : rowOfBlackPromotion;
+
+        while (singleMoves != 0) {
+            int to = Long.numberOfTrailingZeros(singleMoves);
+            count = BitboardMoveGenerator.addPawnMove(moves, count, to - forward, to, PackedMove.quiet, promotionRow);
+            singleMoves &= singleMoves - 1;
+        }
+
+        while (doubleMoves != 0) {
+            int to = Long.numberOfTrailingZeros(doubleMoves);
+            moves[count++] = PackedMove.create(to - 2 * forward, to, PackedMove.doublePawnPush);
+            doubleMoves &= doubleMoves - 1;
+        }
+
+        while (pawns != 0) {
+            int from = Long.numberOfTrailingZeros(pawns);
+            long captures = BitboardHelper.getPawnAttacks(from, colour) & enemies;
+            while (captures != 0) {
+                int to = Long.numberOfTrailingZeros(captures);
+                count = BitboardMoveGenerator.addPawnMove(moves, count, from, to, PackedMove.capture, promotionRow);
+                captures &= captures - 1;
+            }
+            pawns &= pawns - 1;
+        }
+
+        int enPassantSquare = board.getEnPassantSquare();
+        if (enPassantSquare != BoardState.noSquare) {
+            Colour opponent = isWhite ? Colour.BLACK : Colour.WHITE;
+            long attackers = BitboardHelper.getPawnAttacks(enPassantSquare, opponent) & board.getPieceBitboard(PieceName.PAWN, colour);
+            while (attackers != 0) {
+                moves[count++] = PackedMove.create(Long.numberOfTrailingZeros(attackers), enPassantSquare, PackedMove.enPassant);
+                attackers &= attackers - 1;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Writes a move of a pawn, or the four promotions of the move if the pawn reaches the last row. 
+     * 
+     * @param moves The array the packed moves are written in. 
+     * @param count The number of moves already written. 
+     * @param from The index of the square of the pawn. 
+     * @param to The index of the square the pawn goes to. 
+     * @param flags PackedMove.quiet or PackedMove.capture. 
+     * @param promotionRow The bitboard of the row where the pawns of the player are promoted. 
+     * @return The number of moves written. 
+     */
+    private static int addPawnMove(int[] moves, int count, int from, int to, int flags, long promotionRow) {
+        if ((promotionRow & (1L << to)) == 0) {
+            moves[count++] = PackedMove.create(from, to, flags);
+            return count;
+        }
+
+        moves[count++] = PackedMove.create(from, to, flags | PackedMove.queenPromotion);
+        moves[count++] = PackedMove.create(from, to, flags | PackedMove.knightPromotion);
+        moves[count++] = PackedMove.create(from, to, flags | PackedMove.rookPromotion);
+        moves[count++] = PackedMove.create(from, to, flags | PackedMove.bishopPromotion);
+        return count;
+    }
+
+    /**
+     * Writes a move from the provided square to every square of the provided bitboard. 
+     * 
+     * @param moves The array the packed moves are written in. 
+     * @param count The number of moves already written. 
+     * @param from The index of the square of the piece. 
+     * @param destinations The bitboard of the squares the piece can go to. 
+     * @param enemies The bitboard of the pieces of the opponent. 
+     * @return The number of moves written. 
+     */
+    private static int addMoves(int[] moves, int count, int from, long destinations, long enemies) {
+        while (destinations != 0) {
+            int to = Long.numberOfTrailingZeros(destinations);
+            moves[count++] = PackedMove.create(from, to, (enemies & (1L << to)) != 0 ? PackedMove.capture : PackedMove.quiet);
+            destinations &= destinations - 1;
+        }
+        return count;
+    }
+
+    /**
+     * Writes the castling moves of the player. A castling move is possible if the player still has the 
+     * right to castle on that side, the squares between the king and the rook are empty and the king is 
+     * not attacked on its square, the square it crosses and the square it lands on. 
+     * 
+     * @param board The BitboardBoardModel we want the moves of. 
+     * @param moves The array the packed moves are written in. 
+     * @param count The number of moves already written. 
+     * @param colour The Colour of the player. 
+     * @param opponent The Colour of the opponent. 
+     * @param occupancy The bitboard of every occupied square. 
+     * @return The number of moves written. 
+     */
+    private static int generateCastleMoves(BitboardBoardModel board, int[] moves, int count, Colour colour, Colour opponent, long occupancy) {
+        int rights = board.getCastlingRights();
+        int king = colour == Colour.WHITE ? 60 : 4;
+        int kingSide = colour == Colour.WHITE ? BoardState.whiteKingSide : BoardState.blackKingSide;
+        int queenSide = colour == Colour.WHITE ? BoardState.whiteQueenSide : BoardState.blackQueenSide;
+
+        if ((rights & (kingSide | queenSide)) == 0 || board.getAttackers(king, opponent) != 0) {
+            return count;
+        }
+
+        if ((rights & kingSide) != 0 && (occupancy & ((1L << (king + 1)) | (1L << (king + 2)))) == 0
+                && board.getAttackers(king + 1, opponent) == 0 && board.getAttackers(king + 2, opponent) == 0) {
+            moves[count++] = PackedMove.create(king, king + 2, PackedMove.kingCastle);
+        }
+
+        if ((rights & queenSide) != 0 && (occupancy & ((1L << (king - 1)) | (1L << (king - 2)) | (1L << (king - 3)))) == 0
+                && board.getAttackers(king - 1, opponent) == 0 && board.getAttackers(king - 2, opponent) == 0) {
+            moves[count++] = PackedMove.create(king, king - 2, PackedMove.queenCastle);
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,293 @@
+package ChessGameJava.Logic;
+
+import java.util.Arrays;
+
+import ChessGameJava.Logic.Pieces.ChessABSPieceModel;
+import ChessGameJava.Utility.PieceName;
+import ChessGameJava.Utility.PieceSquareTableHelper;
+import ChessGameJava.Utility.ZobristHelper;
+
+/**
+ * Class holding the state of a game that cannot be read from the pieces of its board: the number of 
+ * moves played, the square a pawn can move to by taking en-passant, the castling rights and the number 
+ * of half moves since the last capture or pawn move (the halfmove clock). 
+ * 
+ * Every board keeps its own BoardState, see ChessBoard.getBoardState. The moves update it when they are 
+ * executed and restore it when they are reverted. As nothing is shared between boards, games played on 
+ * different boards do not interfere with each other, even when they are played on different threads. 
+ * 
+ * The state also holds the Zobrist key of the position, see ZobristHelper. Changing the castling rights or 
+ * the en-passant square updates the key, the board updates it for the pieces and the moves for the side 
+ * to move, meaning the key always describes the current position without ever being computed again. 
+ * 
+ * The same goes for the middlegame and endgame scores of the pieces and the phase of the game, see 
+ * PieceSquareTableHelper. The board calls addPiece and removePiece for every piece a move adds or removes, 
+ * which updates the key and the scores at once, so evaluating a position never needs to look at its squares. 
+ * A second key made of the pawns only, the pawn key, is updated the same way. It only changes when a pawn 
+ * moves, promotes or is taken and identifies the pawn structure, see PawnHashTable. 
+ * A PieceListener can also be notified of these calls to keep a state of its own, see setPieceListener. 
+ * 
+ * The squares are given by their index, see BitboardHelper for the meaning of an index. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public class BoardState {
+    public final static int whiteKingSide = 1;
+    public final static int whiteQueenSide = 2;
+    public final static int blackKingSide = 4;
+    public final static int blackQueenSide = 8;
+    public final static int allCastlingRights = whiteKingSide | whiteQueenSide | blackKingSide | blackQueenSide;
+    public final static int noSquare = -1;
+    private final static int pawnType = PieceName.PAWN.ordinal();
+    private final static int[] castlingMasks = new int[ChessBoardModel.numberOfRows * ChessBoardModel.numberOfRows];
+
+    static {
+        Arrays.fill(castlingMasks, allCastlingRights);
+        castlingMasks[56] &= ~whiteQueenSide;
+        castlingMasks[60] &= ~(whiteKingSide | whiteQueenSide);
+        castlingMasks[63] &= ~whiteKingSide;
+        castlingMasks[0] &= ~blackQueenSide;
+        castlingMasks[4] &= ~(blackKingSide | blackQueenSide);
+        castlingMasks[7] &= ~blackKingSide;
+    }
+
+    private int moveCount = 0;
+    private int enPassantSquare = noSquare;
+    private int castlingRights = allCastlingRights;
+    private int halfmoveClock = 0;
+    private long zobristKey = ZobristHelper.getCastlingKey(allCastlingRights);
+    private long pawnKey = 0L;
+    private int midgameScore = 0;
+    private int endgameScore = 0;
+    private int phase = 0;
+    private PieceListener pieceListener = null;
+
+    /**
+     * Constructor of the state of a new game. No move has been played yet and both players may castle 
+     * on both sides. 
+     */
+    public BoardState() {
+    }
+
+    /**
+     * Constructor of a BoardState that copies the provided one. 
+     * 
+     * @param source The BoardState to copy. 
+     */
+    public BoardState(BoardState source) {
+        this.moveCount = source.moveCount;
+        this.enPassantSquare = source.enPassantSquare;
+        this.castlingRights = source.castlingRights;
+        this.halfmoveClock = source.halfmoveClock;
+        this.zobristKey = source.zobristKey;
+        this.pawnKey = source.pawnKey;
+        this.midgameScore = source.midgameScore;
+        this.endgameScore = source.endgameScore;
+        this.phase = source.phase;
+    }
+
+    /**
+     * Returns the castling rights that remain once a piece leaves or arrives on the given square. Moving 
+     * a king or a rook from its starting square, or taking a rook on it, removes the associated rights. 
+     * 
+     * @param index The index of the square. 
+     * @return The castling rights to keep, to combine with the current rights using a bitwise and. 
+     */
+    public static int getCastlingMask(int index) {
+        return castlingMasks[index];
+    }
+
+    /**
+     * @return The number of moves played on the board. 
+     */
+    public int getMoveCount() { return this.moveCount; }
+
+    /**
+     * @param moveCount The number of moves played on the board. 
+     */
+    public void setMoveCount(int moveCount) { this.moveCount = moveCount; }
+
+    /**
+     * @return The index of the square a pawn can move to by taking en-passant or noSquare if there is none. 
+     */
+    public int getEnPassantSquare() { return this.enPassantSquare; }
+
+    /**
+     * @param enPassantSquare The index of the square a pawn can move to by taking en-passant or noSquare. 
+     */
+    public void setEnPassantSquare(int enPassantSquare) {
+        this.zobristKey ^= ZobristHelper.getEnPassantKey(this.enPassantSquare) ^ ZobristHelper.getEnPassantKey(enPassantSquare);
+        this.enPassantSquare = enPassantSquare;
+    }
+
+    /**
+     * @return The castling rights, a combination of whiteKingSide, whiteQueenSide, blackKingSide and blackQueenSide. 
+     */
+    public int getCastlingRights() { return this.castlingRights; }
+
+    /**
+     * @param castlingRights The castling rights, a combination of whiteKingSide, whiteQueenSide, blackKingSide and blackQueenSide. 
+     */
+    public void setCastlingRights(int castlingRights) {
+        this.zobristKey ^= ZobristHelper.getCastlingKey(this.castlingRights) ^ ZobristHelper.getCastlingKey(castlingRights);
+        this.castlingRights = castlingRights;
+    }
+
+    /**
+     * @return The number of half moves since the last capture or pawn move. 
+     */
+    public int getHalfmoveClock() { return this.halfmoveClock; }
+
+    /**
+     * @param halfmoveClock The number of half moves since the last capture or pawn move. 
+     */
+    public void setHalfmoveClock(int halfmoveClock) { this.halfmoveClock = halfmoveClock; }
+
+    /**
+     * @return The Zobrist key of the position. 
+     */
+    public long getZobristKey() { return this.zobristKey; }
+
+    /**
+     * Replaces the Zobrist key, used when the key of a new position is computed with ZobristHelper.computeKey. 
+     * 
+     * @param zobristKey The Zobrist key of the position. 
+     */
+    public void setZobristKey(long zobristKey) { this.zobristKey = zobristKey; }
+
+    /**
+     * @return The Zobrist key of the pawns of the position. 
+     */
+    public long getPawnKey() { return this.pawnKey; }
+
+    /**
+     * Replaces the pawn key, used when the key of a new position is computed with ZobristHelper.computePawnKey. 
+     * 
+     * @param pawnKey The Zobrist key of the pawns of the position. 
+     */
+    public void setPawnKey(long pawnKey) { this.pawnKey = pawnKey; }
+
+    /**
+     * Combines a number of ZobristHelper with the key, adding it to the key if it was not part of it and 
+     * removing it otherwise. The boards call it with the number of every piece added or removed. 
+     * 
+     * @param key The number to combine with the key. 
+     */
+    public void toggleZobristKey(long key) { this.zobristKey ^= key; }
+
+    /**
+     * Changes the player to move in the Zobrist key. It is called once every time a move is played or reverted. 
+     */
+    public void toggleSideToMove() { this.zobristKey ^= ZobristHelper.getSideKey(); }
+
+    /**
+     * Adds a piece standing on a square to the Zobrist keys and to the scores and notifies the PieceListener. 
+     * 
+     * @param code The code of the piece, see BitboardBoardModel.getPieceCode. 
+     * @param index The index of the square. 
+     */
+    public void addPiece(int code, int index) {
+        this.zobristKey ^= ZobristHelper.getPieceKey(code, index);
+        if (code % BitboardBoardModel.numberOfPieceTypes == pawnType) {
+            this.pawnKey ^= ZobristHelper.getPieceKey(code, index);
+        }
+        this.midgameScore += PieceSquareTableHelper.getMidgameValue(code, index);
+        this.endgameScore += PieceSquareTableHelper.getEndgameValue(code, index);
+        this.phase += PieceSquareTableHelper.getPhaseValue(code);
+        if (this.pieceListener != null) {
+            this.pieceListener.onPieceAdded(code, index);
+        }
+    }
+
+    /**
+     * Removes a piece standing on a square from the Zobrist keys and from the scores and notifies the PieceListener. 
+     * 
+     * @param code The code of the piece, see BitboardBoardModel.getPieceCode. 
+     * @param index The index of the square. 
+     */
+    public void removePiece(int code, int index) {
+        this.zobristKey ^= ZobristHelper.getPieceKey(code, index);
+        if (code % BitboardBoardModel.numberOfPieceTypes == pawnType) {
+            this.pawnKey ^= ZobristHelper.getPieceKey(code, index);
+        }
+        this.midgameScore -= PieceSquareTableHelper.getMidgameValue(code, index);
+        this.endgameScore -= PieceSquareTableHelper.getEndgameValue(code, index);
+        this.phase -= PieceSquareTableHelper.getPhaseValue(code);
+        if (this.pieceListener != null) {
+            this.pieceListener.onPieceRemoved(code, index);
+        }
+    }
+
+    /**
+     * Adds a piece standing on a square to the Zobrist key and to the scores. Nothing is done for a NullPiece. 
+     * 
+     * @param piece The ChessABSPieceModel on the square. 
+     * @param index The index of the square. 
+     */
+    public void addPiece(ChessABSPieceModel piece, int index) {
+        if (piece.getPieceName() != PieceName.NULL) {
+            this.addPiece(BoardState.getPieceCode(piece), index);
+        }
+    }
+
+    /**
+     * Removes a piece standing on a square from the Zobrist key and from the scores. Nothing is done for a NullPiece. 
+     * 
+     * @param piece The ChessABSPieceModel on the square. 
+     * @param index The index of the square. 
+     */
+    public void removePiece(ChessABSPieceModel piece, int index) {
+        if (piece.getPieceName() != PieceName.NULL) {
+            this.removePiece(BoardState.getPieceCode(piece), index);
+        }
+    }
+
+    /**
+     * @return The sum of the middlegame values of the pieces, positive when white is ahead. 
+     */
+    public int getMidgameScore() { return this.midgameScore; }
+
+    /**
+     * @return The sum of the endgame values of the pieces, positive when white is ahead. 
+     */
+    public int getEndgameScore() { return this.endgameScore; }
+
+    /**
+     * @return The phase of the game, see PieceSquareTableHelper. 
+     */
+    public int getPhase() { return this.phase; }
+
+    /**
+     * Sets the object notified by addPiece and removePiece. The listener is not copied by the copy constructor. 
+     * 
+     * @param pieceListener The PieceListener to notify or null. 
+     */
+    public void setPieceListener(PieceListener pieceListener) { this.pieceListener = pieceListener; }
+
+    /**
+     * @return The PieceListener notified by addPiece and removePiece or null. 
+     */
+    public PieceListener getPieceListener() { return this.pieceListener; }
+
+    /**
+     * Replaces the scores and the phase, used when they are computed with PieceSquareTableHelper.computeScores. 
+     * 
+     * @param midgameScore The sum of the middlegame values of the pieces. 
+     * @param endgameScore The sum of the endgame values of the pieces. 
+     * @param phase The phase of the game. 
+     */
+    public void setPieceScores(int midgameScore, int endgameScore, int phase) {
+        this.midgameScore = midgameScore;
+        this.endgameScore = endgameScore;
+        this.phase = phase;
+    }
+
+    /**
+     * @param piece A ChessABSPieceModel that is not a NullPiece. 
+     * @return The code of the piece, see BitboardBoardModel.getPieceCode. 
+     */
+    private static int getPieceCode(ChessABSPieceModel piece) {
+        return piece.getColour().ordinal() * BitboardBoardModel.numberOfPieceTypes + piece.getPieceName().ordinal();
+    }
+}
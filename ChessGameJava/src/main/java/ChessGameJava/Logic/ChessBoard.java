@@ -0,0 +1,129 @@
+package ChessGameJava.Logic;
+
+import ChessGameJava.Utility.Position;
+import ChessGameJava.Utility.UiChange;
+
+/**
+ * Interface describing what a chess board on the logic side of this project must be able to do. It 
+ * contains the queries the pieces, the moves and the controller make on a board (obtaining a square, 
+ * locating a king, checking if a square is attacked) as well as the two operations every move is built 
+ * upon: swapping a square of the board for a new one and interchanging two squares. 
+ * 
+ * This allows the same pieces, moves and controller to work on different ways of storing a position. 
+ * ChessBoardModel stores an array of ChessSquareModel while BitboardBoardModel stores the position as 
+ * bitboards. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public interface ChessBoard {
+
+    /**
+     * Returns the given ChessSquareModel associated with the same coordinates 
+     * as the provided position value. 
+     * 
+     * @param position the Position representing the coordinates of the square.
+     * @return the ChessSquareModel element associated with the coordinates.
+     */
+    ChessSquareModel getSquareModel(Position position);
+
+    /**
+     * Getter for the array of ChessSquareModel. The squares are ordered row by row, 
+     * the index of a square being row * ChessBoardModel.numberOfRows + column. 
+     * 
+     * @return ChessSquareModel[] representing the list of squares. 
+     */
+    ChessSquareModel[] getSquareList();
+
+    /**
+     * Returns the bitboard of every occupied square of the board. See BitboardHelper for the 
+     * meaning of every bit. 
+     * 
+     * @return The bitboard of every occupied square. 
+     */
+    long getOccupancy();
+
+    /**
+     * Returns the state of the game played on the board that cannot be read from its pieces, such 
+     * as the number of moves played and the en-passant square. Every board has its own state, which 
+     * the moves update when they are executed or reverted. 
+     * 
+     * @return The BoardState of the board. 
+     */
+    BoardState getBoardState();
+
+    /**
+     * This function returns the square a king of the given colour is currently 
+     * at. 
+     * 
+     * @param colourOfKing the Colour of the king we want to locate.
+     * @return the ChessSquareModel on which the king is located.
+     */
+    ChessSquareModel getSquareOfKing(Colour colourOfKing);
+
+    /**
+     * This method is in charge of checking if a given square is currently being attacked 
+     * by the pieces of the provided colourOfAttacker parameter. 
+     * 
+     * @param observedSquare The ChessSquareModel we want to know if it is being attacked.
+     * @param colourOfAttacker The Colour of the attacking pieces.
+     * @return True if square is being attacked, false otherwise. 
+     */
+    boolean isSquareUnderAttackBy(ChessSquareModel observedSquare, Colour colourOfAttacker);
+
+    /**
+     * Returns the number of pieces of the provided colour attacking a given square. Boards keep 
+     * these counts up to date every time a square is swapped, see AttackMap. 
+     * 
+     * @param observedSquare The ChessSquareModel we want the number of attackers of. 
+     * @param colourOfAttacker The Colour of the attacking pieces. 
+     * @return The number of pieces attacking the square. 
+     */
+    int getAttackCount(ChessSquareModel observedSquare, Colour colourOfAttacker);
+
+    /**
+     * This method should be called once a king of a certain colour has been moved. Boards 
+     * that keep track of the position of the kings update it here. 
+     * 
+     * @param colourOfKing The colour of the king we want to update the position for. 
+     */
+    void updatePositionOfKing(Colour colourOfKing);
+
+    /**
+     * A method that swaps a provided ChessSquareModel with the one at the same position.
+     * It then returns the swapped out ChessSquareModel
+     * 
+     * @param newSquare The new square to add to the board.
+     * @return the old square.
+     */
+    ChessSquareModel swappSquare(ChessSquareModel newSquare);
+
+    /**
+     * This method takes the coordinates of two ChessSquareModel and simply interchanges them.
+     * You may see this as the two squares on the board swapping places. 
+     * 
+     * It also updates the position attribute of both of these squares to that of their new 
+     * position. 
+     * 
+     * @param first the Position of the first square.
+     * @param second the Position of the second square.
+     */
+    void swappSquares(Position first, Position second);
+
+    /**
+     * Debugging function, prints a board in the console. Helps in understanding where the 
+     * pieces are and why they got there. 
+     * 
+     * Should never be used in a production release. 
+     */
+    default void printBoard() {
+        ChessSquareModel[] squareList = this.getSquareList();
+        for (int row = 0; row < ChessBoardModel.numberOfRows; row++) {
+            String line = "";
+            for (int column = 0; column < ChessBoardModel.numberOfRows; column++) {
+                line = line + String.format("%s | ", UiChange.getNameFromABSPiece(squareList[row * ChessBoardModel.numberOfRows +  column].getPiece()));
+            }
+            System.out.println(line);
+       }
+    }
+}
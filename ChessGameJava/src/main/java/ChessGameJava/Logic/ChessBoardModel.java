@@ -1,13 +1,18 @@
 package ChessGameJava.Logic;
 
 import ChessGameJava.Logic.Pieces.Bishop;
+import ChessGameJava.Logic.Pieces.ChessABSPieceModel;
 import ChessGameJava.Logic.Pieces.King;
 import ChessGameJava.Logic.Pieces.Knight;
 import ChessGameJava.Logic.Pieces.Pawn;
 import ChessGameJava.Logic.Pieces.Queen;
 import ChessGameJava.Logic.Pieces.Rook;
+import ChessGameJava.Utility.BitboardHelper;
+import ChessGameJava.Utility.FenHelper;
+import ChessGameJava.Utility.PieceName;
 import ChessGameJava.Utility.Position;
-import ChessGameJava.Utility.UiChange;
+import ChessGameJava.Utility.PieceSquareTableHelper;
+import ChessGameJava.Utility.ZobristHelper;
 
 /**
  * Class representing a chess board on the logic side of this project. This class is in charge of
@@ -17,13 +22,16 @@ import ChessGameJava.Utility.UiChange;
  * is under attack, removing a piece or adding a piece.
  * 
  * @Author Charles Degrandpré
- * @Last_Updated 2023-09-03
+ * @Last_Updated 2026-10-17
  */
-public class ChessBoardModel {
+public class ChessBoardModel implements ChessBoard {
     public final static int numberOfRows = 8;
     private final ChessSquareModel[] squareList = new ChessSquareModel[numberOfRows * numberOfRows];
     private ChessSquareModel squareOfWhiteKing;
     private ChessSquareModel squareOfBlackKing;
+    private long occupancy = 0;
+    private final AttackMap attackMap = new AttackMap();
+    private final BoardState boardState = new BoardState();
 
     /**
      * This function returns the square a king of the given colour is currently 
@@ -32,6 +40,7 @@ public class ChessBoardModel {
      * @param colourOfKing the Colour of the king we want to locate.
      * @return the ChessSquareModel on which the king is located.
      */
+    @Override
     public ChessSquareModel getSquareOfKing(Colour colourOfKing) {
         return colourOfKing == Colour.WHITE ? this.squareOfWhiteKing : this.squareOfBlackKing;
     }
@@ -43,15 +52,31 @@ public class ChessBoardModel {
      * @param position the Position representing the coordinates of the square.
      * @return the ChessSquareModel element associated with the coordinates.
      */
+    @Override
     public ChessSquareModel getSquareModel(Position position) {
         return squareList[position.getCoordY() * numberOfRows +  position.getCoordX()];
     }
 
+    /**
+     * The board keeps the bitboard of the occupied squares up to date every time a square is 
+     * swapped. It is used by the sliding pieces to look up the squares they attack. 
+     */
+    @Override
+    public long getOccupancy() {
+        return this.occupancy;
+    }
+
+    @Override
+    public BoardState getBoardState() {
+        return this.boardState;
+    }
+
     /**
      * Getter for the array of ChessSquareModel. 
      * 
      * @return ChessSquareModel[] representing the list of squares. 
      */
+    @Override
     public ChessSquareModel[] getSquareList() {
         return this.squareList;
     }
@@ -74,30 +99,81 @@ public class ChessBoardModel {
         }
 
         this.addPieces();
+        this.initializeState(Colour.WHITE);
+    }
+
+    /**
+     * Constructor of a ChessBoardModel set up in the position described by a FEN string, see FenHelper. 
+     * The pieces are placed directly on their squares, the castling rights, the en-passant square and the 
+     * clocks of the string being copied in the BoardState, so no move needs to be replayed. If the string 
+     * does not describe a valid position, it throws a RuntimeException. 
+     * 
+     * The board does not know which player has to move, see FenHelper.getSideToMove to get it. 
+     * 
+     * @param fen The FEN string of the position. 
+     */
+    public ChessBoardModel(String fen) {
+        String[] fields = FenHelper.getFields(fen);
+        ChessABSPieceModel[] pieces = FenHelper.parsePlacement(fields[0]);
+        Colour sideToMove = FenHelper.parseSideToMove(fields[1]);
+        int castlingRights = FenHelper.parseCastlingRights(fields[2]);
+        int enPassantSquare = FenHelper.parseEnPassantSquare(fields[3], sideToMove, pieces);
+        int halfmoveClock = FenHelper.parseClock(fields[4], 0);
+        int fullmoveNumber = FenHelper.parseClock(fields[5], 1);
+
+        for (int row = 0; row < numberOfRows; row++) {
+            for (int column = 0; column < numberOfRows; column++) {
+                squareList[row * numberOfRows + column] = new ChessSquareModel(column, row);
+                squareList[row * numberOfRows + column].piece = pieces[row * numberOfRows + column];
+            }
+        }
+        this.updatePositionOfKing(Colour.WHITE);
+
+        this.boardState.setCastlingRights(FenHelper.markMovedPieces(this.squareList, castlingRights));
+        this.boardState.setEnPassantSquare(enPassantSquare);
+        this.boardState.setHalfmoveClock(halfmoveClock);
+        this.boardState.setMoveCount(2 * (fullmoveNumber - 1) + (sideToMove == Colour.BLACK ? 1 : 0));
+        this.initializeState(sideToMove);
+    }
+
+    /**
+     * Computes everything the board keeps about its pieces once they are placed: the occupancy, the 
+     * AttackMap, the Zobrist keys and the piece-square scores of the BoardState. 
+     * 
+     * @param sideToMove The Colour of the player who plays the next move. 
+     */
+    private void initializeState(Colour sideToMove) {
+        for (int index = 0; index < squareList.length; index++) {
+            this.updateOccupancy(index);
+        }
+        this.attackMap.addAttacks(this.squareList, this.occupancy, this.occupancy);
+        this.boardState.setZobristKey(ZobristHelper.computeKey(this, sideToMove));
+        this.boardState.setPawnKey(ZobristHelper.computePawnKey(this));
+        PieceSquareTableHelper.computeScores(this);
     }
 
     /**
      * This method is in charge of checking if a given square is currently being attacked 
      * by the pieces of the provided colourOfAttacker parameter. 
      * 
-     * It works by iterating over all squares to locate all the pieces that match the provided 
-     * colourOfAttacker and then asking them for the squares they attack. If the observedSquare
-     * is one of them we return true. 
+     * The board keeps the number of attackers of every square up to date in its AttackMap, 
+     * so this is a single lookup. 
      * 
      * @param observedSquare The ChessSquareModel we want to know if it is being attacked.
      * @param colourOfAttacker The Colour of the attacking pieces.
      * @return True if square is being attacked, false otherwise. 
      */
+    @Override
     public boolean isSquareUnderAttackBy(ChessSquareModel observedSquare, Colour colourOfAttacker) {
-        for(ChessSquareModel currentSquare : this.squareList) {
-            if(currentSquare.getPiece().getColour() == colourOfAttacker) {
-                if(currentSquare.getPiece().getListAttackingSquares(currentSquare, this).stream().anyMatch(square -> square.getPosition().equals(observedSquare.getPosition()))) {
-                    return true;
-                }
-            }
-        }
+        return this.getAttackCount(observedSquare, colourOfAttacker) > 0;
+    }
 
-        return false;
+    /**
+     * The count is read from the AttackMap of the board. 
+     */
+    @Override
+    public int getAttackCount(ChessSquareModel observedSquare, Colour colourOfAttacker) {
+        return this.attackMap.getAttackCount(BitboardHelper.getIndex(observedSquare.getPosition()), colourOfAttacker);
     }
 
     /**
@@ -110,9 +186,10 @@ public class ChessBoardModel {
      * 
      * @param colourOfKIng The colour of the king we want to update the position for. 
      */
+    @Override
     public void updatePositionOfKing(Colour colourOfKIng) {
         for(ChessSquareModel currentSquare : this.squareList) {
-            if(currentSquare.getPiece() instanceof King) {
+            if(currentSquare.getPiece().getPieceName() == PieceName.KING) {
                 if(currentSquare.getPiece().getColour() == Colour.WHITE) {
                     this.squareOfWhiteKing = currentSquare;
                 } else {
@@ -145,37 +222,37 @@ public class ChessBoardModel {
     private void addWhitePieces() {
          // Add Pawns
         for (int i = 0; i < numberOfRows; i++) {
-            ChessSquareModel square = getSquareModel(new Position(i, 6));
+            ChessSquareModel square = getSquareModel(Position.of(i, 6));
             square.piece = new Pawn(Colour.WHITE);
         }
 
         // Add towers
         for (int i  = 0; i < 2; i++) {
-            ChessSquareModel square = getSquareModel(new Position(i*7, 7));
+            ChessSquareModel square = getSquareModel(Position.of(i*7, 7));
             square.piece = new Rook(Colour.WHITE);
         }
 
         // Add knights
         for (int i  = 0; i < 2; i++) {
-            ChessSquareModel square = getSquareModel(new Position(1+i*5, 7));
+            ChessSquareModel square = getSquareModel(Position.of(1+i*5, 7));
             square.piece = new Knight(Colour.WHITE);
         }
 
         // Add bishops
         for (int i  = 0; i < 2; i++) {
-            ChessSquareModel square = getSquareModel(new Position(2+i*3, 7));
+            ChessSquareModel square = getSquareModel(Position.of(2+i*3, 7));
             square.piece = new Bishop(Colour.WHITE);
         }
 
         // Add queen
         {
-            ChessSquareModel square = getSquareModel(new Position(3, 7));
+            ChessSquareModel square = getSquareModel(Position.of(3, 7));
             square.piece = new Queen(Colour.WHITE);
         }
 
         // Add king
         {
-            ChessSquareModel square = getSquareModel(new Position(4, 7));
+            ChessSquareModel square = getSquareModel(Position.of(4, 7));
             square.piece = new King(Colour.WHITE);
             this.squareOfWhiteKing = square;
         }
@@ -190,37 +267,37 @@ public class ChessBoardModel {
     private void addBlackPieces() {
         // Add Pawns
         for (int i = 0; i < numberOfRows; i++) {
-            ChessSquareModel square = getSquareModel(new Position(i, 1));
+            ChessSquareModel square = getSquareModel(Position.of(i, 1));
             square.piece = new Pawn(Colour.BLACK);
         }
 
         // Add towers
         for (int i  = 0; i < 2; i++) {
-            ChessSquareModel square = getSquareModel(new Position(i*7, 0));
+            ChessSquareModel square = getSquareModel(Position.of(i*7, 0));
             square.piece = new Rook(Colour.BLACK);
         }
 
         // Add knights
         for (int i  = 0; i < 2; i++) {
-            ChessSquareModel square = getSquareModel(new Position(1+i*5, 0));
+            ChessSquareModel square = getSquareModel(Position.of(1+i*5, 0));
             square.piece = new Knight(Colour.BLACK);
         }
 
         // Add bishops
         for (int i  = 0; i < 2; i++) {
-            ChessSquareModel square = getSquareModel(new Position(2+i*3, 0));
+            ChessSquareModel square = getSquareModel(Position.of(2+i*3, 0));
             square.piece = new Bishop(Colour.BLACK);
         }
 
         // Add queen
         {
-            ChessSquareModel square = getSquareModel(new Position(3, 0));
+            ChessSquareModel square = getSquareModel(Position.of(3, 0));
             square.piece = new Queen(Colour.BLACK);
         }
 
         // Add king
         {
-            ChessSquareModel square = getSquareModel(new Position(4, 0));
+            ChessSquareModel square = getSquareModel(Position.of(4, 0));
             square.piece = new King(Colour.BLACK);
             this.squareOfBlackKing = square;
         }
@@ -230,12 +307,26 @@ public class ChessBoardModel {
      * A method that swaps a provided ChessSquareModel with the one at the same position.
      * It then returns the swapped out ChessSquareModel
      * 
+     * The attacks of the pieces affected by the change are removed from the AttackMap before 
+     * the swap and added back after it. The old piece is removed from the BoardState and the 
+     * new one added to it, which updates the Zobrist key and the piece-square scores. 
+     * 
      * @param newSquare The new square to add to the board.
      * @return the old square.
      */
+    @Override
     public ChessSquareModel swappSquare(ChessSquareModel newSquare) {
-        ChessSquareModel oldSquare = this.getSquareModel(newSquare.getPosition());
-        squareList[newSquare.getPosition().getCoordY() * numberOfRows + newSquare.getPosition().getCoordX()] = newSquare;
+        int index = newSquare.getPosition().getCoordY() * numberOfRows + newSquare.getPosition().getCoordX();
+        long affectedSquares = this.attackMap.getAffectedSquares(1L << index, this.occupancy);
+        this.attackMap.removeAttacks(this.squareList, affectedSquares, this.occupancy);
+
+        ChessSquareModel oldSquare = squareList[index];
+        squareList[index] = newSquare;
+        this.updateOccupancy(index);
+        this.boardState.removePiece(oldSquare.getPiece(), index);
+        this.boardState.addPiece(newSquare.getPiece(), index);
+
+        this.attackMap.addAttacks(this.squareList, affectedSquares, this.occupancy);
         return oldSquare;
     }
 
@@ -244,33 +335,47 @@ public class ChessBoardModel {
      * You may see this as the two squares on the board swapping places. 
      * 
      * It also updates the position attribute of both of these squares to that of their new 
-     * position. 
+     * position. The AttackMap and the BoardState are updated the same way as in swappSquare. 
      * 
      * @param first the Position of the first square.
      * @param second the Position of the second square.
      */
+    @Override
     public void swappSquares(Position first, Position second) {
+        long changedSquares = (1L << BitboardHelper.getIndex(first)) | (1L << BitboardHelper.getIndex(second));
+        long affectedSquares = this.attackMap.getAffectedSquares(changedSquares, this.occupancy);
+        this.attackMap.removeAttacks(this.squareList, affectedSquares, this.occupancy);
+
         ChessSquareModel firstSquare = this.getSquareModel(first);
-        squareList[first.getCoordY() * numberOfRows + first.getCoordX()] = this.getSquareModel(second);
+        ChessSquareModel secondSquare = this.getSquareModel(second);
+        this.boardState.removePiece(firstSquare.getPiece(), first.getIndex());
+        this.boardState.removePiece(secondSquare.getPiece(), second.getIndex());
+        this.boardState.addPiece(firstSquare.getPiece(), second.getIndex());
+        this.boardState.addPiece(secondSquare.getPiece(), first.getIndex());
+
+        squareList[first.getCoordY() * numberOfRows + first.getCoordX()] = secondSquare;
         squareList[second.getCoordY() * numberOfRows + second.getCoordX()] = firstSquare;
 
         this.getSquareModel(first).position = first;
         this.getSquareModel(second).position = second;
+
+        this.updateOccupancy(first.getCoordY() * numberOfRows + first.getCoordX());
+        this.updateOccupancy(second.getCoordY() * numberOfRows + second.getCoordX());
+
+        this.attackMap.addAttacks(this.squareList, affectedSquares, this.occupancy);
     }
 
     /**
-     * Debugging function, prints a ChessBoardModel in the console. Helps in understanding where the 
-     * pieces are and why they got there. 
+     * Sets or clears the bit of a square in the occupancy bitboard depending on if the 
+     * square currently holds a piece. 
      * 
-     * Should never be used in a production release. 
+     * @param index The index of the square in the square list. 
      */
-    public void printBoard() {
-        for (int row = 0; row < numberOfRows; row++) {
-            String line = "";
-            for (int column = 0; column < numberOfRows; column++) {
-                line = line + String.format("%s | ", UiChange.getNameFromABSPiece(squareList[row * numberOfRows +  column].getPiece()));
-            }
-            System.out.println(line);
-       }
+    private void updateOccupancy(int index) {
+        if (squareList[index].getPiece().getColour() == Colour.NULL) {
+            this.occupancy &= ~(1L << index);
+        } else {
+            this.occupancy |= 1L << index;
+        }
     }
 }
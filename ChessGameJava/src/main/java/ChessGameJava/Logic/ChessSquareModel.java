@@ -11,7 +11,7 @@ import ChessGameJava.Utility.Position;
  * the chess board and the pieces.
  * 
  * @Author Charles Degrandpré
- * @Last_Updated 2023-09-03
+ * @Last_Updated 2026-10-17
  */
 public class ChessSquareModel {
 
@@ -30,14 +30,14 @@ public class ChessSquareModel {
 
     /**
      * Constructor of a ChessSquareModel instance. Initiates the piece attribute
-     * to a NullPiece instance.
+     * to the shared NullPiece instance.
      * 
      * @param column the column the square is positioned at, also its x coordinate.
      * @param row the row the square is positioned at, also its y coordinate.
      */
     public ChessSquareModel(int column, int row) {
-        this.position = new Position(column, row);
-        piece = new NullPiece();
+        this.position = Position.of(column, row);
+        piece = NullPiece.getInstance();
     }
 
     /**
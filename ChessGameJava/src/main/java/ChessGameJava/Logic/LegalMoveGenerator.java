@@ -0,0 +1,224 @@
+package ChessGameJava.Logic;
+
+import java.util.ArrayList;
+
+import ChessGameJava.Logic.Moves.Castle;
+import ChessGameJava.Logic.Moves.ChessABSMove;
+import ChessGameJava.Logic.Moves.EnPassant;
+import ChessGameJava.Logic.Pieces.ChessABSPieceModel;
+import ChessGameJava.Utility.BitboardHelper;
+import ChessGameJava.Utility.MagicBitboardHelper;
+import ChessGameJava.Utility.PieceName;
+
+/**
+ * Class in charge of generating the strictly legal moves of a player, meaning the moves that do not 
+ * leave the king of the player under attack. 
+ * 
+ * Instead of executing every move and checking if the king is attacked, the generator looks at the 
+ * position once when it is created. It finds the pieces giving check to the king and the pieces pinned 
+ * against the king along with the line they are pinned on. A move generated by a piece is then legal if: 
+ * 
+ * - the king moves to a square that is not attacked once the king has left its square, 
+ * - or, when the king is in check by a single piece, the move captures the checking piece or blocks its line, 
+ * - and, if the piece is pinned, the move stays on the line of the pin. 
+ * 
+ * When the king is in check by two pieces only the king may move. Castling moves are already verified 
+ * by King.getCastleMoves and en-passant moves, which remove two pieces from a row, are verified by 
+ * executing them as before. 
+ * 
+ * The generator describes the position it was created on, a new one must be created once a move is played. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public class LegalMoveGenerator {
+    private final ChessBoard board;
+    private final Colour colourOfPlayer;
+    private final Colour colourOfOpponent;
+    private final long[] opponentPieces = new long[PieceName.values().length];
+    private final long occupancy;
+    private final int indexOfKing;
+    private final long checkers;
+    private final long evasionSquares;
+    private long pinnedPieces = 0L;
+
+    /**
+     * Constructor of the LegalMoveGenerator class. It finds the pieces checking the king of the player 
+     * and the pieces pinned against it. 
+     * 
+     * @param board The ChessBoard the game is played on. 
+     * @param colourOfPlayer The Colour of the player we want the legal moves of. 
+     */
+    public LegalMoveGenerator(ChessBoard board, Colour colourOfPlayer) {
+        this.board = board;
+        this.colourOfPlayer = colourOfPlayer;
+        this.colourOfOpponent = colourOfPlayer == Colour.WHITE ? Colour.BLACK : Colour.WHITE;
+        this.occupancy = board.getOccupancy();
+
+        ChessSquareModel[] squareList = board.getSquareList();
+        for (int index = 0; index < squareList.length; index++) {
+            ChessABSPieceModel piece = squareList[index].getPiece();
+            if (piece.getColour() == this.colourOfOpponent) {
+                this.opponentPieces[piece.getPieceName().ordinal()] |= 1L << index;
+            }
+        }
+
+        this.indexOfKing = BitboardHelper.getIndex(board.getSquareOfKing(colourOfPlayer).getPosition());
+        this.checkers = this.getAttackers(this.indexOfKing, this.occupancy);
+
+        if (Long.bitCount(this.checkers) == 1) {
+            this.evasionSquares = this.checkers | BitboardHelper.getBetween(this.indexOfKing, Long.numberOfTrailingZeros(this.checkers));
+        } else {
+            this.evasionSquares = BitboardHelper.allSquares;
+        }
+
+        this.findPinnedPieces();
+    }
+
+    /**
+     * @return True if the king of the player is in check, false otherwise. 
+     */
+    public boolean isInCheck() {
+        return this.checkers != 0;
+    }
+
+    /**
+     * Returns every legal move of the player. 
+     * 
+     * @return An ArrayList of ChessABSMove containing every legal move. 
+     */
+    public ArrayList<ChessABSMove> getLegalMoves() {
+        ArrayList<ChessABSMove> legalMoves = new ArrayList<>();
+
+        for (ChessSquareModel square : this.board.getSquareList()) {
+            if (square.getPiece().getColour() == this.colourOfPlayer) {
+                legalMoves.addAll(this.getLegalMoves(square));
+            }
+        }
+
+        return legalMoves;
+    }
+
+    /**
+     * Returns the legal moves of the piece standing on the provided square. If the square does not 
+     * hold a piece of the player, there are no legal moves. 
+     * 
+     * @param square The ChessSquareModel of the piece. 
+     * @return An ArrayList of ChessABSMove containing the legal moves of the piece. 
+     */
+    public ArrayList<ChessABSMove> getLegalMoves(ChessSquareModel square) {
+        ArrayList<ChessABSMove> legalMoves = new ArrayList<>();
+
+        if (square.getPiece().getColour() != this.colourOfPlayer) {
+            return legalMoves;
+        }
+
+        for (ChessABSMove move : square.getPiece().getListMoves(square, this.board)) {
+            if (this.isLegal(move)) {
+                legalMoves.add(move);
+            }
+        }
+
+        return legalMoves;
+    }
+
+    /**
+     * Checks if the player has at least one legal move. It stops at the first legal move found, which 
+     * makes it the cheapest way to detect a mate or a stalemate. 
+     * 
+     * @return True if the player can move, false otherwise. 
+     */
+    public boolean hasLegalMove() {
+        for (ChessSquareModel square : this.board.getSquareList()) {
+            if (square.getPiece().getColour() == this.colourOfPlayer) {
+                for (ChessABSMove move : square.getPiece().getListMoves(square, this.board)) {
+                    if (this.isLegal(move)) {
+                        return true;
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if a move generated by one of the pieces of the player is legal. See the description of 
+     * the class for the rules applied. 
+     * 
+     * @param move The ChessABSMove we want to verify. 
+     * @return True if the move does not leave the king under attack, false otherwise. 
+     */
+    private boolean isLegal(ChessABSMove move) {
+        if (move instanceof Castle) {
+            return true;
+        }
+
+        if (move instanceof EnPassant) {
+            return this.isKingSafeAfterMove(move);
+        }
+
+        int from = BitboardHelper.getIndex(move.getFirstSquare().getPosition());
+        int to = BitboardHelper.getIndex(move.getSecondSquare().getPosition());
+
+        if (move.getFirstSquare().getPiece().getPieceName() == PieceName.KING) {
+            return this.getAttackers(to, this.occupancy & ~(1L << from)) == 0;
+        }
+
+        if (Long.bitCount(this.checkers) > 1 || (this.evasionSquares & (1L << to)) == 0) {
+            return false;
+        }
+
+        return (this.pinnedPieces & (1L << from)) == 0 || (BitboardHelper.getLine(this.indexOfKing, from) & (1L << to)) != 0;
+    }
+
+    /**
+     * Finds the pieces of the player standing alone between their king and a sliding piece of the opponent 
+     * aligned with it. Such pieces may only move along that line. 
+     */
+    private void findPinnedPieces() {
+        long queens = this.opponentPieces[PieceName.QUEEN.ordinal()];
+        long snipers = (MagicBitboardHelper.getRookAttacks(this.indexOfKing, 0L) & (this.opponentPieces[PieceName.ROOK.ordinal()] | queens))
+                | (MagicBitboardHelper.getBishopAttacks(this.indexOfKing, 0L) & (this.opponentPieces[PieceName.BISHOP.ordinal()] | queens));
+
+        while (snipers != 0) {
+            long blockers = BitboardHelper.getBetween(this.indexOfKing, Long.numberOfTrailingZeros(snipers)) & this.occupancy;
+            if (Long.bitCount(blockers) == 1) {
+                this.pinnedPieces |= blockers;
+            }
+            snipers &= snipers - 1;
+        }
+    }
+
+    /**
+     * Returns the pieces of the opponent attacking a square for the provided occupied squares. See 
+     * BitboardBoardModel.getAttackers for how the attackers are found. 
+     * 
+     * @param index The index of the observed square. 
+     * @param occupancy The bitboard of the occupied squares to use for the sliding pieces. 
+     * @return The bitboard of the attacking pieces. 
+     */
+    private long getAttackers(int index, long occupancy) {
+        long queens = this.opponentPieces[PieceName.QUEEN.ordinal()];
+
+        return (BitboardHelper.getPawnAttacks(index, this.colourOfPlayer) & this.opponentPieces[PieceName.PAWN.ordinal()])
+                | (BitboardHelper.getKnightAttacks(index) & this.opponentPieces[PieceName.KNIGHT.ordinal()])
+                | (BitboardHelper.getKingAttacks(index) & this.opponentPieces[PieceName.KING.ordinal()])
+                | (MagicBitboardHelper.getRookAttacks(index, occupancy) & (this.opponentPieces[PieceName.ROOK.ordinal()] | queens))
+                | (MagicBitboardHelper.getBishopAttacks(index, occupancy) & (this.opponentPieces[PieceName.BISHOP.ordinal()] | queens));
+    }
+
+    /**
+     * Verifies a move by executing it, looking if the king is attacked and reverting it. 
+     * 
+     * @param move The ChessABSMove we want to verify. 
+     * @return True if the king of the player is not under attack after the move, false otherwise. 
+     */
+    private boolean isKingSafeAfterMove(ChessABSMove move) {
+        move.processExecuteMove(this.board);
+        boolean isKingSafe = !this.board.isSquareUnderAttackBy(this.board.getSquareOfKing(this.colourOfPlayer), this.colourOfOpponent);
+        move.processRevertMove(this.board);
+
+        return isKingSafe;
+    }
+}
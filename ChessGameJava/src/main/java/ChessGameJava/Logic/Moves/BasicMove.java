@@ -2,7 +2,7 @@ package ChessGameJava.Logic.Moves;
 
 import java.util.ArrayList;
 
-import ChessGameJava.Logic.ChessBoardModel;
+import ChessGameJava.Logic.ChessBoard;
 import ChessGameJava.Logic.ChessSquareModel;
 import ChessGameJava.Utility.UiChange;
 
@@ -38,7 +38,7 @@ public class BasicMove extends ChessABSMove{
      * captured piece if there is any. 
      */
     @Override
-    protected ArrayList<UiChange> executeMove(ChessBoardModel board) {
+    protected ArrayList<UiChange> executeMove(ChessBoard board) {
         ArrayList<UiChange> listChanges = new ArrayList<>();
 
         board.swappSquare(this.temp);
@@ -56,7 +56,7 @@ public class BasicMove extends ChessABSMove{
      * was potentially captured. 
      */
     @Override
-    protected ArrayList<UiChange> revertMove(ChessBoardModel board) {
+    protected ArrayList<UiChange> revertMove(ChessBoard board) {
         ArrayList<UiChange> listChanges = new ArrayList<>();
 
         board.swappSquares(this.temp.getPosition(), this.firstSquare.getPosition());
@@ -2,14 +2,14 @@ package ChessGameJava.Logic.Moves;
 
 import java.util.ArrayList;
 
-import ChessGameJava.Logic.ChessBoardModel;
+import ChessGameJava.Logic.ChessBoard;
 import ChessGameJava.Logic.ChessSquareModel;
 import ChessGameJava.Utility.UiChange;
 
 /**
  * This class describes a basic move for the king. This class functions almost entirely the same way a
  * BasicMove would but it makes sure to update the position of the king when making a move. 
- * This is relevant as the normal implementation of the ChessBoardModel keeps track of the position
+ * This is relevant as the normal implementation of the ChessBoard keeps track of the position
  * of both kings for optimization purposes. 
  * 
  * It is recommended to keep that behavior on implementation of all moves that a king can make. 
@@ -37,7 +37,7 @@ public class BasicMoveKing extends BasicMove {
      * the exact same as BasicMove.processExecuteMove.
      */
     @Override
-    public ArrayList<UiChange> processExecuteMove(ChessBoardModel board) {
+    public ArrayList<UiChange> processExecuteMove(ChessBoard board) {
         ArrayList<UiChange> listChanges = super.processExecuteMove(board);
         
         board.updatePositionOfKing(this.firstSquare.getPiece().getColour());
@@ -51,7 +51,7 @@ public class BasicMoveKing extends BasicMove {
      * the exact same as BasicMove.processRevertMove.
      */
     @Override
-    public ArrayList<UiChange> processRevertMove(ChessBoardModel board) {
+    public ArrayList<UiChange> processRevertMove(ChessBoard board) {
         ArrayList<UiChange> listChanges = super.processRevertMove(board);
         
         board.updatePositionOfKing(this.firstSquare.getPiece().getColour());
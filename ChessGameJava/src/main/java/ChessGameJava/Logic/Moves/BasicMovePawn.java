@@ -2,9 +2,8 @@ package ChessGameJava.Logic.Moves;
 
 import java.util.ArrayList;
 
-import ChessGameJava.Logic.ChessBoardModel;
+import ChessGameJava.Logic.ChessBoard;
 import ChessGameJava.Logic.ChessSquareModel;
-import ChessGameJava.Logic.Pieces.Pawn;
 import ChessGameJava.Utility.UiChange;
 
 /**
@@ -13,15 +12,15 @@ import ChessGameJava.Utility.UiChange;
  * on a pawn as the possible first move when a pawn may move two squares forward and only on it's
  * first move. 
  * 
- * If this was the case, we update internally to the pawn the turn it did this double move from 
- * the current turn recorded by the board in ChessABSMove. This is useful for the implementation
- * of the en-passant mechanic described in the EnPassant move. 
+ * If this was the case, we set the en-passant square of the BoardState of the board to the square 
+ * the pawn went over. This is useful for the implementation of the en-passant mechanic described 
+ * in the EnPassant move. 
  * 
  * If you decide to override this behavior to add more possible moves to the pawn, make sure to take 
  * in account the en-passant move. 
  * 
  * @Author Charles Degrandpré
- * @Last_Updated 2023-09-01
+ * @Last_Updated 2026-10-17
  */
 public class BasicMovePawn extends BasicMove {
 
@@ -42,47 +41,22 @@ public class BasicMovePawn extends BasicMove {
      * possible first move when a pawn may move two squares forward and only on it's
      * first move.
      * 
-     * If the pawn did such a move, we update internally to the pawn the turn at which 
-     * it did this move. This is useful for the implementation of the en-passant move
-     * for the pawn. 
+     * If the pawn did such a move, we set the en-passant square of the board to the 
+     * square the pawn went over. ChessABSMove restores the previous en-passant square 
+     * when the move is reverted, there is therefore nothing more to revert than what 
+     * BasicMove.revertMove does. 
      * 
      * The implementation is otherwise the exact same as that of BasicMove.executeMove.
      */
     @Override
-    protected ArrayList<UiChange> executeMove(ChessBoardModel board) {
+    protected ArrayList<UiChange> executeMove(ChessBoard board) {
         ArrayList<UiChange> listChanges = super.executeMove(board);
-        Pawn.turnOfLastPlayedPawn = ChessABSMove.boardIdMap.get(board);
 
-        Pawn piece = (Pawn) this.firstSquare.getPiece();
+        int from = this.temp.getPosition().getIndex();
+        int to = this.firstSquare.getPosition().getIndex();
 
         if(Math.abs(temp.getPosition().getCoordY() - firstSquare.getPosition().getCoordY()) == 2) {
-            piece.turnOfDoubleMove = ChessABSMove.getMoveCountForBoard(board);
-        }
-
-        return listChanges;
-    }
-
-    /**
-     * Overrides the implementation of the revertMove method and adds a check to 
-     * verify if the move was a "double move pawn". We define a double move as the 
-     * possible first move when a pawn may move two squares forward and only on it's
-     * first move.
-     * 
-     * If the pawn did such a move, we update internally to the pawn the turn at which 
-     * it did this move. This is useful for the implementation of the en-passant move
-     * for the pawn. 
-     * 
-     * The implementation is otherwise the exact same as that of BasicMove.revertMove.
-     */
-    @Override
-    protected ArrayList<UiChange> revertMove(ChessBoardModel board) {
-        ArrayList<UiChange> listChanges = super.revertMove(board);
-        Pawn.turnOfLastPlayedPawn = ChessABSMove.boardIdMap.get(board);
-
-        Pawn piece = (Pawn) this.firstSquare.getPiece();
-
-        if(Math.abs(secondSquare.getPosition().getCoordY() - firstSquare.getPosition().getCoordY()) == 2) {
-            piece.turnOfDoubleMove = ChessABSMove.getMoveCountForBoard(board);
+            board.getBoardState().setEnPassantSquare((from + to) / 2);
         }
 
         return listChanges;
@@ -2,7 +2,7 @@ package ChessGameJava.Logic.Moves;
 
 import java.util.ArrayList;
 
-import ChessGameJava.Logic.ChessBoardModel;
+import ChessGameJava.Logic.ChessBoard;
 import ChessGameJava.Logic.ChessSquareModel;
 import ChessGameJava.Utility.UiChange;
 
@@ -14,13 +14,14 @@ import ChessGameJava.Utility.UiChange;
  * the tower and then moving the tower to the first square the king has visited. 
  * 
  * @Author Charles Degrandpré
- * @Last_Updated 2023-09-02
+ * @Last_Updated 2026-10-17
  */
 public class Castle extends ChessABSMove {
 
     protected ChessSquareModel squareRook;
     protected BasicMove moveKing;
     protected BasicMove moveRook;
+    protected boolean rookHadMoved;
 
     /**
      * Constructor for the Castle class. it takes all squares related to the castle move. 
@@ -47,7 +48,8 @@ public class Castle extends ChessABSMove {
      * board once the move has been executed. 
      */
     @Override
-    public ArrayList<UiChange> processExecuteMove(ChessBoardModel board) {
+    public ArrayList<UiChange> processExecuteMove(ChessBoard board) {
+        this.rookHadMoved = this.squareRook.getPiece().hasMoved;
         ArrayList<UiChange> listChanges = super.processExecuteMove(board);
 
         this.squareRook.getPiece().hasMoved = true;
@@ -61,7 +63,7 @@ public class Castle extends ChessABSMove {
      * two basic moves in the form of one move from the king and one move from the rook. 
      */
     @Override
-    protected ArrayList<UiChange> executeMove(ChessBoardModel board) {
+    protected ArrayList<UiChange> executeMove(ChessBoard board) {
         ArrayList<UiChange> listChanges = new ArrayList<>();
 
         listChanges.addAll(this.moveKing.executeMove(board));
@@ -72,19 +74,18 @@ public class Castle extends ChessABSMove {
 
     /**
      * Overrides the base implementation of the processRevertMove method and 
-     * sets the hasMoved parameter of the rook to false if we are permitted to do so. 
+     * restores the hasMoved parameter the rook had before the move was executed. The king 
+     * may have moved already, so the rook cannot rely on the flag kept for the king. 
      * The implementation is otherwise exactly the same as the base one. 
      * 
      * The method also makes sure to update the position of the king on the provided
      * board once the move has been reverted. 
      */
     @Override
-    public ArrayList<UiChange> processRevertMove(ChessBoardModel board) {
+    public ArrayList<UiChange> processRevertMove(ChessBoard board) {
         ArrayList<UiChange> listChanges = super.processRevertMove(board);
 
-        if(this.canModifyPieceHasMoved) {
-            this.squareRook.getPiece().hasMoved = false;
-        }
+        this.squareRook.getPiece().hasMoved = this.rookHadMoved;
 
         board.updatePositionOfKing(this.firstSquare.getPiece().getColour());
 
@@ -97,7 +98,7 @@ public class Castle extends ChessABSMove {
      * and reverting them in the opposite order the executeMove function did. 
      */
     @Override
-    protected ArrayList<UiChange> revertMove(ChessBoardModel board) {
+    protected ArrayList<UiChange> revertMove(ChessBoard board) {
         ArrayList<UiChange> listChanges = new ArrayList<>();
 
         listChanges.addAll(this.moveRook.revertMove(board));
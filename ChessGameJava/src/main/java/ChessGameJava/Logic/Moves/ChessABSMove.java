@@ -1,10 +1,12 @@
 package ChessGameJava.Logic.Moves;
 
 import java.util.ArrayList;
-import java.util.WeakHashMap;
 
-import ChessGameJava.Logic.ChessBoardModel;
+import ChessGameJava.Logic.BoardState;
+import ChessGameJava.Logic.ChessBoard;
 import ChessGameJava.Logic.ChessSquareModel;
+import ChessGameJava.Logic.Colour;
+import ChessGameJava.Utility.PieceName;
 import ChessGameJava.Utility.UiChange;
 
 /**
@@ -15,20 +17,25 @@ import ChessGameJava.Utility.UiChange;
  * This class is NOT in charge of verifying if a move is valid, this check is left to the implementation of the pieces. 
  * Child classes should only provide a way to execute or revert a move. 
  * 
- * This class also keeps track internally for every game and what move count we are and uses this to determine if some moves have 
+ * This class also keeps the BoardState of the board up to date. It uses the move count of the state to determine if some moves have 
  * not been reverted or executed before the current move. The idea being that if we create a move on a board in state A and then 
  * create a second move on that same state but execute it. The board is not in state B and the initially created move may no longer 
- * be valid. 
+ * be valid. Executing a move also clears the en-passant square, removes the castling rights of the squares the move leaves or 
+ * arrives on, updates the halfmove clock and changes the side to move of the Zobrist key, reverting it restores the values the state 
+ * had before. The board updates the Zobrist key and the piece-square scores of the state for the pieces the move swaps, meaning 
+ * processExecuteMove and processRevertMove keep the evaluation of the position up to date without looking at its other squares. 
  * 
  * @Author Charles Degrandpré
- * @Last_Updated 2023-08-31
+ * @Last_Updated 2026-10-17
  */
 public abstract class ChessABSMove {
-    protected static WeakHashMap<ChessBoardModel, Integer> boardIdMap = new WeakHashMap<>();
     protected Integer mouveCount = null;
     protected ChessSquareModel firstSquare;
     protected ChessSquareModel secondSquare;
     protected boolean canModifyPieceHasMoved;
+    protected int previousEnPassantSquare;
+    protected int previousCastlingRights;
+    protected int previousHalfmoveClock;
 
     /**
      * Getter for the first square, the square where the piece is currently at. 
@@ -44,50 +51,53 @@ public abstract class ChessABSMove {
      */
     public ChessSquareModel getSecondSquare() { return this.secondSquare; }
 
-    /**
-     * Returns the move count for a given board instance. In other words, it returns how many moves have been played 
-     * on a game using the provided board. 
-     * 
-     * @param board the ChessBoardModel we want to get many moves have been played on.
-     * @return The number of moves that have been played on that board.
-     */
-    public static Integer getMoveCountForBoard(ChessBoardModel board) { return ChessABSMove.boardIdMap.get(board); }
-
     /**
      * This method in in charge of making the necessary calls to process a given request to execute the move object. 
      * it is recommend for the method to call the executeMove function and only contain code that serves to trigger
      * behavior upon the request call delegating all actual move logic to the executeMove method. 
      * 
-     * The basic implementation increments a counter to keep track of how many moves where executed. It is recommended
+     * The basic implementation increments the move count of the BoardState to keep track of how many moves where executed. It is recommended
      * to keep this behavior in overriding implementation to help with developer experience. This is useful to keep track
      * of execution call when building composite moves (moves made from two ChessABSMove instances) and helping revert
      * or execute moves in the correct order.
      * 
      * If we are trying to execute the move but an other one was not previously executed, it throws a RuntimeException. 
      * 
-     * @param board the ChessBoardModel we want to execute the move on.
+     * @param board the ChessBoard we want to execute the move on.
      * @return An ArrayList of UiChanges meant to describe the visual changes that should be made to the UI.
      */
-    public ArrayList<UiChange> processExecuteMove(ChessBoardModel board) {
-        if (!ChessABSMove.boardIdMap.containsKey(board)) {
-            ChessABSMove.boardIdMap.put(board, 0);
-        }
+    public ArrayList<UiChange> processExecuteMove(ChessBoard board) {
+        BoardState state = board.getBoardState();
 
         if(this.mouveCount != null) {
-            if(this.mouveCount != ChessABSMove.boardIdMap.get(board)) {
+            if(this.mouveCount != state.getMoveCount()) {
                 throw new RuntimeException("Cannot execute move, there is a move that was either not executed or not reverted before");
             }
         } else {
-            this.mouveCount = ChessABSMove.boardIdMap.get(board);
+            this.mouveCount = state.getMoveCount();
         }
 
         this.canModifyPieceHasMoved = false;
         if (!this.firstSquare.getPiece().hasMoved) {
             canModifyPieceHasMoved = true;
         }
-        
+
+        this.previousEnPassantSquare = state.getEnPassantSquare();
+        this.previousCastlingRights = state.getCastlingRights();
+        this.previousHalfmoveClock = state.getHalfmoveClock();
+
+        Colour colourOfCapturedPiece = this.secondSquare.getPiece().getColour();
+        boolean isCaptureOrPawnMove = this.firstSquare.getPiece().getPieceName() == PieceName.PAWN
+                || (colourOfCapturedPiece != Colour.NULL && colourOfCapturedPiece != this.firstSquare.getPiece().getColour());
+        int castlingMask = BoardState.getCastlingMask(this.firstSquare.getPosition().getIndex()) & BoardState.getCastlingMask(this.secondSquare.getPosition().getIndex());
+
+        state.setEnPassantSquare(BoardState.noSquare);
         ArrayList<UiChange> listChanges = this.executeMove(board);
-        ChessABSMove.boardIdMap.put(board, ChessABSMove.boardIdMap.get(board) + 1);
+
+        state.setMoveCount(state.getMoveCount() + 1);
+        state.toggleSideToMove();
+        state.setCastlingRights(this.previousCastlingRights & castlingMask);
+        state.setHalfmoveClock(isCaptureOrPawnMove ? 0 : this.previousHalfmoveClock + 1);
         if(this.canModifyPieceHasMoved) {
             this.firstSquare.getPiece().hasMoved = true;
         }
@@ -95,20 +105,20 @@ public abstract class ChessABSMove {
     };
 
     /**
-     * This method must be overridden in child classes. It should execute a move on the provided ChessBoardModel and return
+     * This method must be overridden in child classes. It should execute a move on the provided ChessBoard and return
      * an ArrayList<UiChange> that contains all changes necessary to reflect the move on the front end side of the application. 
      * 
-     * @param board the ChessBoardModel we want to execute the move on.
+     * @param board the ChessBoard we want to execute the move on.
      * @return An ArrayList of UiChanges meant to describe the visual changes that should be made to the UI.
      */
-    abstract protected ArrayList<UiChange> executeMove(ChessBoardModel board);
+    abstract protected ArrayList<UiChange> executeMove(ChessBoard board);
 
     /**
      * This method in in charge of making the necessary calls to process a given request to revert the move object. 
      * It is recommend for the method to call the revertMove function and only contain code that serves to trigger
      * behavior upon the request call delegating all actual move logic to the executeMove method. 
      * 
-     * The basic implementation decrements a counter to keep track of how many moves where executed. It is recommended
+     * The basic implementation decrements the move count of the BoardState to keep track of how many moves where executed. It is recommended
      * to keep this behavior in overriding implementation to help with developer experience. This is useful to keep track
      * of execution call when building composite moves (moves made from two CHessABSMove instances) and help make sure
      * the moves get reverted in the correct order.
@@ -116,19 +126,26 @@ public abstract class ChessABSMove {
      * If we are trying to revert the move but an other one was not previously reverted, it throws a RuntimeException. 
      * Similarly, if the move was never executed, it also throws a RuntimeException.
      * 
-     * @param board the ChessBoardModel we want to revert the move on.
+     * @param board the ChessBoard we want to revert the move on.
      * @return An ArrayList of UiChanges meant to describe the visual changes that should be made to the UI.
      */
-    public ArrayList<UiChange> processRevertMove(ChessBoardModel board) {
-        if (!ChessABSMove.boardIdMap.containsKey(board)) {
+    public ArrayList<UiChange> processRevertMove(ChessBoard board) {
+        BoardState state = board.getBoardState();
+
+        if (this.mouveCount == null) {
             throw new RuntimeException("This move was never executed, cannot revert it");
         }
-        if(this.mouveCount != ChessABSMove.boardIdMap.get(board) -1) {
+        if(this.mouveCount != state.getMoveCount() -1) {
             throw new RuntimeException("Cannot execute move, there is a move that was either not executed or reverted before");
         }
 
         ArrayList<UiChange> listChanges = this.revertMove(board);
-        ChessABSMove.boardIdMap.put(board, ChessABSMove.boardIdMap.get(board) - 1);
+
+        state.setMoveCount(state.getMoveCount() - 1);
+        state.toggleSideToMove();
+        state.setEnPassantSquare(this.previousEnPassantSquare);
+        state.setCastlingRights(this.previousCastlingRights);
+        state.setHalfmoveClock(this.previousHalfmoveClock);
         if(this.canModifyPieceHasMoved) {
             this.firstSquare.getPiece().hasMoved = false;
         }
@@ -140,9 +157,9 @@ public abstract class ChessABSMove {
      * of the executeMove method and return an ArrayList<UiChange> that contains all changes necessary to reflect 
      * the revert request on the front end side of the application. 
      *  
-     * @param board the ChessBoardModel we want to execute the move on.
+     * @param board the ChessBoard we want to execute the move on.
      * @return An ArrayList of UiChanges meant to describe the visual changes that should be made to the UI.
      */
-    abstract protected ArrayList<UiChange> revertMove(ChessBoardModel board);
+    abstract protected ArrayList<UiChange> revertMove(ChessBoard board);
 }
 
@@ -2,9 +2,8 @@ package ChessGameJava.Logic.Moves;
 
 import java.util.ArrayList;
 
-import ChessGameJava.Logic.ChessBoardModel;
+import ChessGameJava.Logic.ChessBoard;
 import ChessGameJava.Logic.ChessSquareModel;
-import ChessGameJava.Logic.Pieces.Pawn;
 import ChessGameJava.Utility.UiChange;
 
 /**
@@ -14,7 +13,7 @@ import ChessGameJava.Utility.UiChange;
  * take this pawn by moving diagonally behind if the square is open (it should be). 
  * 
  * @Author Charles Degrandpré
- * @Last_Updated 2023-09-02
+ * @Last_Updated 2026-10-17
  */
 public class EnPassant extends BasicMove {
 
@@ -40,12 +39,9 @@ public class EnPassant extends BasicMove {
      * This method executes the en-passant move by first executing a BasicMove to move our 
      * own pawn. Then it simply swaps the opponent square with a new empty square, effectively 
      * removing the opponent pawn from the game. 
-     * 
-     * It also updates the Pawn.turnOfLastPlayedPawn attribute with the current turn registered 
-     * for this board. 
      */
     @Override
-    protected ArrayList<UiChange> executeMove(ChessBoardModel board) {
+    protected ArrayList<UiChange> executeMove(ChessBoard board) {
         ArrayList<UiChange> listChanges = new ArrayList<>();
 
         listChanges.addAll(super.executeMove(board));
@@ -53,8 +49,6 @@ public class EnPassant extends BasicMove {
 
         listChanges.add(new UiChange(this.temp.getPosition(), this.temp.getPiece(), false));
 
-        Pawn.turnOfLastPlayedPawn = ChessABSMove.boardIdMap.get(board);
-
         return listChanges;
     }
 
@@ -63,12 +57,9 @@ public class EnPassant extends BasicMove {
      * to move our own paw. Then, we swap back the opponent square where the opponent pawn is 
      * with the empty square we had previously swapped, effectively brining back the opponent 
      * pawn.
-     * 
-     * It also updates the Pawn.turnOfLastPlayedPawn attribute with the current turn registered 
-     * for this board. 
      */
     @Override
-    protected ArrayList<UiChange> revertMove(ChessBoardModel board) {
+    protected ArrayList<UiChange> revertMove(ChessBoard board) {
         ArrayList<UiChange> listChanges = new ArrayList<>();
 
         listChanges.addAll(super.revertMove(board));
@@ -76,8 +67,6 @@ public class EnPassant extends BasicMove {
 
         listChanges.add(new UiChange(this.temp.getPosition(), this.temp.getPiece(), false));
 
-        Pawn.turnOfLastPlayedPawn = ChessABSMove.boardIdMap.get(board);
-
         return listChanges;
     }
     
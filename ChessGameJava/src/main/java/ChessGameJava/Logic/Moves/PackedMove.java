@@ -0,0 +1,144 @@
+package ChessGameJava.Logic.Moves;
+
+import ChessGameJava.Utility.PieceName;
+
+/**
+ * A class that acts as a helper to work with moves packed in a single int. Unlike a ChessABSMove, a packed 
+ * move does not need any object to be created, which lets a board make and unmake moves without allocating 
+ * anything. This is what the native API of BitboardBoardModel works with. 
+ * 
+ * A packed move is made of: 
+ * 
+ * - bits 0 to 5: the index of the square the piece leaves, 
+ * - bits 6 to 11: the index of the square the piece goes to, 
+ * - bits 12 to 15: the flags describing the type of the move. 
+ * 
+ * The flags are one of the constants of this class. A capture has the capture bit set and a promotion has 
+ * the promotion bit set, the two lowest bits of a promotion then telling which piece the pawn becomes. 
+ * See BitboardHelper for the meaning of the indexes of the squares. The value 0 is never a valid move and 
+ * is used to represent the absence of a move. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public abstract class PackedMove {
+    public final static int noMove = 0;
+
+    public final static int quiet = 0;
+    public final static int doublePawnPush = 1;
+    public final static int kingCastle = 2;
+    public final static int queenCastle = 3;
+    public final static int capture = 4;
+    public final static int enPassant = 5;
+    public final static int knightPromotion = 8;
+    public final static int bishopPromotion = 9;
+    public final static int rookPromotion = 10;
+    public final static int queenPromotion = 11;
+    public final static int knightPromotionCapture = 12;
+    public final static int bishopPromotionCapture = 13;
+    public final static int rookPromotionCapture = 14;
+    public final static int queenPromotionCapture = 15;
+
+    private final static int captureBit = 4;
+    private final static int promotionBit = 8;
+    private final static PieceName[] promotionPieces = { PieceName.KNIGHT, PieceName.BISHOP, PieceName.ROOK, PieceName.QUEEN };
+
+    /**
+     * Packs a move in an int. 
+     * 
+     * @param from The index of the square the piece leaves. 
+     * @param to The index of the square the piece goes to. 
+     * @param flags The flags of the move, one of the constants of this class. 
+     * @return The packed move. 
+     */
+    public static int create(int from, int to, int flags) {
+        return from | (to << 6) | (flags << 12);
+    }
+
+    /**
+     * @param move The packed move. 
+     * @return The index of the square the piece leaves. 
+     */
+    public static int getFrom(int move) {
+        return move & 0x3F;
+    }
+
+    /**
+     * @param move The packed move. 
+     * @return The index of the square the piece goes to. 
+     */
+    public static int getTo(int move) {
+        return (move >>> 6) & 0x3F;
+    }
+
+    /**
+     * @param move The packed move. 
+     * @return The flags of the move. 
+     */
+    public static int getFlags(int move) {
+        return (move >>> 12) & 0xF;
+    }
+
+    /**
+     * @param move The packed move. 
+     * @return True if the move takes a piece, en-passant included. 
+     */
+    public static boolean isCapture(int move) {
+        return (PackedMove.getFlags(move) & captureBit) != 0;
+    }
+
+    /**
+     * @param move The packed move. 
+     * @return True if a pawn is promoted by the move. 
+     */
+    public static boolean isPromotion(int move) {
+        return (PackedMove.getFlags(move) & promotionBit) != 0;
+    }
+
+    /**
+     * Returns the type of the piece a pawn is promoted to. 
+     * 
+     * @param move The packed move. 
+     * @return The PieceName of the new piece or PieceName.NULL if the move is not a promotion. 
+     */
+    public static PieceName getPromotion(int move) {
+        if (!PackedMove.isPromotion(move)) {
+            return PieceName.NULL;
+        }
+        return promotionPieces[PackedMove.getFlags(move) & 3];
+    }
+
+    /**
+     * Writes a move with the algebraic notation of its two squares followed by the letter of the 
+     * promotion if there is one (ex: e2e4, e7e8q). This is the notation used by the UCI protocol. 
+     * 
+     * @param move The packed move. 
+     * @return The move as a String. 
+     */
+    public static String toAlgebraic(int move) {
+        String text = PackedMove.squareToAlgebraic(PackedMove.getFrom(move)) + PackedMove.squareToAlgebraic(PackedMove.getTo(move));
+
+        switch (PackedMove.getPromotion(move)) {
+            case QUEEN:
+                return text + "q";
+            case ROOK:
+                return text + "r";
+            case BISHOP:
+                return text + "b";
+            case KNIGHT:
+                return text + "n";
+            default:
+                return text;
+        }
+    }
+
+    /**
+     * Writes the index of a square in algebraic notation (ex: a8 for the index 0). 
+     * 
+     * @param index The index of the square. 
+     * @return The square as a String. 
+     */
+    private static String squareToAlgebraic(int index) {
+        return String.format("%c%d", 'a' + index % 8, 8 - index / 8);
+    }
+}
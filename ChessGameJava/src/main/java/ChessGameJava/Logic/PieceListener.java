@@ -0,0 +1,29 @@
+package ChessGameJava.Logic;
+
+/**
+ * Interface of the objects notified every time a piece is added to or removed from a board, see 
+ * BoardState.setPieceListener. Every move notifies the pieces it removes and adds, whether it is a 
+ * ChessABSMove executed or reverted on a board or a native move of a BitboardBoardModel, which lets 
+ * the listener keep a state describing the position up to date without looking at its squares. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public interface PieceListener {
+
+    /**
+     * Called when a piece is added on a square. 
+     * 
+     * @param code The code of the piece, see BitboardBoardModel.getPieceCode. 
+     * @param index The index of the square. 
+     */
+    void onPieceAdded(int code, int index);
+
+    /**
+     * Called when a piece is removed from a square. 
+     * 
+     * @param code The code of the piece, see BitboardBoardModel.getPieceCode. 
+     * @param index The index of the square. 
+     */
+    void onPieceRemoved(int code, int index);
+}
@@ -2,18 +2,19 @@ package ChessGameJava.Logic.Pieces;
 
 import java.util.ArrayList;
 
-import ChessGameJava.Logic.ChessBoardModel;
+import ChessGameJava.Logic.ChessBoard;
 import ChessGameJava.Logic.ChessSquareModel;
 import ChessGameJava.Logic.Colour;
-import ChessGameJava.Utility.MoveCalculatorHelper;
-import ChessGameJava.Utility.MoveCalculatorHelper.DIRECTION;
+import ChessGameJava.Utility.BitboardHelper;
+import ChessGameJava.Utility.MagicBitboardHelper;
+import ChessGameJava.Utility.PieceName;
 
 /**
  * The class representing a bishop within the project. This class is capable of returning all
  * possible moves that the bishop can do and all the squares it can attack.
  * 
  * @Author Charles Degrandpré
- * @Last_Updated 2023-09-02
+ * @Last_Updated 2026-10-17
  */
 public class Bishop extends ChessABSPieceModel{
 
@@ -23,20 +24,28 @@ public class Bishop extends ChessABSPieceModel{
      * @param colourOfPiece the colour of the bishop.
      */
     public Bishop(Colour colourOfPiece) {
-        super(colourOfPiece);
+        super(colourOfPiece, PieceName.BISHOP);
     }
 
     /**
      * Method used to return all the squares a bishop can attack. A bishop can attack all squares 
      * that are diagonal from its current position up to and including the first occupied square. 
+     * 
+     * The squares are obtained with a single lookup in the tables of MagicBitboardHelper using 
+     * the occupied squares of the board. 
+     */
+    @Override
+    public ArrayList<ChessSquareModel> getListAttackingSquares(ChessSquareModel currentSquare, ChessBoard board) {
+        long attacks = this.getAttackingBitboard(BitboardHelper.getIndex(currentSquare.getPosition()), board.getOccupancy());
+        return BitboardHelper.getSquares(attacks, board);
+    }
+
+    /**
+     * The squares attacked by the bishop are read from the bishop table of MagicBitboardHelper. 
      */
     @Override
-    public ArrayList<ChessSquareModel> getListAttackingSquares(ChessSquareModel currentSquare, ChessBoardModel board) {
-        ArrayList<ChessSquareModel> listSquares = new ArrayList<>();
-        for (DIRECTION direction : MoveCalculatorHelper.diagonals) {
-            listSquares.addAll(MoveCalculatorHelper.calculateDiagonal(direction, currentSquare.getPosition(), board));
-        }
-        return listSquares;
+    public long getAttackingBitboard(int index, long occupancy) {
+        return MagicBitboardHelper.getBishopAttacks(index, occupancy);
     }
     
 }
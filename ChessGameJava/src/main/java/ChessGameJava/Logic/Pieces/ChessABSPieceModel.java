@@ -1,16 +1,17 @@
 package ChessGameJava.Logic.Pieces;
 
-import ChessGameJava.Logic.ChessBoardModel;
+import ChessGameJava.Logic.ChessBoard;
 import ChessGameJava.Logic.ChessSquareModel;
 import ChessGameJava.Logic.Colour;
 import ChessGameJava.Logic.Moves.BasicMove;
 import ChessGameJava.Logic.Moves.ChessABSMove;
+import ChessGameJava.Utility.PieceName;
 
 import java.util.ArrayList;
 
 /**
  * Abstract class from which all pieces inherit from. This class keeps track of
- * the hasMoved attribute and colour attribute. 
+ * the hasMoved attribute, colour attribute and the PieceName of the piece. 
  * 
  * This class can check for all the squares a piece is attacking and all the moves
  * a piece can currently do. It also provides a few sugarcoat functions to help in 
@@ -22,10 +23,11 @@ import java.util.ArrayList;
  * as it promotes a more self contained and maintainable code. 
  * 
  * @Author Charles Degrandpré
- * @Last_Updated 2023-09-02
+ * @Last_Updated 2026-10-17
  */
 public abstract class ChessABSPieceModel {
     protected Colour colour;
+    protected final PieceName pieceName;
     public boolean hasMoved = false; 
 
     /**
@@ -35,12 +37,24 @@ public abstract class ChessABSPieceModel {
     public Colour getColour() {
         return this.colour;
     }
+
+    /**
+     * Simple getter for the type of the piece. It lets the code working with pieces switch on the 
+     * type of a piece instead of testing its class. 
+     * @return The PieceName of the piece. 
+     */
+    public PieceName getPieceName() {
+        return this.pieceName;
+    }
+
     /**
-     * simple constructor to initialise the color of the piece
+     * simple constructor to initialise the color and the type of the piece
      * @param myColour the colour of the piece created 
+     * @param myPieceName the type of the piece created 
      */
-    protected ChessABSPieceModel(Colour myColour){
+    protected ChessABSPieceModel(Colour myColour, PieceName myPieceName){
         this.colour=myColour;
+        this.pieceName=myPieceName;
     }
 
     /**
@@ -60,10 +74,10 @@ public abstract class ChessABSPieceModel {
      * is attacking. 
      * 
      * @param currentSquare The ChessSquareModel the piece is currently on.
-     * @param board The ChessBoardModel instance the game is played on. 
+     * @param board The ChessBoard instance the game is played on. 
      * @return an ArrayList of ChessABSMove the piece can execute. 
      */
-    public ArrayList<ChessABSMove> getListMoves(ChessSquareModel currentSquare, ChessBoardModel board) {
+    public ArrayList<ChessABSMove> getListMoves(ChessSquareModel currentSquare, ChessBoard board) {
         ArrayList<ChessSquareModel> listSquares = this.getListAttackingSquares(currentSquare, board);
         ArrayList<ChessABSMove> listMoves = new ArrayList<>();
 
@@ -86,10 +100,22 @@ public abstract class ChessABSPieceModel {
      * that square is still being attacked and needs to be considered by this method. 
      * 
      * @param currentPos The ChessSquareModel the piece is currently on. 
-     * @param board The ChessBoardModel instance the game is played on. 
+     * @param board The ChessBoard instance the game is played on. 
      * @return An ArrayList of ChessSquareModel squares a piece is attacking. 
      */
-    abstract public ArrayList<ChessSquareModel> getListAttackingSquares(ChessSquareModel currentSquare, ChessBoardModel board);
+    abstract public ArrayList<ChessSquareModel> getListAttackingSquares(ChessSquareModel currentSquare, ChessBoard board);
+
+    /**
+     * Returns the bitboard of all the squares the piece attacks when standing on the given square. 
+     * This is the same set of squares as getListAttackingSquares but it does not need a board, only 
+     * the bitboard of the occupied squares, which lets a board keep its attack maps up to date 
+     * without creating any square. See BitboardHelper for the meaning of every bit. 
+     * 
+     * @param index The index of the square the piece is standing on. 
+     * @param occupancy The bitboard of every occupied square. 
+     * @return The bitboard of the squares the piece is attacking. 
+     */
+    abstract public long getAttackingBitboard(int index, long occupancy);
 
     /**
      * Method that checks if the move would be attacking a piece of the same colour as itself.
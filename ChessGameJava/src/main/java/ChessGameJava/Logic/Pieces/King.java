@@ -1,11 +1,13 @@
 package ChessGameJava.Logic.Pieces;
 
-import ChessGameJava.Logic.ChessBoardModel;
+import ChessGameJava.Logic.ChessBoard;
 import ChessGameJava.Logic.ChessSquareModel;
 import ChessGameJava.Logic.Colour;
 import ChessGameJava.Logic.Moves.BasicMoveKing;
 import ChessGameJava.Logic.Moves.Castle;
 import ChessGameJava.Logic.Moves.ChessABSMove;
+import ChessGameJava.Utility.BitboardHelper;
+import ChessGameJava.Utility.PieceName;
 import ChessGameJava.Utility.Position;
 
 import java.util.ArrayList;
@@ -15,7 +17,7 @@ import java.util.ArrayList;
  * possible moves that the king can do and all squares the king can attack. 
  * 
  * @Author Charles Degrandpré
- * @Last_Updated 2023-08-31
+ * @Last_Updated 2026-10-17
  */
 public class King extends ChessABSPieceModel {
 
@@ -25,7 +27,7 @@ public class King extends ChessABSPieceModel {
      * @param colourOfPiece the colour of the king.
      */
     public King(Colour colourOfPiece) {
-        super(colourOfPiece);
+        super(colourOfPiece, PieceName.KING);
     }
 
     /**
@@ -37,7 +39,7 @@ public class King extends ChessABSPieceModel {
      * and the castling. 
      */
     @Override
-    public ArrayList<ChessABSMove> getListMoves(ChessSquareModel currentSquare, ChessBoardModel board) {
+    public ArrayList<ChessABSMove> getListMoves(ChessSquareModel currentSquare, ChessBoard board) {
         ArrayList<ChessSquareModel> listSquares = this.getListAttackingSquares(currentSquare, board);
         ArrayList<ChessABSMove> listMoves = new ArrayList<>();
         for (ChessSquareModel destSquare : listSquares) {
@@ -53,27 +55,20 @@ public class King extends ChessABSPieceModel {
 
     /**
      * This method returns a list of all the squares the king can attack. This includes all squares 
-     * that are around the provided currentSquare. 
+     * that are around the provided currentSquare, read from the precomputed table of BitboardHelper. 
      */
     @Override
-    public ArrayList<ChessSquareModel> getListAttackingSquares(ChessSquareModel currentSquare, ChessBoardModel board) {
-        ArrayList<ChessSquareModel> listSquares = new ArrayList<>();
-        Position currentPosition = currentSquare.getPosition();
-
-        for (int rowMove : new int[] {-1, 0, 1}) {
-            for (int columnMove : new int[] {-1, 0, 1}) {
-                try {
-                    Position position = currentPosition.sumPosition(rowMove, columnMove);
-                    if(!position.equals(currentPosition)) {
-                        listSquares.add(board.getSquareModel(position));
-                    }
-                } catch (Exception e) {
-                    continue;
-                }
-            }
-        }
+    public ArrayList<ChessSquareModel> getListAttackingSquares(ChessSquareModel currentSquare, ChessBoard board) {
+        long attacks = this.getAttackingBitboard(BitboardHelper.getIndex(currentSquare.getPosition()), board.getOccupancy());
+        return BitboardHelper.getSquares(attacks, board);
+    }
 
-        return listSquares;
+    /**
+     * The squares attacked by the king are read from the table of BitboardHelper, they do not depend on the occupied squares. 
+     */
+    @Override
+    public long getAttackingBitboard(int index, long occupancy) {
+        return BitboardHelper.getKingAttacks(index);
     }
 
     /**
@@ -95,10 +90,10 @@ public class King extends ChessABSPieceModel {
      * the rook gets teleported to its destination. 
      * 
      * @param currentSquare The ChessSquareModel the king is currently on.
-     * @param board The ChessBoardModel instance the game is played on. 
+     * @param board The ChessBoard instance the game is played on. 
      * @return an ArrayList of ChessABSMove the piece can execute.
      */
-    protected ArrayList<ChessABSMove> getCastleMoves(ChessSquareModel currentSquare, ChessBoardModel board) {
+    protected ArrayList<ChessABSMove> getCastleMoves(ChessSquareModel currentSquare, ChessBoard board) {
         ArrayList<ChessABSMove> listMoves = new ArrayList<>();
         ArrayList<Position> positionRooks = new ArrayList<>();
 
@@ -110,7 +105,7 @@ public class King extends ChessABSPieceModel {
 
         for(ChessSquareModel square : board.getSquareList()) {
             ChessABSPieceModel piece = square.getPiece();
-            if(piece instanceof Rook && !piece.hasMoved && piece.getColour() == this.colour) {
+            if(piece.getPieceName() == PieceName.ROOK && !piece.hasMoved && piece.getColour() == this.colour) {
                 positionRooks.add(square.getPosition());
             }
         }
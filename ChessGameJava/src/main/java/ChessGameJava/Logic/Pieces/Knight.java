@@ -1,19 +1,19 @@
 package ChessGameJava.Logic.Pieces;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 
-import ChessGameJava.Logic.ChessBoardModel;
+import ChessGameJava.Logic.ChessBoard;
 import ChessGameJava.Logic.ChessSquareModel;
 import ChessGameJava.Logic.Colour;
-import ChessGameJava.Utility.Position;
+import ChessGameJava.Utility.BitboardHelper;
+import ChessGameJava.Utility.PieceName;
 
 /**
  * The class representing a knight within the project. This class is capable of returning all
  * possible moves that the knight can do and all the squares it can attack.
  * 
  * @Author Charles Degrandpré
- * @Last_Updated 2023-09-02
+ * @Last_Updated 2026-10-17
  */
 public class Knight extends ChessABSPieceModel {
 
@@ -23,7 +23,7 @@ public class Knight extends ChessABSPieceModel {
      * @param colourOfPiece the colour of the knight.
      */
     public Knight(Colour colourOfPiece) {
-        super(colourOfPiece);
+        super(colourOfPiece, PieceName.KNIGHT);
     }
 
 
@@ -34,28 +34,21 @@ public class Knight extends ChessABSPieceModel {
      * perpendicular to the direction of the two squares previously mentioned giving a sort of
      * L shape. The squares can be attacked regardless of if the path is blocked as the knight 
      * can jump over pieces. 
+     * 
+     * The squares are read from the precomputed table of BitboardHelper. 
      */
     @Override
-    public ArrayList<ChessSquareModel> getListAttackingSquares(ChessSquareModel currentSquare, ChessBoardModel board) {
-        ArrayList<ChessSquareModel> listSquares = new ArrayList<>();
-        Position currentPosition = currentSquare.getPosition();
-        
-        for (int x : Arrays.asList(-2, 2)) { 
-            for (int y : Arrays.asList(-1, 1)) { 
-                try {
-                    Position position1 = currentPosition.sumPosition(x,y);
-                    listSquares.add(board.getSquareModel(position1));
-                } catch (Exception e) {
-                }
-                try {
-                    Position position2 = currentPosition.sumPosition(y,x);
-                    listSquares.add(board.getSquareModel(position2));
-                } catch (Exception e) {
-                }
-            }    
-        }
+    public ArrayList<ChessSquareModel> getListAttackingSquares(ChessSquareModel currentSquare, ChessBoard board) {
+        long attacks = this.getAttackingBitboard(BitboardHelper.getIndex(currentSquare.getPosition()), board.getOccupancy());
+        return BitboardHelper.getSquares(attacks, board);
+    }
 
-        return listSquares;
+    /**
+     * The squares attacked by the knight are read from the table of BitboardHelper, they do not depend on the occupied squares. 
+     */
+    @Override
+    public long getAttackingBitboard(int index, long occupancy) {
+        return BitboardHelper.getKnightAttacks(index);
     }
     
 }
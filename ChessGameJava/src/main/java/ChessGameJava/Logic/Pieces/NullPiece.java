@@ -1,8 +1,9 @@
 package ChessGameJava.Logic.Pieces;
 
-import ChessGameJava.Logic.ChessBoardModel;
+import ChessGameJava.Logic.ChessBoard;
 import ChessGameJava.Logic.ChessSquareModel;
 import ChessGameJava.Logic.Colour;
+import ChessGameJava.Utility.PieceName;
 
 import java.util.ArrayList;
 
@@ -13,12 +14,15 @@ import java.util.ArrayList;
  * This allows us to interface with squares without fear of there not being a piece. But 
  * rather a piece that returns empty lists and values clearly stated as null. 
  * 
- * All instances of this class have the Colour of NULL.
+ * All instances of this class have the Colour of NULL. As a null piece holds no state that matters, 
+ * a single instance is shared by every empty square, see getInstance.
  * 
  * @Author Charles Degrandpré
- * @Last_Updated 2023-09-02
+ * @Last_Updated 2026-10-17
  */
 public class NullPiece extends ChessABSPieceModel {
+    private final static NullPiece instance = new NullPiece();
+
     /**
      * Constructor of a null piece. as the piece is meant to be
      * unable to do anything, it doesn't have parameters.
@@ -27,8 +31,17 @@ public class NullPiece extends ChessABSPieceModel {
      * if a square is occupied. If the Colour is NULL, then the square can
      * be considered empty. 
      */
-    public NullPiece() {
-        super(Colour.NULL);
+    private NullPiece() {
+        super(Colour.NULL, PieceName.NULL);
+    }
+
+    /**
+     * Returns the instance of NullPiece shared by every empty square. 
+     * 
+     * @return The NullPiece instance. 
+     */
+    public static NullPiece getInstance() {
+        return NullPiece.instance;
     }
 
 
@@ -37,7 +50,15 @@ public class NullPiece extends ChessABSPieceModel {
      * returns a new empty ArrayList of ChessSquareModel. 
      */
     @Override
-    public ArrayList<ChessSquareModel> getListAttackingSquares(ChessSquareModel currentSquare, ChessBoardModel board) {
+    public ArrayList<ChessSquareModel> getListAttackingSquares(ChessSquareModel currentSquare, ChessBoard board) {
         return new ArrayList<>();
     }
+
+    /**
+     * A null piece does not attack any square. 
+     */
+    @Override
+    public long getAttackingBitboard(int index, long occupancy) {
+        return 0L;
+    }
 }
@@ -1,27 +1,28 @@
 package ChessGameJava.Logic.Pieces;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 
-import ChessGameJava.Logic.ChessBoardModel;
+import ChessGameJava.Logic.BoardState;
+import ChessGameJava.Logic.ChessBoard;
 import ChessGameJava.Logic.ChessSquareModel;
 import ChessGameJava.Logic.Colour;
 import ChessGameJava.Logic.Moves.BasicMovePawn;
 import ChessGameJava.Logic.Moves.ChessABSMove;
 import ChessGameJava.Logic.Moves.EnPassant;
+import ChessGameJava.Utility.BitboardHelper;
 import ChessGameJava.Utility.Position;
+import ChessGameJava.Utility.PieceName;
 
 /**
  * This class represents a pawn within the project. It is capable of returning 
  * all the moves a pawn can do and return all the squares it can attack. 
  * 
  * @Author Charles Degrandpré
- * @Last_Updated 2023-09-02
+ * @Last_Updated 2026-10-17
  */
 public class Pawn extends ChessABSPieceModel{
 
-    public static Integer turnOfLastPlayedPawn = null;
-    public Integer turnOfDoubleMove = null;
+    private final static int[] offsetsEnPassant = { -1, 1 };
 
     /**
      * Constructor of the Pawn class. Assigns the colour of the piece.
@@ -29,7 +30,7 @@ public class Pawn extends ChessABSPieceModel{
      * @param colourOfPiece the colour of the Pawn.
      */
     public Pawn(Colour colourOfPiece) {
-        super(colourOfPiece);
+        super(colourOfPiece, PieceName.PAWN);
     }
 
 
@@ -39,7 +40,7 @@ public class Pawn extends ChessABSPieceModel{
      * possible en-passant moves. 
      */
     @Override
-    public ArrayList<ChessABSMove> getListMoves(ChessSquareModel currentSquare, ChessBoardModel board) {
+    public ArrayList<ChessABSMove> getListMoves(ChessSquareModel currentSquare, ChessBoard board) {
         Colour opponentColour = this.colour == Colour.BLACK ? Colour.WHITE : Colour.BLACK;
 
         ArrayList<ChessABSMove> listMoves = new ArrayList<>();
@@ -63,70 +64,60 @@ public class Pawn extends ChessABSPieceModel{
      * The front is determine by the direction the pawn moves towards. 
      */
     @Override
-    public ArrayList<ChessSquareModel> getListAttackingSquares(ChessSquareModel currentSquare, ChessBoardModel board) {
+    public ArrayList<ChessSquareModel> getListAttackingSquares(ChessSquareModel currentSquare, ChessBoard board) {
         return this.colour == Colour.WHITE ? this.getListAttackingSquaresWhite(currentSquare, board) : this.getListAttackingSquaresBlack(currentSquare, board);
     }
 
+    /**
+     * The squares attacked by the pawn are read from the table of its colour in BitboardHelper. 
+     */
+    @Override
+    public long getAttackingBitboard(int index, long occupancy) {
+        return BitboardHelper.getPawnAttacks(index, this.colour);
+    }
+
     /**
      * Helper function to calculate the two squares a pawn can attack if he is White.
      * 
-     * These squares are the two squares in diagonally directly in front of the pawn. 
+     * These squares are the two squares in diagonally directly in front of the pawn, they are read 
+     * from the precomputed table of BitboardHelper. 
      * 
      * Note: Be careful, as this method throws a RuntimeException if it is being called 
      * from a pawn whose colour isn't white. 
      * 
      * @param currentSquare The ChessSquareModel the pawn is currently on.
-     * @param board The ChessBoardModel instance the game is played on. 
+     * @param board The ChessBoard instance the game is played on. 
      * @return an ArrayList of ChessABSMove the pawn can execute.
      */
-    protected ArrayList<ChessSquareModel> getListAttackingSquaresWhite(ChessSquareModel currentSquare, ChessBoardModel board) {
+    protected ArrayList<ChessSquareModel> getListAttackingSquaresWhite(ChessSquareModel currentSquare, ChessBoard board) {
         if (this.colour != Colour.WHITE) {
             throw new RuntimeException("Cannot call method, the piece is not of colour White");
         }
 
-        ArrayList<ChessSquareModel> listSquares = new ArrayList<>();
-
-        for (int x : Arrays.asList(-1, 1)) {
-            try {
-                Position position = currentSquare.getPosition().sumPosition(x, -1);
-                listSquares.add(board.getSquareModel(position));
-            } catch (Exception e) {
-                continue;
-            }
-        }
-
-        return listSquares;
+        long attacks = BitboardHelper.getPawnAttacks(BitboardHelper.getIndex(currentSquare.getPosition()), Colour.WHITE);
+        return BitboardHelper.getSquares(attacks, board);
     }
 
     /**
      * Helper function to calculate the two squares a pawn can attack if he is Black.
      * 
-     * These squares are the two squares in diagonally directly in front of the pawn. 
+     * These squares are the two squares in diagonally directly in front of the pawn, they are read 
+     * from the precomputed table of BitboardHelper. 
      * 
      * Note: Be careful, as this method throws a RuntimeException if it is being called 
      * from a pawn whose colour isn't black. 
      * 
      * @param currentSquare The ChessSquareModel the pawn is currently on.
-     * @param board The ChessBoardModel instance the game is played on. 
+     * @param board The ChessBoard instance the game is played on. 
      * @return an ArrayList of ChessABSMove the pawn can execute.
      */
-    protected ArrayList<ChessSquareModel> getListAttackingSquaresBlack(ChessSquareModel currentSquare, ChessBoardModel board) {
+    protected ArrayList<ChessSquareModel> getListAttackingSquaresBlack(ChessSquareModel currentSquare, ChessBoard board) {
         if (this.colour != Colour.BLACK) {
             throw new RuntimeException("Cannot call method, the piece is not of colour Black");
         }
 
-        ArrayList<ChessSquareModel> listSquares = new ArrayList<>();
-
-        for (int x : Arrays.asList(-1, 1)) {
-            try {
-                Position position = currentSquare.getPosition().sumPosition(x, 1);
-                listSquares.add(board.getSquareModel(position));
-            } catch (Exception e) {
-                continue;
-            }
-        }
-
-        return listSquares;
+        long attacks = BitboardHelper.getPawnAttacks(BitboardHelper.getIndex(currentSquare.getPosition()), Colour.BLACK);
+        return BitboardHelper.getSquares(attacks, board);
     }
 
     /**
@@ -138,10 +129,10 @@ public class Pawn extends ChessABSPieceModel{
      * or, if he has yet to move during the game, two squares forward. 
      * 
      * @param currentSquare The ChessSquareModel the pawn is currently on.
-     * @param board The ChessBoardModel instance the game is played on. 
+     * @param board The ChessBoard instance the game is played on. 
      * @return an ArrayList of ChessABSMove the pawn can execute.
      */
-    protected ArrayList<ChessABSMove> getMovesInFront(ChessSquareModel currentSquare, ChessBoardModel board) {
+    protected ArrayList<ChessABSMove> getMovesInFront(ChessSquareModel currentSquare, ChessBoard board) {
         return this.colour == Colour.WHITE ? this.getMovesInFrontWhite(currentSquare, board) : this.getMovesInFrontBlack(currentSquare, board);
     }
 
@@ -158,29 +149,25 @@ public class Pawn extends ChessABSPieceModel{
      * from a pawn whose colour isn't white.
      * 
      * @param currentSquare The ChessSquareModel the pawn is currently on.
-     * @param board The ChessBoardModel instance the game is played on. 
+     * @param board The ChessBoard instance the game is played on. 
      * @return an ArrayList of ChessABSMove the pawn can execute.
      */
-    protected ArrayList<ChessABSMove> getMovesInFrontWhite(ChessSquareModel currentSquare, ChessBoardModel board) {
+    protected ArrayList<ChessABSMove> getMovesInFrontWhite(ChessSquareModel currentSquare, ChessBoard board) {
         if (this.colour != Colour.WHITE) {
             throw new RuntimeException("Cannot call method, the piece is not of colour White");
         }
 
         ArrayList<ChessABSMove> listMoves = new ArrayList<>();
 
-        try {
-            Position position1 = currentSquare.getPosition().sumPosition(0, -1);
-            if(board.getSquareModel(position1).getPiece().getColour() == Colour.NULL) {
-                listMoves.add(new BasicMovePawn(currentSquare, board.getSquareModel(position1)));
-                if(!this.hasMoved) {
-                    Position position2 = currentSquare.getPosition().sumPosition(0, -2);
-                    if(board.getSquareModel(position2).getPiece().getColour() == Colour.NULL) {
-                        listMoves.add(new BasicMovePawn(currentSquare, board.getSquareModel(position2)));
-                    }
+        Position position1 = currentSquare.getPosition().tryOffset(0, -1);
+        if(position1 != null && board.getSquareModel(position1).getPiece().getColour() == Colour.NULL) {
+            listMoves.add(new BasicMovePawn(currentSquare, board.getSquareModel(position1)));
+            if(!this.hasMoved) {
+                Position position2 = currentSquare.getPosition().tryOffset(0, -2);
+                if(position2 != null && board.getSquareModel(position2).getPiece().getColour() == Colour.NULL) {
+                    listMoves.add(new BasicMovePawn(currentSquare, board.getSquareModel(position2)));
                 }
             }
-        } catch (Exception e) {
-            // Do nothing
         }
 
         return listMoves;
@@ -199,29 +186,25 @@ public class Pawn extends ChessABSPieceModel{
      * from a pawn whose colour isn't black.
      * 
      * @param currentSquare The ChessSquareModel the pawn is currently on.
-     * @param board The ChessBoardModel instance the game is played on. 
+     * @param board The ChessBoard instance the game is played on. 
      * @return an ArrayList of ChessABSMove the pawn can execute.
      */
-    protected ArrayList<ChessABSMove> getMovesInFrontBlack(ChessSquareModel currentSquare, ChessBoardModel board) {
+    protected ArrayList<ChessABSMove> getMovesInFrontBlack(ChessSquareModel currentSquare, ChessBoard board) {
         if (this.colour != Colour.BLACK) {
             throw new RuntimeException("Cannot call method, the piece is not of colour Black");
         }
 
         ArrayList<ChessABSMove> listMoves = new ArrayList<>();
 
-        try {
-            Position position1 = currentSquare.getPosition().sumPosition(0, 1);
-            if(board.getSquareModel(position1).getPiece().getColour() == Colour.NULL) {
-                listMoves.add(new BasicMovePawn(currentSquare, board.getSquareModel(position1)));
-                if(!this.hasMoved) {
-                    Position position2 = currentSquare.getPosition().sumPosition(0, 2);
-                    if(board.getSquareModel(position2).getPiece().getColour() == Colour.NULL) {
-                        listMoves.add(new BasicMovePawn(currentSquare, board.getSquareModel(position2))); 
-                    }
+        Position position1 = currentSquare.getPosition().tryOffset(0, 1);
+        if(position1 != null && board.getSquareModel(position1).getPiece().getColour() == Colour.NULL) {
+            listMoves.add(new BasicMovePawn(currentSquare, board.getSquareModel(position1)));
+            if(!this.hasMoved) {
+                Position position2 = currentSquare.getPosition().tryOffset(0, 2);
+                if(position2 != null && board.getSquareModel(position2).getPiece().getColour() == Colour.NULL) {
+                    listMoves.add(new BasicMovePawn(currentSquare, board.getSquareModel(position2))); 
                 }
             }
-        } catch (Exception e) {
-            // Do nothing
         }
 
         return listMoves;
@@ -237,11 +220,11 @@ public class Pawn extends ChessABSPieceModel{
      * it from the game. 
      * 
      * @param currentSquare The ChessSquareModel the pawn is currently on.
-     * @param board The ChessBoardModel instance the game is played on. 
+     * @param board The ChessBoard instance the game is played on. 
      * @return an ArrayList of ChessABSMove the pawn can execute.
      */
-    protected ArrayList<ChessABSMove> getMovesEnPassant(ChessSquareModel currentSquare, ChessBoardModel board) {
-        if(Pawn.turnOfLastPlayedPawn == null) {
+    protected ArrayList<ChessABSMove> getMovesEnPassant(ChessSquareModel currentSquare, ChessBoard board) {
+        if(board.getBoardState().getEnPassantSquare() == BoardState.noSquare) {
             return new ArrayList<>();
         }
 
@@ -261,29 +244,23 @@ public class Pawn extends ChessABSPieceModel{
      * from a pawn whose colour isn't white.
      * 
      * @param currentSquare The ChessSquareModel the pawn is currently on.
-     * @param board The ChessBoardModel instance the game is played on. 
+     * @param board The ChessBoard instance the game is played on. 
      * @return an ArrayList of ChessABSMove the pawn can execute.
      */
-    protected ArrayList<ChessABSMove> getMovesEnPassantWhite(ChessSquareModel currentSquare, ChessBoardModel board) {
+    protected ArrayList<ChessABSMove> getMovesEnPassantWhite(ChessSquareModel currentSquare, ChessBoard board) {
         if (this.colour != Colour.WHITE) {
             throw new RuntimeException("Cannot call method, the piece is not of colour White");
         }
 
         ArrayList<ChessABSMove> listMoves = new ArrayList<>();
         
-        for (int x : Arrays.asList(-1, 1)) {
-            try {
-                Position position = currentSquare.getPosition().sumPosition(x, 0);
-                if(board.getSquareModel(position).getPiece() instanceof Pawn) {
-                    Pawn pawn = (Pawn) board.getSquareModel(position).getPiece();
-                    if(pawn.turnOfDoubleMove == ChessABSMove.getMoveCountForBoard(board) -1) {
-                        if(board.getSquareModel(position.sumPosition(0, -1)).getPiece().getColour() == Colour.NULL) {
-                            listMoves.add(new EnPassant(currentSquare, board.getSquareModel(position.sumPosition(0, -1)), board.getSquareModel(position))); 
-                        }
-                    }
+        for (int x : offsetsEnPassant) {
+            Position position = currentSquare.getPosition().tryOffset(x, 0);
+            if(position != null && this.canBeTakenEnPassant(board.getSquareModel(position).getPiece(), position.tryOffset(0, -1), board)) {
+                Position positionBehind = position.tryOffset(0, -1);
+                if(board.getSquareModel(positionBehind).getPiece().getColour() == Colour.NULL) {
+                    listMoves.add(new EnPassant(currentSquare, board.getSquareModel(positionBehind), board.getSquareModel(position))); 
                 }
-            } catch (Exception e) {
-                continue;
             }
         }
 
@@ -303,33 +280,42 @@ public class Pawn extends ChessABSPieceModel{
      * from a pawn whose colour isn't black.
      * 
      * @param currentSquare The ChessSquareModel the pawn is currently on.
-     * @param board The ChessBoardModel instance the game is played on. 
+     * @param board The ChessBoard instance the game is played on. 
      * @return an ArrayList of ChessABSMove the pawn can execute.
      */
-    protected ArrayList<ChessABSMove> getMovesEnPassantBlack(ChessSquareModel currentSquare, ChessBoardModel board) {
+    protected ArrayList<ChessABSMove> getMovesEnPassantBlack(ChessSquareModel currentSquare, ChessBoard board) {
         if (this.colour != Colour.BLACK) {
             throw new RuntimeException("Cannot call method, the piece is not of colour Black");
         }
 
         ArrayList<ChessABSMove> listMoves = new ArrayList<>();
         
-        for (int x : Arrays.asList(-1, 1)) {
-            try {
-                Position position = currentSquare.getPosition().sumPosition(x, 0);
-                if(board.getSquareModel(position).getPiece() instanceof Pawn) {
-                    Pawn pawn = (Pawn) board.getSquareModel(position).getPiece();
-                    if(pawn.turnOfDoubleMove == ChessABSMove.getMoveCountForBoard(board) -1 ) {
-                        if(board.getSquareModel(position.sumPosition(0, 1)).getPiece().getColour() == Colour.NULL) {
-                            listMoves.add(new EnPassant(currentSquare, board.getSquareModel(position.sumPosition(0, 1)), board.getSquareModel(position))); 
-                        }
-                    }
+        for (int x : offsetsEnPassant) {
+            Position position = currentSquare.getPosition().tryOffset(x, 0);
+            if(position != null && this.canBeTakenEnPassant(board.getSquareModel(position).getPiece(), position.tryOffset(0, 1), board)) {
+                Position positionBehind = position.tryOffset(0, 1);
+                if(board.getSquareModel(positionBehind).getPiece().getColour() == Colour.NULL) {
+                    listMoves.add(new EnPassant(currentSquare, board.getSquareModel(positionBehind), board.getSquareModel(position))); 
                 }
-            } catch (Exception e) {
-                continue;
             }
         }
 
         return listMoves;
     }
+
+    /**
+     * Helper function that checks if the provided piece is a pawn of the opponent that did a double 
+     * pawn move on the last turn played on the board, meaning it can be taken en-passant on this turn. 
+     * This is the case when the square behind the pawn is the en-passant square of the BoardState. 
+     * 
+     * @param piece The ChessABSPieceModel next to the pawn. 
+     * @param positionBehind The Position behind the piece, from the point of view of its owner. 
+     * @param board The ChessBoard instance the game is played on. 
+     * @return True if the piece can be taken en-passant, false otherwise. 
+     */
+    private boolean canBeTakenEnPassant(ChessABSPieceModel piece, Position positionBehind, ChessBoard board) {
+        return piece.getPieceName() == PieceName.PAWN && piece.getColour() != this.colour && positionBehind != null
+                && positionBehind.getIndex() == board.getBoardState().getEnPassantSquare();
+    }
     
 }
@@ -2,18 +2,19 @@ package ChessGameJava.Logic.Pieces;
 
 import java.util.ArrayList;
 
-import ChessGameJava.Logic.ChessBoardModel;
+import ChessGameJava.Logic.ChessBoard;
 import ChessGameJava.Logic.ChessSquareModel;
 import ChessGameJava.Logic.Colour;
-import ChessGameJava.Utility.MoveCalculatorHelper;
-import ChessGameJava.Utility.MoveCalculatorHelper.DIRECTION;
+import ChessGameJava.Utility.BitboardHelper;
+import ChessGameJava.Utility.MagicBitboardHelper;
+import ChessGameJava.Utility.PieceName;
 
 /**
  * The class representing a queen within the project. This class is capable of returning all
  * possible moves that the queen can do and all the squares it can attack. 
  * 
  * @Author Charles Degrandpré
- * @Last_Updated 2023-09-02
+ * @Last_Updated 2026-10-17
  */
 public class Queen extends ChessABSPieceModel {
     /**
@@ -22,7 +23,7 @@ public class Queen extends ChessABSPieceModel {
      * @param colourOfPiece the colour of the queen.
      */
     public Queen(Colour colourOfPiece) {
-        super(colourOfPiece);
+        super(colourOfPiece, PieceName.QUEEN);
     }
 
 
@@ -30,17 +31,22 @@ public class Queen extends ChessABSPieceModel {
      * Method used to return all the squares a queen can attack. A queen can attack all 
      * squares diagonal to her current square and all squares in any of the four cardinal 
      * directions to her current square up to and including the first occupied square. 
+     * 
+     * The squares are obtained with a lookup in the rook and bishop tables of MagicBitboardHelper 
+     * using the occupied squares of the board. 
+     */
+    @Override
+    public ArrayList<ChessSquareModel> getListAttackingSquares(ChessSquareModel currentSquare, ChessBoard board) {
+        long attacks = this.getAttackingBitboard(BitboardHelper.getIndex(currentSquare.getPosition()), board.getOccupancy());
+        return BitboardHelper.getSquares(attacks, board);
+    }
+
+    /**
+     * The squares attacked by the queen are read from both tables of MagicBitboardHelper. 
      */
     @Override
-    public ArrayList<ChessSquareModel> getListAttackingSquares(ChessSquareModel currentSquare, ChessBoardModel board) {
-        ArrayList<ChessSquareModel> listSquares = new ArrayList<>();
-        for (DIRECTION direction : MoveCalculatorHelper.lines) {
-            listSquares.addAll(MoveCalculatorHelper.calculateLine(direction, currentSquare.getPosition(), board));
-        }
-        for (DIRECTION direction : MoveCalculatorHelper.diagonals) {
-            listSquares.addAll(MoveCalculatorHelper.calculateDiagonal(direction, currentSquare.getPosition(), board));
-        }
-        return listSquares;
+    public long getAttackingBitboard(int index, long occupancy) {
+        return MagicBitboardHelper.getQueenAttacks(index, occupancy);
     }
     
 }
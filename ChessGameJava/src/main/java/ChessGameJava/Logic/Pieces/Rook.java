@@ -2,18 +2,19 @@ package ChessGameJava.Logic.Pieces;
 
 import java.util.ArrayList;
 
-import ChessGameJava.Logic.ChessBoardModel;
+import ChessGameJava.Logic.ChessBoard;
 import ChessGameJava.Logic.ChessSquareModel;
 import ChessGameJava.Logic.Colour;
-import ChessGameJava.Utility.MoveCalculatorHelper;
-import ChessGameJava.Utility.MoveCalculatorHelper.DIRECTION;
+import ChessGameJava.Utility.BitboardHelper;
+import ChessGameJava.Utility.MagicBitboardHelper;
+import ChessGameJava.Utility.PieceName;
 
 /**
  * The class representing a rook within the project. This class is capable of returning all
  * possible moves that the queen can do and all the squares it can attack. 
  * 
  * @Author Charles Degrandpré
- * @Last_Updated 2023-09-02
+ * @Last_Updated 2026-10-17
  */
 public class Rook extends ChessABSPieceModel {
 
@@ -23,7 +24,7 @@ public class Rook extends ChessABSPieceModel {
      * @param colourOfPiece the colour of the rook.
      */
     public Rook(Colour colourOfPiece) {
-        super(colourOfPiece);
+        super(colourOfPiece, PieceName.ROOK);
     }
 
 
@@ -31,14 +32,22 @@ public class Rook extends ChessABSPieceModel {
      * Method used to return all the squares a rook can attack. A rook can attack all squares
      * from his current position going in the four cardinal positions up to an including the 
      * first occupied square. 
+     * 
+     * The squares are obtained with a single lookup in the tables of MagicBitboardHelper using 
+     * the occupied squares of the board. 
+     */
+    @Override
+    public ArrayList<ChessSquareModel> getListAttackingSquares(ChessSquareModel currentSquare, ChessBoard board) {
+        long attacks = this.getAttackingBitboard(BitboardHelper.getIndex(currentSquare.getPosition()), board.getOccupancy());
+        return BitboardHelper.getSquares(attacks, board);
+    }
+
+    /**
+     * The squares attacked by the rook are read from the rook table of MagicBitboardHelper. 
      */
     @Override
-    public ArrayList<ChessSquareModel> getListAttackingSquares(ChessSquareModel currentSquare, ChessBoardModel board) {
-        ArrayList<ChessSquareModel> listSquares = new ArrayList<>();
-        for (DIRECTION direction : MoveCalculatorHelper.lines) {
-            listSquares.addAll(MoveCalculatorHelper.calculateLine(direction, currentSquare.getPosition(), board));
-        }
-        return listSquares;
+    public long getAttackingBitboard(int index, long occupancy) {
+        return MagicBitboardHelper.getRookAttacks(index, occupancy);
     }
     
 }
@@ -0,0 +1,110 @@
+package ChessGameJava.Perft;
+
+import ChessGameJava.Logic.BitboardBoardModel;
+import ChessGameJava.Logic.BitboardMoveGenerator;
+import ChessGameJava.Logic.Moves.PackedMove;
+
+/**
+ * Class in charge of running a perft on the native API of a BitboardBoardModel. The moves are generated 
+ * by BitboardMoveGenerator in arrays allocated once per depth and played with makeMove and unmakeMove, 
+ * meaning the walk does not allocate anything. Unlike Perft, the moves follow the FIDE rules, so the 
+ * counts can be compared with the usual reference values. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public class BitboardPerft {
+    private final BitboardBoardModel board;
+    private int[][] moves = new int[0][];
+
+    /**
+     * Constructor of the BitboardPerft class. The perft starts from the current position of the board 
+     * and considers that its side to move moves first. 
+     * 
+     * @param board The BitboardBoardModel whose position we want to walk. 
+     */
+    public BitboardPerft(BitboardBoardModel board) {
+        this.board = board;
+    }
+
+    /**
+     * Counts the number of leaves of the tree of legal moves of the given depth starting from the 
+     * current position. The board is in the same state before and after the call. 
+     * 
+     * @param depth The number of half moves to play. 
+     * @return The number of leaves reached. 
+     */
+    public long perft(int depth) {
+        this.allocateMoves(depth);
+        return this.perft(depth, 0);
+    }
+
+    /**
+     * Runs a perft of the given depth and keeps the number of leaves found under every legal move 
+     * of the current position. See Perft.divide. 
+     * 
+     * @param depth The number of half moves to play, must be at least 1. 
+     * @return The PerftResult containing the count of every root move, the total and the time it took. 
+     */
+    public PerftResult divide(int depth) {
+        if (depth < 1) {
+            throw new RuntimeException("Cannot divide a perft with a depth smaller than 1");
+        }
+
+        this.allocateMoves(depth);
+        PerftResult result = new PerftResult(depth);
+        long start = System.nanoTime();
+
+        int[] rootMoves = this.moves[0];
+        int numberOfMoves = BitboardMoveGenerator.generateLegalMoves(this.board, rootMoves);
+        for (int i = 0; i < numberOfMoves; i++) {
+            this.board.makeMove(rootMoves[i]);
+            long count = this.perft(depth - 1, 1);
+            this.board.unmakeMove();
+
+            result.addRootMove(PackedMove.toAlgebraic(rootMoves[i]), count);
+        }
+
+        result.setElapsedNanos(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Recursive implementation of the perft. At a depth of 1, the legal moves are simply counted. 
+     * 
+     * @param depth The number of half moves left to play. 
+     * @param ply The number of half moves played since the root, used to pick the array of moves. 
+     * @return The number of leaves reached. 
+     */
+    private long perft(int depth, int ply) {
+        if (depth == 0) {
+            return 1;
+        }
+
+        int[] legalMoves = this.moves[ply];
+        int numberOfMoves = BitboardMoveGenerator.generateLegalMoves(this.board, legalMoves);
+        if (depth == 1) {
+            return numberOfMoves;
+        }
+
+        long count = 0;
+        for (int i = 0; i < numberOfMoves; i++) {
+            this.board.makeMove(legalMoves[i]);
+            count += this.perft(depth - 1, ply + 1);
+            this.board.unmakeMove();
+        }
+
+        return count;
+    }
+
+    /**
+     * Makes sure there is one array of moves for every depth of the walk. 
+     * 
+     * @param depth The depth of the walk. 
+     */
+    private void allocateMoves(int depth) {
+        if (this.moves.length < depth) {
+            this.moves = new int[depth][BitboardMoveGenerator.maxNumberOfMoves];
+        }
+    }
+}
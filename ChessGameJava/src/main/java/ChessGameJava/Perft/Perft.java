@@ -0,0 +1,127 @@
+package ChessGameJava.Perft;
+
+import java.util.ArrayList;
+
+import ChessGameJava.Controller.ChessController;
+import ChessGameJava.Logic.ChessBoard;
+import ChessGameJava.Logic.LegalMoveGenerator;
+import ChessGameJava.Logic.Colour;
+import ChessGameJava.Logic.Moves.ChessABSMove;
+
+/**
+ * Class in charge of running a perft (performance test) on the board of a ChessController. A perft walks 
+ * the whole tree of legal moves from the current position up to a given depth and counts the leaves it 
+ * reaches. Comparing those counts with known reference values tells us if the move generation is correct 
+ * and timing the walk tells us how fast the board generates, executes and reverts moves. 
+ * 
+ * The walk uses exactly what the game uses: LegalMoveGenerator to generate the legal moves and 
+ * ChessABSMove.processExecuteMove and processRevertMove to play them. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public class Perft {
+    private final ChessController controller;
+    private final ChessBoard board;
+
+    /**
+     * Constructor of the Perft class. The perft starts from the current position of the board of the 
+     * provided controller and considers that the current player of the controller moves first. 
+     * 
+     * @param controller The ChessController whose game we want to walk. 
+     */
+    public Perft(ChessController controller) {
+        this.controller = controller;
+        this.board = controller.getBoard();
+    }
+
+    /**
+     * Counts the number of leaves of the tree of legal moves of the given depth starting from the 
+     * current position. The board is in the same state before and after the call. 
+     * 
+     * @param depth The number of half moves to play. 
+     * @return The number of leaves reached. 
+     */
+    public long perft(int depth) {
+        return this.perft(depth, this.controller.getCurrentPlayer());
+    }
+
+    /**
+     * Runs a perft of the given depth and keeps the number of leaves found under every legal move 
+     * of the current position, what is usually called a "divide". This is the tool of choice to find 
+     * which move is generated incorrectly when a count does not match its reference value. 
+     * 
+     * @param depth The number of half moves to play, must be at least 1. 
+     * @return The PerftResult containing the count of every root move, the total and the time it took. 
+     */
+    public PerftResult divide(int depth) {
+        if (depth < 1) {
+            throw new RuntimeException("Cannot divide a perft with a depth smaller than 1");
+        }
+
+        Colour player = this.controller.getCurrentPlayer();
+        PerftResult result = new PerftResult(depth);
+        long start = System.nanoTime();
+
+        for (ChessABSMove move : this.getLegalMoves(player)) {
+            String name = move.getFirstSquare().getPosition().toAlgebraic() + move.getSecondSquare().getPosition().toAlgebraic();
+
+            move.processExecuteMove(board);
+            long count = this.perft(depth - 1, this.getOpponent(player));
+            move.processRevertMove(board);
+
+            result.addRootMove(name, count);
+        }
+
+        result.setElapsedNanos(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Recursive implementation of the perft. At a depth of 1, the legal moves are simply counted as there 
+     * is no need to play the moves of the last level to know how many leaves there are. 
+     * 
+     * @param depth The number of half moves left to play. 
+     * @param player The Colour of the player who has to move. 
+     * @return The number of leaves reached. 
+     */
+    private long perft(int depth, Colour player) {
+        if (depth == 0) {
+            return 1;
+        }
+
+        ArrayList<ChessABSMove> legalMoves = this.getLegalMoves(player);
+        if (depth == 1) {
+            return legalMoves.size();
+        }
+
+        long count = 0;
+        for (ChessABSMove move : legalMoves) {
+            move.processExecuteMove(board);
+            count += this.perft(depth - 1, this.getOpponent(player));
+            move.processRevertMove(board);
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns all the legal moves of the given player. The moves of every piece are collected 
+     * before any of them is played since playing a move swaps squares within the board. The 
+     * moves leaving the king in check are discarded by LegalMoveGenerator. 
+     * 
+     * @param player The Colour of the player we want the moves of. 
+     * @return An ArrayList of ChessABSMove containing every legal move. 
+     */
+    private ArrayList<ChessABSMove> getLegalMoves(Colour player) {
+        return new LegalMoveGenerator(this.board, player).getLegalMoves();
+    }
+
+    /**
+     * @param player The Colour of a player. 
+     * @return The Colour of the opponent of the player. 
+     */
+    private Colour getOpponent(Colour player) {
+        return player == Colour.WHITE ? Colour.BLACK : Colour.WHITE;
+    }
+}
@@ -0,0 +1,113 @@
+package ChessGameJava.Perft;
+
+import java.util.ArrayList;
+
+import ChessGameJava.Controller.ChessController;
+import ChessGameJava.Logic.BitboardBoardModel;
+import ChessGameJava.Logic.ChessBoard;
+import ChessGameJava.Logic.ChessBoardModel;
+import ChessGameJava.Logic.Colour;
+import ChessGameJava.Utility.FenHelper;
+import ChessGameJava.Utility.Position;
+
+/**
+ * Command line entry point of the perft tool. It brings a new game to the requested position by playing 
+ * the provided moves and then runs a perft from that position. The game starts from the starting position 
+ * or from the FEN string of the --fen option, see FenHelper. 
+ * 
+ * Usage: PerftMain <depth> [--divide] [--bitboard] [--native] [--fen <fen>] [move ...] 
+ * 
+ * The moves are written as their two squares in algebraic notation (ex: e2e4). Without the --divide 
+ * option, the perft is run for every depth from 1 up to the requested depth. With it, only the 
+ * requested depth is run and the number of leaves found under every root move is printed. The 
+ * --bitboard option runs the perft on a BitboardBoardModel instead of a ChessBoardModel. The --native 
+ * option runs it on the packed moves of a BitboardBoardModel (see BitboardPerft), which follow the FIDE 
+ * rules. The provided moves are still played with the rules of the game before the copy is made. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public class PerftMain {
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.out.println("Usage: PerftMain <depth> [--divide] [--bitboard] [--native] [--fen <fen>] [move ...]");
+            return;
+        }
+
+        int depth = Integer.parseInt(args[0]);
+        boolean divide = false;
+        boolean bitboard = false;
+        boolean isNative = false;
+        String fen = FenHelper.startingPosition;
+        ArrayList<String> moves = new ArrayList<>();
+
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].equals("--divide")) {
+                divide = true;
+            } else if (args[i].equals("--bitboard")) {
+                bitboard = true;
+            } else if (args[i].equals("--native")) {
+                isNative = true;
+            } else if (args[i].equals("--fen") && i + 1 < args.length) {
+                fen = args[++i];
+            } else {
+                moves.add(args[i]);
+            }
+        }
+
+        Colour sideToMove = FenHelper.getSideToMove(fen);
+        ChessBoard board = bitboard ? new BitboardBoardModel(new ChessBoardModel(fen), sideToMove) : new ChessBoardModel(fen);
+        ChessController controller = new ChessController(board, sideToMove);
+        for (String move : moves) {
+            if (move.length() != 4 || controller.playMove(Position.fromAlgebraic(move.substring(0, 2)), Position.fromAlgebraic(move.substring(2, 4))).isEmpty()) {
+                System.out.println(String.format("Illegal move: %s", move));
+                return;
+            }
+        }
+
+        if (isNative) {
+            BitboardPerft perft = new BitboardPerft(new BitboardBoardModel(controller.getBoard(), controller.getCurrentPlayer()));
+            if (divide) {
+                PerftMain.printDivide(perft.divide(depth));
+            } else {
+                for (int currentDepth = 1; currentDepth <= depth; currentDepth++) {
+                    PerftMain.printResult(perft.divide(currentDepth));
+                }
+            }
+            return;
+        }
+
+        Perft perft = new Perft(controller);
+        if (divide) {
+            PerftMain.printDivide(perft.divide(depth));
+        } else {
+            for (int currentDepth = 1; currentDepth <= depth; currentDepth++) {
+                PerftMain.printResult(perft.divide(currentDepth));
+            }
+        }
+    }
+
+    /**
+     * Prints the number of leaves found under every root move followed by the result of the perft. 
+     * 
+     * @param result The PerftResult to print. 
+     */
+    private static void printDivide(PerftResult result) {
+        for (int i = 0; i < result.getRootMoves().size(); i++) {
+            System.out.println(String.format("%s: %d", result.getRootMoves().get(i), result.getRootCounts().get(i)));
+        }
+        System.out.println();
+        System.out.println(String.format("Moves: %d", result.getRootMoves().size()));
+        PerftMain.printResult(result);
+    }
+
+    /**
+     * Prints the total number of leaves, the time and the speed of a perft. 
+     * 
+     * @param result The PerftResult to print. 
+     */
+    private static void printResult(PerftResult result) {
+        System.out.println(String.format("perft %d: %d leaves in %d ms (%d nodes/s)", result.getDepth(), result.getTotalCount(),
+                result.getElapsedNanos() / 1_000_000, result.getNodesPerSecond()));
+    }
+}
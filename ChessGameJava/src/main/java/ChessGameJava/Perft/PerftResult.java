@@ -0,0 +1,81 @@
+package ChessGameJava.Perft;
+
+import java.util.ArrayList;
+
+/**
+ * Class holding the result of a perft divide. It keeps, in the order they were generated, every root 
+ * move with the number of leaves found under it as well as the time the whole walk took. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public class PerftResult {
+    private final int depth;
+    private final ArrayList<String> rootMoves = new ArrayList<>();
+    private final ArrayList<Long> rootCounts = new ArrayList<>();
+    private long totalCount = 0;
+    private long elapsedNanos = 0;
+
+    /**
+     * Constructor of the PerftResult class. 
+     * 
+     * @param depth The depth the perft was run at. 
+     */
+    public PerftResult(int depth) {
+        this.depth = depth;
+    }
+
+    /**
+     * Registers a root move and the number of leaves found under it. 
+     * 
+     * @param move The root move written as its two squares in algebraic notation (ex: "e2e4"). 
+     * @param count The number of leaves found under the move. 
+     */
+    public void addRootMove(String move, long count) {
+        this.rootMoves.add(move);
+        this.rootCounts.add(count);
+        this.totalCount += count;
+    }
+
+    /**
+     * @param elapsedNanos The time the perft took in nanoseconds. 
+     */
+    public void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * @return The depth the perft was run at. 
+     */
+    public int getDepth() { return this.depth; }
+
+    /**
+     * @return The root moves in the order they were generated. 
+     */
+    public ArrayList<String> getRootMoves() { return this.rootMoves; }
+
+    /**
+     * @return The number of leaves of every root move, in the same order as getRootMoves. 
+     */
+    public ArrayList<Long> getRootCounts() { return this.rootCounts; }
+
+    /**
+     * @return The total number of leaves reached. 
+     */
+    public long getTotalCount() { return this.totalCount; }
+
+    /**
+     * @return The time the perft took in nanoseconds. 
+     */
+    public long getElapsedNanos() { return this.elapsedNanos; }
+
+    /**
+     * Returns the number of leaves reached per second. If the walk was too fast to be measured, 
+     * it returns 0. 
+     * 
+     * @return The number of leaves reached per second. 
+     */
+    public long getNodesPerSecond() {
+        return this.elapsedNanos == 0 ? 0 : (long) (this.totalCount / (this.elapsedNanos / 1_000_000_000.0));
+    }
+}
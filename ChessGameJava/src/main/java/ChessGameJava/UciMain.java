@@ -0,0 +1,20 @@
+package ChessGameJava;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+
+import ChessGameJava.Controller.UciController;
+
+/**
+ * Launches the engine without any UI. It reads the commands of the UCI protocol from the standard 
+ * input and writes its answers to the standard output in UTF-8, whatever the default charset of the 
+ * platform is, see UciController. 
+ */
+public class UciMain {
+    public static void main(String[] args) throws UnsupportedEncodingException {
+        PrintStream output = new PrintStream(new FileOutputStream(FileDescriptor.out), true, "UTF-8");
+        new UciController(System.in, output).run();
+    }
+}
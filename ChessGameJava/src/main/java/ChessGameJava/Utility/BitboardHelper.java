@@ -0,0 +1,242 @@
+package ChessGameJava.Utility;
+
+import java.util.ArrayList;
+
+import ChessGameJava.Logic.ChessBoard;
+import ChessGameJava.Logic.ChessSquareModel;
+import ChessGameJava.Logic.Colour;
+
+/**
+ * A class that acts as a helper to work with bitboards. A bitboard is a long where every one of the 64 bits 
+ * represents a square of the board. The bit of a square is the same as its index in the square list of a 
+ * board, meaning row * 8 + column. The bit 0 is therefore the top left square of the board (a8) and the 
+ * bit 63 is the bottom right square (h1). 
+ * 
+ * The attack methods of this class only use shifts and masks, they compute the attacked squares without 
+ * ever creating a Position or a ChessSquareModel. The attacks of a single knight, king or pawn are also 
+ * precomputed for every square so they can be read from a table, as are the lines and the squares between 
+ * two aligned squares. The rook and bishop attacks walk their rays and are used to build the tables of 
+ * MagicBitboardHelper, which should be preferred for lookups. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public abstract class BitboardHelper {
+    public final static long fileA = 0x0101010101010101L;
+    public final static long fileB = fileA << 1;
+    public final static long fileG = fileA << 6;
+    public final static long fileH = fileA << 7;
+    public final static long notFileA = ~fileA;
+    public final static long notFileH = ~fileH;
+    public final static long notFilesAB = ~(fileA | fileB);
+    public final static long notFilesGH = ~(fileG | fileH);
+    public final static long allSquares = -1L;
+
+    private final static long[] knightAttackTable = new long[64];
+    private final static long[] kingAttackTable = new long[64];
+    private final static long[][] pawnAttackTable = new long[2][64];
+    private final static long[][] betweenTable = new long[64][64];
+    private final static long[][] lineTable = new long[64][64];
+
+    static {
+        for (int square = 0; square < 64; square++) {
+            long origin = 1L << square;
+            knightAttackTable[square] = knightAttacks(origin);
+            kingAttackTable[square] = kingAttacks(origin);
+            pawnAttackTable[Colour.BLACK.ordinal()][square] = pawnAttacks(origin, Colour.BLACK);
+            pawnAttackTable[Colour.WHITE.ordinal()][square] = pawnAttacks(origin, Colour.WHITE);
+        }
+
+        for (int first = 0; first < 64; first++) {
+            for (int second = 0; second < 64; second++) {
+                long firstBit = 1L << first;
+                long secondBit = 1L << second;
+
+                if (first != second && (rookAttacks(first, 0L) & secondBit) != 0) {
+                    betweenTable[first][second] = rookAttacks(first, secondBit) & rookAttacks(second, firstBit);
+                    lineTable[first][second] = (rookAttacks(first, 0L) & rookAttacks(second, 0L)) | firstBit | secondBit;
+                } else if (first != second && (bishopAttacks(first, 0L) & secondBit) != 0) {
+                    betweenTable[first][second] = bishopAttacks(first, secondBit) & bishopAttacks(second, firstBit);
+                    lineTable[first][second] = (bishopAttacks(first, 0L) & bishopAttacks(second, 0L)) | firstBit | secondBit;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the index of a given position, which is also the bit representing it in a bitboard. 
+     * 
+     * @param position The Position we want the index of. 
+     * @return The index of the position. 
+     */
+    public static int getIndex(Position position) {
+        return position.getIndex();
+    }
+
+    /**
+     * Converts a bitboard into the list of the squares of a board it contains, ordered by index. 
+     * 
+     * @param bitboard The bitboard of the squares. 
+     * @param board The ChessBoard holding the squares. 
+     * @return An ArrayList<ChessSquareModel> containing the squares of the bitboard. 
+     */
+    public static ArrayList<ChessSquareModel> getSquares(long bitboard, ChessBoard board) {
+        ChessSquareModel[] squareList = board.getSquareList();
+        ArrayList<ChessSquareModel> listSquares = new ArrayList<>(Long.bitCount(bitboard));
+
+        while (bitboard != 0) {
+            listSquares.add(squareList[Long.numberOfTrailingZeros(bitboard)]);
+            bitboard &= bitboard - 1;
+        }
+
+        return listSquares;
+    }
+
+    /**
+     * Returns all the squares attacked by a knight standing on the given square. 
+     * 
+     * @param square The index of the square of the knight. 
+     * @return The bitboard of the attacked squares. 
+     */
+    public static long getKnightAttacks(int square) {
+        return knightAttackTable[square];
+    }
+
+    /**
+     * Returns all the squares attacked by a king standing on the given square. 
+     * 
+     * @param square The index of the square of the king. 
+     * @return The bitboard of the attacked squares. 
+     */
+    public static long getKingAttacks(int square) {
+        return kingAttackTable[square];
+    }
+
+    /**
+     * Returns all the squares attacked by a pawn of the given colour standing on the given square. 
+     * 
+     * @param square The index of the square of the pawn. 
+     * @param colourOfPawn The Colour of the pawn, cannot be Colour.NULL. 
+     * @return The bitboard of the attacked squares. 
+     */
+    public static long getPawnAttacks(int square, Colour colourOfPawn) {
+        return pawnAttackTable[colourOfPawn.ordinal()][square];
+    }
+
+    /**
+     * Returns the squares strictly between two squares sharing a line or a diagonal. If the squares 
+     * are not aligned, there are no squares between them. 
+     * 
+     * @param first The index of the first square. 
+     * @param second The index of the second square. 
+     * @return The bitboard of the squares between the two squares. 
+     */
+    public static long getBetween(int first, int second) {
+        return betweenTable[first][second];
+    }
+
+    /**
+     * Returns the whole line or diagonal going through two squares, from one side of the board to the 
+     * other. If the squares are not aligned, the line is empty. 
+     * 
+     * @param first The index of the first square. 
+     * @param second The index of the second square. 
+     * @return The bitboard of the line going through the two squares. 
+     */
+    public static long getLine(int first, int second) {
+        return lineTable[first][second];
+    }
+
+    /**
+     * Returns all the squares attacked by the knights of the provided bitboard. 
+     * 
+     * @param knights The bitboard of the knights. 
+     * @return The bitboard of the attacked squares. 
+     */
+    public static long knightAttacks(long knights) {
+        return ((knights << 17) & notFileA) | ((knights << 15) & notFileH)
+                | ((knights << 10) & notFilesAB) | ((knights << 6) & notFilesGH)
+                | ((knights >>> 17) & notFileH) | ((knights >>> 15) & notFileA)
+                | ((knights >>> 10) & notFilesGH) | ((knights >>> 6) & notFilesAB);
+    }
+
+    /**
+     * Returns all the squares attacked by the kings of the provided bitboard. 
+     * 
+     * @param kings The bitboard of the kings. 
+     * @return The bitboard of the attacked squares. 
+     */
+    public static long kingAttacks(long kings) {
+        long sides = ((kings << 1) & notFileA) | ((kings >>> 1) & notFileH);
+        long row = kings | sides;
+        return sides | (row << 8) | (row >>> 8);
+    }
+
+    /**
+     * Returns all the squares attacked by the pawns of the provided bitboard. White pawns 
+     * attack towards the row 0 while black pawns attack towards the row 7. 
+     * 
+     * @param pawns The bitboard of the pawns. 
+     * @param colourOfPawns The Colour of the pawns. 
+     * @return The bitboard of the attacked squares. 
+     */
+    public static long pawnAttacks(long pawns, Colour colourOfPawns) {
+        if (colourOfPawns == Colour.WHITE) {
+            return ((pawns >>> 9) & notFileH) | ((pawns >>> 7) & notFileA);
+        }
+        return ((pawns << 7) & notFileH) | ((pawns << 9) & notFileA);
+    }
+
+    /**
+     * Returns all the squares a rook standing on the given square attacks. That is every square in the 
+     * four cardinal directions up to and including the first occupied square. 
+     * 
+     * @param square The index of the square of the rook. 
+     * @param occupancy The bitboard of every occupied square. 
+     * @return The bitboard of the attacked squares. 
+     */
+    public static long rookAttacks(int square, long occupancy) {
+        long origin = 1L << square;
+        long empty = ~occupancy;
+        return slide(origin, 1, notFileA, empty) | slide(origin, -1, notFileH, empty)
+                | slide(origin, 8, allSquares, empty) | slide(origin, -8, allSquares, empty);
+    }
+
+    /**
+     * Returns all the squares a bishop standing on the given square attacks. That is every square on 
+     * its four diagonals up to and including the first occupied square. 
+     * 
+     * @param square The index of the square of the bishop. 
+     * @param occupancy The bitboard of every occupied square. 
+     * @return The bitboard of the attacked squares. 
+     */
+    public static long bishopAttacks(int square, long occupancy) {
+        long origin = 1L << square;
+        long empty = ~occupancy;
+        return slide(origin, 9, notFileA, empty) | slide(origin, 7, notFileH, empty)
+                | slide(origin, -7, notFileA, empty) | slide(origin, -9, notFileH, empty);
+    }
+
+    /**
+     * Moves a single bit step by step in one direction and collects every square it reaches 
+     * until it leaves the board or reaches an occupied square. 
+     * 
+     * @param origin The bitboard holding the starting square. 
+     * @param shift The number of bits to shift by at every step, negative values shift towards the bit 0. 
+     * @param wrapMask The mask removing the squares reached by wrapping around the side of the board. 
+     * @param empty The bitboard of every empty square. 
+     * @return The bitboard of the reached squares. 
+     */
+    private static long slide(long origin, int shift, long wrapMask, long empty) {
+        long attacks = 0;
+        long ray = origin;
+
+        do {
+            ray = (shift > 0 ? ray << shift : ray >>> -shift) & wrapMask;
+            attacks |= ray;
+            ray &= empty;
+        } while (ray != 0);
+
+        return attacks;
+    }
+}
@@ -0,0 +1,322 @@
+package ChessGameJava.Utility;
+
+import ChessGameJava.Logic.BoardState;
+import ChessGameJava.Logic.ChessBoard;
+import ChessGameJava.Logic.ChessBoardModel;
+import ChessGameJava.Logic.ChessSquareModel;
+import ChessGameJava.Logic.Colour;
+import ChessGameJava.Logic.Pieces.Bishop;
+import ChessGameJava.Logic.Pieces.ChessABSPieceModel;
+import ChessGameJava.Logic.Pieces.King;
+import ChessGameJava.Logic.Pieces.Knight;
+import ChessGameJava.Logic.Pieces.NullPiece;
+import ChessGameJava.Logic.Pieces.Pawn;
+import ChessGameJava.Logic.Pieces.Queen;
+import ChessGameJava.Logic.Pieces.Rook;
+
+/**
+ * A class that acts as a helper to read and write positions in the Forsyth-Edwards Notation (FEN). A FEN 
+ * string is made of six fields separated by spaces: 
+ * 
+ * - the placement of the pieces, the ranks being listed from the 8th to the 1st, which matches the rows 0 
+ *   to 7 of a board, the white pieces in upper case, the black pieces in lower case and the empty squares 
+ *   as their count, 
+ * - the player who has to move, w or b, 
+ * - the castling rights, a combination of K, Q, k and q or - if there is none, 
+ * - the en-passant square in algebraic notation or - if there is none, 
+ * - the halfmove clock, 
+ * - the number of the full move, starting at 1 and increased after every move of black. 
+ * 
+ * The last two fields may be omitted, the clocks then being the ones of a new game. A string that does not 
+ * describe a valid position makes the parsing methods throw a RuntimeException. 
+ * 
+ * A board is created from a FEN string by the constructor ChessBoardModel(String) and written as one by 
+ * toFen. As the pieces of this project remember whether they have moved, the castling rights are turned 
+ * into the hasMoved attribute of the kings and rooks, see markMovedPieces. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public abstract class FenHelper {
+    public final static String startingPosition = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    private final static int numberOfFields = 6;
+    private final static int numberOfSquares = ChessBoardModel.numberOfRows * ChessBoardModel.numberOfRows;
+    private final static String pieceSymbols = "kqrbnp";
+    private final static String castlingSymbols = "KQkq";
+    private final static int[] castlingFlags = { BoardState.whiteKingSide, BoardState.whiteQueenSide, BoardState.blackKingSide, BoardState.blackQueenSide };
+    private final static int[] castlingKingSquares = { 60, 60, 4, 4 };
+    private final static int[] castlingRookSquares = { 63, 56, 7, 0 };
+
+    /**
+     * Splits a FEN string into its six fields. The missing clocks are replaced by the ones of a new game. 
+     * 
+     * @param fen The FEN string. 
+     * @return The six fields of the string. 
+     */
+    public static String[] getFields(String fen) {
+        String[] tokens = fen == null ? new String[0] : fen.trim().split("\\s+");
+        if (tokens.length != 4 && tokens.length != numberOfFields) {
+            throw new RuntimeException(String.format("Invalid FEN, it must have 4 or 6 fields: %s", fen));
+        }
+
+        String[] fields = { "", "", "", "", "0", "1" };
+        System.arraycopy(tokens, 0, fields, 0, tokens.length);
+        return fields;
+    }
+
+    /**
+     * @param fen A FEN string. 
+     * @return The Colour of the player who has to move in the position. 
+     */
+    public static Colour getSideToMove(String fen) {
+        return FenHelper.parseSideToMove(FenHelper.getFields(fen)[1]);
+    }
+
+    /**
+     * Reads the placement field of a FEN string. Every piece is created as not having moved, see 
+     * markMovedPieces. A placement must have exactly one king of each colour and no pawn on the first or 
+     * the eighth rank. 
+     * 
+     * @param placement The placement field. 
+     * @return The pieces of the squares, by index, a NullPiece standing on the empty squares. 
+     */
+    public static ChessABSPieceModel[] parsePlacement(String placement) {
+        String[] rows = placement.split("/", -1);
+        if (rows.length != ChessBoardModel.numberOfRows) {
+            throw new RuntimeException(String.format("Invalid FEN placement, it must have 8 ranks: %s", placement));
+        }
+
+        ChessABSPieceModel[] pieces = new ChessABSPieceModel[numberOfSquares];
+        int[] numberOfKings = new int[2];
+        for (int row = 0; row < ChessBoardModel.numberOfRows; row++) {
+            int column = 0;
+            for (char symbol : rows[row].toCharArray()) {
+                boolean isEmpty = symbol >= '1' && symbol <= '8';
+                ChessABSPieceModel piece = isEmpty ? NullPiece.getInstance() : FenHelper.createPiece(symbol);
+                if (piece.getPieceName() == PieceName.KING) {
+                    numberOfKings[piece.getColour().ordinal()]++;
+                } else if (piece.getPieceName() == PieceName.PAWN && (row == 0 || row == ChessBoardModel.numberOfRows - 1)) {
+                    throw new RuntimeException(String.format("Invalid FEN placement, a pawn stands on the rank %s", rows[row]));
+                }
+                for (int i = 0; i < (isEmpty ? symbol - '0' : 1); i++, column++) {
+                    if (column < ChessBoardModel.numberOfRows) {
+                        pieces[row * ChessBoardModel.numberOfRows + column] = piece;
+                    }
+                }
+            }
+            if (column != ChessBoardModel.numberOfRows || rows[row].matches(".*[1-8]{2}.*")) {
+                throw new RuntimeException(String.format("Invalid FEN placement, the rank %s does not have 8 squares", rows[row]));
+            }
+        }
+
+        if (numberOfKings[Colour.WHITE.ordinal()] != 1 || numberOfKings[Colour.BLACK.ordinal()] != 1) {
+            throw new RuntimeException(String.format("Invalid FEN placement, each player must have one king: %s", placement));
+        }
+        return pieces;
+    }
+
+    /**
+     * @param field The side to move field of a FEN string. 
+     * @return The Colour of the player who has to move. 
+     */
+    public static Colour parseSideToMove(String field) {
+        switch (field) {
+            case "w":
+                return Colour.WHITE;
+            case "b":
+                return Colour.BLACK;
+            default:
+                throw new RuntimeException(String.format("Invalid FEN side to move: %s", field));
+        }
+    }
+
+    /**
+     * @param field The castling field of a FEN string. 
+     * @return The castling rights, a combination of the flags of BoardState. 
+     */
+    public static int parseCastlingRights(String field) {
+        if (field.equals("-")) {
+            return 0;
+        }
+
+        int castlingRights = 0;
+        for (char symbol : field.toCharArray()) {
+            int flag = castlingSymbols.indexOf(symbol);
+            if (flag < 0 || (castlingRights & castlingFlags[flag]) != 0) {
+                throw new RuntimeException(String.format("Invalid FEN castling rights: %s", field));
+            }
+            castlingRights |= castlingFlags[flag];
+        }
+        return castlingRights;
+    }
+
+    /**
+     * Reads the en-passant field of a FEN string. The square must be on the 6th rank when white has to 
+     * move and on the 3rd rank when black has to move. A pawn of the opponent must stand in front of it 
+     * and the square as well as the one behind it must be empty, as the pawn just made its double move. 
+     * Every board then agrees on the en-passant square of the position. 
+     * 
+     * @param field The en-passant field of a FEN string. 
+     * @param sideToMove The Colour of the player who has to move. 
+     * @param pieces The pieces of the squares, by index, see parsePlacement. 
+     * @return The index of the en-passant square or BoardState.noSquare if there is none. 
+     */
+    public static int parseEnPassantSquare(String field, Colour sideToMove, ChessABSPieceModel[] pieces) {
+        if (field.equals("-")) {
+            return BoardState.noSquare;
+        }
+
+        char rank = sideToMove == Colour.WHITE ? '6' : '3';
+        if (field.length() != 2 || field.charAt(0) < 'a' || field.charAt(0) > 'h' || field.charAt(1) != rank) {
+            throw new RuntimeException(String.format("Invalid FEN en-passant square: %s", field));
+        }
+
+        int index = Position.fromAlgebraic(field).getIndex();
+        int forward = sideToMove == Colour.WHITE ? ChessBoardModel.numberOfRows : -ChessBoardModel.numberOfRows;
+        ChessABSPieceModel pawn = pieces[index + forward];
+        if (pawn.getPieceName() != PieceName.PAWN || pawn.getColour() == sideToMove
+                || pieces[index].getPieceName() != PieceName.NULL || pieces[index - forward].getPieceName() != PieceName.NULL) {
+            throw new RuntimeException(String.format("Invalid FEN en-passant square, no pawn just made its double move to: %s", field));
+        }
+        return index;
+    }
+
+    /**
+     * Reads a clock field of a FEN string. 
+     * 
+     * @param field The halfmove clock or the full move number field. 
+     * @param minimum The smallest value the field may have. 
+     * @return The value of the field. 
+     */
+    public static int parseClock(String field, int minimum) {
+        int value;
+        try {
+            value = Integer.parseInt(field);
+        } catch (NumberFormatException exception) {
+            throw new RuntimeException(String.format("Invalid FEN clock: %s", field), exception);
+        }
+
+        if (value < minimum) {
+            throw new RuntimeException(String.format("Invalid FEN clock: %s", field));
+        }
+        return value;
+    }
+
+    /**
+     * Sets the hasMoved attribute of the pieces of a position read from a FEN string. A pawn has moved if it 
+     * is not on its starting row. A king or a rook has not moved only if it is on its starting square and 
+     * takes part in one of the castling rights, which is how the pieces of this project know they may castle. 
+     * The castling rights whose king or rook is missing are dropped. 
+     * 
+     * @param squareList The squares of the board, by index. 
+     * @param castlingRights The castling rights of the FEN string. 
+     * @return The castling rights kept, a combination of the flags of BoardState. 
+     */
+    public static int markMovedPieces(ChessSquareModel[] squareList, int castlingRights) {
+        for (int index = 0; index < squareList.length; index++) {
+            ChessABSPieceModel piece = squareList[index].getPiece();
+            if (piece.getPieceName() == PieceName.PAWN) {
+                piece.hasMoved = index / ChessBoardModel.numberOfRows != (piece.getColour() == Colour.WHITE ? 6 : 1);
+            } else if (piece.getPieceName() == PieceName.KING || piece.getPieceName() == PieceName.ROOK) {
+                piece.hasMoved = true;
+            }
+        }
+
+        int keptRights = 0;
+        for (int i = 0; i < castlingFlags.length; i++) {
+            Colour colour = i < 2 ? Colour.WHITE : Colour.BLACK;
+            ChessABSPieceModel king = squareList[castlingKingSquares[i]].getPiece();
+            ChessABSPieceModel rook = squareList[castlingRookSquares[i]].getPiece();
+            if ((castlingRights & castlingFlags[i]) != 0 && king.getPieceName() == PieceName.KING && king.getColour() == colour
+                    && rook.getPieceName() == PieceName.ROOK && rook.getColour() == colour) {
+                king.hasMoved = false;
+                rook.hasMoved = false;
+                keptRights |= castlingFlags[i];
+            }
+        }
+        return keptRights;
+    }
+
+    /**
+     * Writes the position of a board as a FEN string. The castling rights, the en-passant square and the 
+     * clocks are the ones of the BoardState of the board, the full move number being computed from its 
+     * number of moves played. 
+     * 
+     * @param board The ChessBoard to write. 
+     * @param sideToMove The Colour of the player who has to move. 
+     * @return The FEN string of the position. 
+     */
+    public static String toFen(ChessBoard board, Colour sideToMove) {
+        ChessSquareModel[] squareList = board.getSquareList();
+        BoardState state = board.getBoardState();
+        StringBuilder builder = new StringBuilder();
+
+        for (int row = 0; row < ChessBoardModel.numberOfRows; row++) {
+            int emptySquares = 0;
+            for (int column = 0; column < ChessBoardModel.numberOfRows; column++) {
+                ChessABSPieceModel piece = squareList[row * ChessBoardModel.numberOfRows + column].getPiece();
+                if (piece.getPieceName() == PieceName.NULL) {
+                    emptySquares++;
+                    continue;
+                }
+                if (emptySquares > 0) {
+                    builder.append(emptySquares);
+                    emptySquares = 0;
+                }
+                char symbol = pieceSymbols.charAt(piece.getPieceName().ordinal());
+                builder.append(piece.getColour() == Colour.WHITE ? Character.toUpperCase(symbol) : symbol);
+            }
+            if (emptySquares > 0) {
+                builder.append(emptySquares);
+            }
+            if (row < ChessBoardModel.numberOfRows - 1) {
+                builder.append('/');
+            }
+        }
+
+        builder.append(sideToMove == Colour.WHITE ? " w " : " b ");
+        int castlingRights = state.getCastlingRights();
+        for (int i = 0; i < castlingFlags.length; i++) {
+            if ((castlingRights & castlingFlags[i]) != 0) {
+                builder.append(castlingSymbols.charAt(i));
+            }
+        }
+        if (castlingRights == 0) {
+            builder.append('-');
+        }
+
+        int enPassantSquare = state.getEnPassantSquare();
+        builder.append(' ').append(enPassantSquare == BoardState.noSquare ? "-" : Position.fromIndex(enPassantSquare).toAlgebraic());
+        builder.append(' ').append(state.getHalfmoveClock());
+        builder.append(' ').append(state.getMoveCount() / 2 + 1);
+        return builder.toString();
+    }
+
+    /**
+     * Creates the piece associated with a FEN symbol. 
+     * 
+     * @param symbol The FEN symbol of the piece, upper case for white and lower case for black. 
+     * @return The created ChessABSPieceModel. 
+     */
+    private static ChessABSPieceModel createPiece(char symbol) {
+        Colour colour = Character.isUpperCase(symbol) ? Colour.WHITE : Colour.BLACK;
+
+        switch (Character.toLowerCase(symbol)) {
+            case 'p':
+                return new Pawn(colour);
+            case 'n':
+                return new Knight(colour);
+            case 'b':
+                return new Bishop(colour);
+            case 'r':
+                return new Rook(colour);
+            case 'q':
+                return new Queen(colour);
+            case 'k':
+                return new King(colour);
+            default:
+                throw new RuntimeException(String.format("Invalid FEN piece symbol: %c", symbol));
+        }
+    }
+}
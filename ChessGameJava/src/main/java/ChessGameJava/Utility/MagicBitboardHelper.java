@@ -0,0 +1,185 @@
+package ChessGameJava.Utility;
+
+import ChessGameJava.Logic.ChessBoardModel;
+
+/**
+ * A class that acts as a helper to obtain the squares attacked by a rook or a bishop with a single table 
+ * lookup. It implements what is known as "magic bitboards". 
+ * 
+ * For every square, only the squares on the rays of the piece, minus the last square of every ray, can block 
+ * it. We call that set of squares the mask of the square. The occupied squares of the mask are multiplied by 
+ * a number specific to the square (its magic number) and the top bits of the product are used as an index 
+ * in a table holding the attacked squares of every possible arrangement of blockers. The magic numbers are 
+ * chosen so that two arrangements giving different attacks never share an index. 
+ * 
+ * The magic numbers below were found by a random search over numbers with few bits set, for the square 
+ * indexes used by BitboardHelper (a8 is 0, h1 is 63). The tables are filled once when the class is loaded 
+ * and the loading fails if a magic number does not fit its square. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public abstract class MagicBitboardHelper {
+    private final static int numberOfSquares = ChessBoardModel.numberOfRows * ChessBoardModel.numberOfRows;
+
+    private final static long[] rookMagics = {
+        0x1080002080400010L, 0x54C0004290006004L, 0x0A00084020801200L, 0x0200100408220040L,
+        0xC080040002800801L, 0x0300040028010082L, 0x8880010002004080L, 0x4100002480410012L,
+        0x0004800028804001L, 0x0000400020100041L, 0x0010802000100083L, 0x8182002200084010L,
+        0x8005000802110004L, 0x2260808002000400L, 0x0118800100020080L, 0x0002000401248052L,
+        0x0109010020488000L, 0x8001050040008020L, 0x0060014030080040L, 0x0C08008008100480L,
+        0x0002020020041008L, 0x8100818014000200L, 0x0124010100040200L, 0x28800A0002841143L,
+        0x8C00400080008032L, 0x0100200040005004L, 0x0000100080802000L, 0x12D0000900210010L,
+        0x1100080080800400L, 0x0C2A000A00103C08L, 0x0080D00400020128L, 0x8029000100108052L,
+        0xA04000408080002CL, 0x0042400082802010L, 0x0400801000802004L, 0x0081800802801000L,
+        0x0000800400800800L, 0x0420020080800400L, 0x80000110C4000802L, 0x21208410CA000183L,
+        0x0000800100410022L, 0x0060500020004002L, 0x020C120042820020L, 0x0242002010420008L,
+        0x0300100801010004L, 0x0000040002008080L, 0x0050421001140018L, 0x0028088049120004L,
+        0x6310400080002080L, 0x0040810040002500L, 0x000101C014A00500L, 0x8000801000080080L,
+        0x0284000480080080L, 0x1040800400020080L, 0x0844080142100400L, 0x0000010044008200L,
+        0x0002520104644082L, 0x8020204001008011L, 0xA12E8118A2003042L, 0x0011600410010049L,
+        0x1081000208000411L, 0x9101000400020801L, 0x0008300128008204L, 0x0100024102803402L
+    };
+
+    private final static long[] bishopMagics = {
+        0x1040108082048220L, 0x0910010808848023L, 0x8028848C02820200L, 0x8111040084000010L,
+        0x1111104004000000L, 0x0002080404041400L, 0x8100483A10100210L, 0x8001008090011082L,
+        0x1008200404008408L, 0x2C4002180810B180L, 0x8004048820810002L, 0x4400080841028430L,
+        0x1208A42420000500L, 0x0040009220200082L, 0x0102040424040420L, 0x3010009044100480L,
+        0x0204102020120A01L, 0x0405000810009208L, 0x0650840808001120L, 0x8084000804101220L,
+        0x8021000820080400L, 0x8240200410041010L, 0x0081140041101001L, 0x1068282100821002L,
+        0x04208A0810020800L, 0x000620C110044490L, 0x0814220004080201L, 0x4412080004004108L,
+        0x8001001013004020L, 0x1008048001100087L, 0x0804008000480408L, 0xA280802406020200L,
+        0x0004242008C0028AL, 0x0412302441420800L, 0x0000105010080280L, 0x60A2020081080080L,
+        0x4020068400008120L, 0x4890010208831000L, 0x0010288220010108L, 0x2044005200844121L,
+        0x0008021084101200L, 0x0001081854004200L, 0x8800140028000400L, 0x0840006124000804L,
+        0x0016081104014040L, 0x200C44A481001200L, 0x1490040850410081L, 0x0810010200940820L,
+        0x2801040104400080L, 0x8080452088204102L, 0x600182404C100010L, 0x0840801142088005L,
+        0x00102110A032040CL, 0x1001082008009100L, 0x0A081081020C0020L, 0x0BC8100440404202L,
+        0x0001044206944000L, 0x2018088209012040L, 0x0011600424220810L, 0x20008000002A0800L,
+        0x0000820011202203L, 0x5C2008C258010108L, 0x1010400204690202L, 0x00204420882B0020L
+    };
+
+    private final static long[] rookMasks = new long[numberOfSquares];
+    private final static int[] rookShifts = new int[numberOfSquares];
+    private final static int[] rookOffsets = new int[numberOfSquares];
+    private final static long[] rookAttacks = MagicBitboardHelper.initTables(true, rookMagics, rookMasks, rookShifts, rookOffsets);
+
+    private final static long[] bishopMasks = new long[numberOfSquares];
+    private final static int[] bishopShifts = new int[numberOfSquares];
+    private final static int[] bishopOffsets = new int[numberOfSquares];
+    private final static long[] bishopAttacks = MagicBitboardHelper.initTables(false, bishopMagics, bishopMasks, bishopShifts, bishopOffsets);
+
+    /**
+     * Returns all the squares a rook standing on the given square attacks. That is every square in the 
+     * four cardinal directions up to and including the first occupied square. 
+     * 
+     * @param square The index of the square of the rook. 
+     * @param occupancy The bitboard of every occupied square. 
+     * @return The bitboard of the attacked squares. 
+     */
+    public static long getRookAttacks(int square, long occupancy) {
+        return rookAttacks[rookOffsets[square] + (int) (((occupancy & rookMasks[square]) * rookMagics[square]) >>> rookShifts[square])];
+    }
+
+    /**
+     * Returns all the squares a bishop standing on the given square attacks. That is every square on 
+     * its four diagonals up to and including the first occupied square. 
+     * 
+     * @param square The index of the square of the bishop. 
+     * @param occupancy The bitboard of every occupied square. 
+     * @return The bitboard of the attacked squares. 
+     */
+    public static long getBishopAttacks(int square, long occupancy) {
+        return bishopAttacks[bishopOffsets[square] + (int) (((occupancy & bishopMasks[square]) * bishopMagics[square]) >>> bishopShifts[square])];
+    }
+
+    /**
+     * Returns all the squares a queen standing on the given square attacks, the union of the 
+     * attacks of a rook and a bishop on that square. 
+     * 
+     * @param square The index of the square of the queen. 
+     * @param occupancy The bitboard of every occupied square. 
+     * @return The bitboard of the attacked squares. 
+     */
+    public static long getQueenAttacks(int square, long occupancy) {
+        return getRookAttacks(square, occupancy) | getBishopAttacks(square, occupancy);
+    }
+
+    /**
+     * Computes the masks and fills the attack table of either the rook or the bishop. Every square gets 
+     * its own section of the table, starting at its offset. 
+     * 
+     * Every arrangement of blockers of a mask is enumerated with the "carry rippler" trick 
+     * (subset - mask) & mask and its attacks are computed by walking the rays. An attack set is never 
+     * empty, so an empty entry of the table marks an index that is not used yet. 
+     * 
+     * @param isRook True to build the tables of the rook, false for the bishop. 
+     * @param magics The magic number of every square. 
+     * @param masks The array to fill with the mask of every square. 
+     * @param shifts The array to fill with the shift of every square. 
+     * @param offsets The array to fill with the offset in the attack table of every square. 
+     * @return The attack table. 
+     */
+    private static long[] initTables(boolean isRook, long[] magics, long[] masks, int[] shifts, int[] offsets) {
+        int size = 0;
+        for (int square = 0; square < numberOfSquares; square++) {
+            masks[square] = MagicBitboardHelper.calculateMask(square, isRook);
+            shifts[square] = 64 - Long.bitCount(masks[square]);
+            offsets[square] = size;
+            size += 1 << Long.bitCount(masks[square]);
+        }
+
+        long[] table = new long[size];
+        for (int square = 0; square < numberOfSquares; square++) {
+            long subset = 0;
+            do {
+                long attacks = isRook ? BitboardHelper.rookAttacks(square, subset) : BitboardHelper.bishopAttacks(square, subset);
+                int index = offsets[square] + (int) ((subset * magics[square]) >>> shifts[square]);
+
+                if (table[index] != 0 && table[index] != attacks) {
+                    throw new RuntimeException(String.format("Incorrect magic number for square %d", square));
+                }
+                table[index] = attacks;
+
+                subset = (subset - masks[square]) & masks[square];
+            } while (subset != 0);
+        }
+
+        return table;
+    }
+
+    /**
+     * Calculates the mask of a square: every square a piece on it could be blocked by. Those are the 
+     * squares of its rays, without the last square of every ray since a blocker there changes nothing. 
+     * 
+     * @param square The index of the square. 
+     * @param isRook True for the rays of a rook, false for those of a bishop. 
+     * @return The bitboard of the mask. 
+     */
+    private static long calculateMask(int square, boolean isRook) {
+        int[][] directions = isRook ? new int[][] {{1, 0}, {-1, 0}, {0, 1}, {0, -1}} : new int[][] {{1, 1}, {1, -1}, {-1, 1}, {-1, -1}};
+        int column = square % ChessBoardModel.numberOfRows;
+        int row = square / ChessBoardModel.numberOfRows;
+        long mask = 0;
+
+        for (int[] direction : directions) {
+            int x = column + direction[0];
+            int y = row + direction[1];
+            while (MagicBitboardHelper.isOnBoard(x + direction[0], y + direction[1])) {
+                mask |= 1L << (y * ChessBoardModel.numberOfRows + x);
+                x += direction[0];
+                y += direction[1];
+            }
+        }
+
+        return mask;
+    }
+
+    /**
+     * @return True if the coordinates are those of a square of the board. 
+     */
+    private static boolean isOnBoard(int x, int y) {
+        return x >= 0 && x < ChessBoardModel.numberOfRows && y >= 0 && y < ChessBoardModel.numberOfRows;
+    }
+}
@@ -8,13 +8,25 @@ import ChessGameJava.Logic.ChessBoardModel;
  * Provides a variate of functions to execute on it's two coordinates such as obtaining the sum
  * of two coordinates.
  * 
+ * A Position never changes once created. The 64 positions of the board are therefore created once and 
+ * shared, they are obtained with the of and fromIndex methods. Working with these shared instances 
+ * avoids creating a new Position every time a square is looked at. 
+ * 
  * @Author Charles Degrandpré
- * @Last_Updated 2023-09-03
+ * @Last_Updated 2026-10-17
  */
 public class Position {
+    private final static Position[] positions = new Position[ChessBoardModel.numberOfRows * ChessBoardModel.numberOfRows];
+
     private final int coordX;
     private final int coordY;
 
+    static {
+        for (int index = 0; index < positions.length; index++) {
+            positions[index] = new Position(index % ChessBoardModel.numberOfRows, index / ChessBoardModel.numberOfRows);
+        }
+    }
+
     /**
      * @return position in x of coordinate.
      */
@@ -25,43 +37,126 @@ public class Position {
      */
     public int getCoordY() { return coordY; }
 
+    /**
+     * @return index of the position, which is also the bit representing it in a bitboard.
+     */
+    public int getIndex() { return coordY * ChessBoardModel.numberOfRows + coordX; }
+
     /**
      * Constructor of a coordinate element. It's x and y values are the same as if
      * you would place this coordinate on a cartesian plan. If the coordinate is not valid
      * the constructor throws a RuntimeException.
      * 
+     * Prefer the of method, which returns the shared instance of the position instead of creating one. 
+     * 
      * @param x the x coordinate of the position.
      * @param y the y coordinate of the position.
      */
     public Position(int x, int y) {
         coordX = x;
         coordY = y;
-        if (!this.isValid()) {
+        if (!Position.isValid(x, y)) {
+            throw new RuntimeException("Incorrect parameters");
+        }
+    }
+
+    /**
+     * Returns the shared instance of the position with the given coordinates. If the coordinate is 
+     * not valid it throws a RuntimeException. 
+     * 
+     * @param x the x coordinate of the position.
+     * @param y the y coordinate of the position.
+     * @return the Position with the given coordinates.
+     */
+    public static Position of(int x, int y) {
+        if (!Position.isValid(x, y)) {
+            throw new RuntimeException("Incorrect parameters");
+        }
+        return positions[y * ChessBoardModel.numberOfRows + x];
+    }
+
+    /**
+     * Returns the shared instance of the position with the given index, see getIndex. If the index is 
+     * not the one of a square of the board it throws a RuntimeException. 
+     * 
+     * @param index the index of the position.
+     * @return the Position with the given index.
+     */
+    public static Position fromIndex(int index) {
+        if (index < 0 || index >= positions.length) {
             throw new RuntimeException("Incorrect parameters");
         }
+        return positions[index];
     }
 
     /**
-     * Function that verifies that the Position instance does not fall outside
-     * the limits of the chess board.
+     * Function that verifies that two coordinates do not fall outside the limits of the chess board.
      * 
+     * @param x the x coordinate to verify.
+     * @param y the y coordinate to verify.
      * @return boolean indicating if the coordinate is valid.
      */
-    private boolean isValid() {
-        return (((this.coordX < ChessBoardModel.numberOfRows ) && (this.coordX >= 0))
-                && ((this.coordY < ChessBoardModel.numberOfRows ) && (this.coordY >= 0)));
+    public static boolean isValid(int x, int y) {
+        return (((x < ChessBoardModel.numberOfRows ) && (x >= 0))
+                && ((y < ChessBoardModel.numberOfRows ) && (y >= 0)));
     }
 
     /**
-     * Sums the instance of Position with two given coordinates in parameter and creates 
-     * a new Position instance with the result to be returned. 
+     * Sums the instance of Position with two given coordinates in parameter and returns the 
+     * Position of the result. If the result falls outside of the board it throws a RuntimeException, 
+     * use tryOffset to avoid it. 
      * 
      * @param x integer representing the x value to sum with.
      * @param y integer value representing the y value to sum with.
-     * @return new position element representing the sum of coordinates.
+     * @return position element representing the sum of coordinates.
      */
     public Position sumPosition(int x, int y) {
-        return new Position(this.coordX + x, this.coordY + y);
+        return Position.of(this.coordX + x, this.coordY + y);
+    }
+
+    /**
+     * Sums the instance of Position with two given coordinates in parameter like sumPosition, 
+     * but returns null instead of throwing when the result falls outside of the board. This is 
+     * the method to use when generating moves, as walking off the board is expected there. 
+     * 
+     * @param x integer representing the x value to sum with.
+     * @param y integer value representing the y value to sum with.
+     * @return position element representing the sum of coordinates or null if it is not on the board.
+     */
+    public Position tryOffset(int x, int y) {
+        int newX = this.coordX + x;
+        int newY = this.coordY + y;
+        if (!Position.isValid(newX, newY)) {
+            return null;
+        }
+        return positions[newY * ChessBoardModel.numberOfRows + newX];
+    }
+
+    /**
+     * Returns the position written in algebraic notation (ex: "e4"). The x coordinate is mapped 
+     * to the files a through h and the y coordinate is mapped to the ranks 8 through 1 as the 
+     * row 0 is the side of the board where the black pieces start. 
+     * 
+     * @return The String representing the position in algebraic notation. 
+     */
+    public String toAlgebraic() {
+        return String.format("%c%d", (char) ('a' + this.coordX), ChessBoardModel.numberOfRows - this.coordY);
+    }
+
+    /**
+     * Returns the Position of a square written in algebraic notation (ex: "e4"). This is the 
+     * inverse of the toAlgebraic method. If the provided string does not describe a square of the 
+     * board, it throws a RuntimeException. 
+     * 
+     * @param notation The String representing a square in algebraic notation. 
+     * @return The Position associated with the square. 
+     */
+    public static Position fromAlgebraic(String notation) {
+        if (notation == null || notation.length() != 2) {
+            throw new RuntimeException("Incorrect parameters");
+        }
+
+        return Position.of(notation.charAt(0) - 'a', ChessBoardModel.numberOfRows - (notation.charAt(1) - '0'));
     }
 
     /**
@@ -1,20 +1,14 @@
 package ChessGameJava.Utility;
 
 import ChessGameJava.Logic.Colour;
-import ChessGameJava.Logic.Pieces.Bishop;
 import ChessGameJava.Logic.Pieces.ChessABSPieceModel;
-import ChessGameJava.Logic.Pieces.King;
-import ChessGameJava.Logic.Pieces.Knight;
-import ChessGameJava.Logic.Pieces.Pawn;
-import ChessGameJava.Logic.Pieces.Queen;
-import ChessGameJava.Logic.Pieces.Rook;
 
 /**
  * This class represents a given change that needs to be made to the UI of the application. In short, 
  * it describes a coordinate that needs to receive a change. This means it changes only one square at a time. 
  * 
  * @Author Charles Degrandpré
- * @Last_Updated 2023-09-03
+ * @Last_Updated 2026-10-17
  */
 public class UiChange {
     private Position position;
@@ -71,26 +65,13 @@ public class UiChange {
      * This method takes a given ChessABSPieceModel and maps it to of the possible PieceNames.
      * 
      * This is to allow an interface from which to communicate between the UI and Logic of this 
-     * application without them knowing what class they are dealing with. 
+     * application without them knowing what class they are dealing with. The PieceName is the 
+     * type stored on the piece, see ChessABSPieceModel.getPieceName. 
      * 
      * @param piece The ChessABSPieceModel we want to map.
      * @return The corresponding PieceName.
      */
     public static PieceName getNameFromABSPiece(ChessABSPieceModel piece) {
-        if (piece instanceof King) {
-            return PieceName.KING;
-        } else if (piece instanceof Rook) {
-            return PieceName.ROOK;
-        } else if (piece instanceof Bishop) {
-            return PieceName.BISHOP;
-        } else if (piece instanceof Queen){
-            return PieceName.QUEEN;
-        } else if (piece instanceof Knight) {
-            return PieceName.KNIGHT; 
-        } else if (piece instanceof Pawn) {
-            return PieceName.PAWN; 
-        } else {
-            return PieceName.NULL;
-        }
+        return piece.getPieceName();
     }
 }
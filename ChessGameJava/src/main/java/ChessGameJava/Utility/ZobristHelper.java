@@ -0,0 +1,150 @@
+package ChessGameJava.Utility;
+
+import java.util.Random;
+
+import ChessGameJava.Logic.BitboardBoardModel;
+import ChessGameJava.Logic.BoardState;
+import ChessGameJava.Logic.ChessBoard;
+import ChessGameJava.Logic.ChessBoardModel;
+import ChessGameJava.Logic.ChessSquareModel;
+import ChessGameJava.Logic.Colour;
+import ChessGameJava.Logic.Pieces.ChessABSPieceModel;
+
+/**
+ * A class that acts as a helper to compute the Zobrist key of a position. A Zobrist key is a 64 bits number 
+ * identifying a position: it is the exclusive or of a random number for every piece on every square, a random 
+ * number if black is to move, a random number for the castling rights and a random number for the column of 
+ * the en-passant square. Two different positions have a very low chance of sharing the same key. 
+ * 
+ * As the exclusive or is its own inverse, the key does not need to be computed again after a move: the numbers 
+ * of what the move changed are simply combined with the previous key. Every board keeps its key in its 
+ * BoardState and updates it that way, computeKey being only needed to create the key of a new position. 
+ * 
+ * The pawn key of a position is the exclusive or of the numbers of its pawns only, see computePawnKey. 
+ * 
+ * The random numbers are generated from a fixed seed, a position therefore has the same key on every run. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public abstract class ZobristHelper {
+    private final static int numberOfSquares = ChessBoardModel.numberOfRows * ChessBoardModel.numberOfRows;
+    private final static long seed = 0x5EED2026L;
+
+    private final static long[] pieceKeys = new long[2 * BitboardBoardModel.numberOfPieceTypes * numberOfSquares];
+    private final static long[] castlingKeys = new long[BoardState.allCastlingRights + 1];
+    private final static long[] enPassantKeys = new long[ChessBoardModel.numberOfRows];
+    private final static long sideKey;
+
+    static {
+        Random random = new Random(seed);
+
+        for (int i = 0; i < pieceKeys.length; i++) {
+            pieceKeys[i] = random.nextLong();
+        }
+        for (int rights = 0; rights < castlingKeys.length; rights++) {
+            castlingKeys[rights] = random.nextLong();
+        }
+        for (int column = 0; column < enPassantKeys.length; column++) {
+            enPassantKeys[column] = random.nextLong();
+        }
+        sideKey = random.nextLong();
+    }
+
+    /**
+     * Returns the number of a piece standing on a square. 
+     * 
+     * @param code The code of the piece, see BitboardBoardModel.getPieceCode. 
+     * @param index The index of the square. 
+     * @return The number of the piece on the square. 
+     */
+    public static long getPieceKey(int code, int index) {
+        return pieceKeys[code * numberOfSquares + index];
+    }
+
+    /**
+     * Returns the number of a piece standing on a square. A NullPiece has no number, 0 is returned. 
+     * 
+     * @param piece The ChessABSPieceModel on the square. 
+     * @param index The index of the square. 
+     * @return The number of the piece on the square. 
+     */
+    public static long getPieceKey(ChessABSPieceModel piece, int index) {
+        if (piece.getPieceName() == PieceName.NULL) {
+            return 0L;
+        }
+        return ZobristHelper.getPieceKey(piece.getColour().ordinal() * BitboardBoardModel.numberOfPieceTypes + piece.getPieceName().ordinal(), index);
+    }
+
+    /**
+     * @param castlingRights The castling rights, see BoardState.getCastlingRights. 
+     * @return The number of the castling rights. 
+     */
+    public static long getCastlingKey(int castlingRights) {
+        return castlingKeys[castlingRights];
+    }
+
+    /**
+     * @param enPassantSquare The index of the en-passant square or BoardState.noSquare. 
+     * @return The number of the column of the en-passant square or 0 if there is none. 
+     */
+    public static long getEnPassantKey(int enPassantSquare) {
+        if (enPassantSquare == BoardState.noSquare) {
+            return 0L;
+        }
+        return enPassantKeys[enPassantSquare % ChessBoardModel.numberOfRows];
+    }
+
+    /**
+     * @return The number combined with the key when black is to move. 
+     */
+    public static long getSideKey() {
+        return sideKey;
+    }
+
+    /**
+     * Computes the key of the position of a board from scratch, using the castling rights and the 
+     * en-passant square of its BoardState. 
+     * 
+     * @param board The ChessBoard we want the key of. 
+     * @param sideToMove The Colour of the player who plays the next move. 
+     * @return The Zobrist key of the position. 
+     */
+    public static long computeKey(ChessBoard board, Colour sideToMove) {
+        ChessSquareModel[] squareList = board.getSquareList();
+        BoardState state = board.getBoardState();
+        long key = 0L;
+
+        for (int index = 0; index < squareList.length; index++) {
+            key ^= ZobristHelper.getPieceKey(squareList[index].getPiece(), index);
+        }
+
+        key ^= ZobristHelper.getCastlingKey(state.getCastlingRights());
+        key ^= ZobristHelper.getEnPassantKey(state.getEnPassantSquare());
+        if (sideToMove == Colour.BLACK) {
+            key ^= sideKey;
+        }
+
+        return key;
+    }
+
+    /**
+     * Computes the key of the pawns of the position of a board from scratch. Two positions with the same 
+     * pawns on the same squares share the same pawn key. 
+     * 
+     * @param board The ChessBoard we want the pawn key of. 
+     * @return The Zobrist key of the pawns of the position. 
+     */
+    public static long computePawnKey(ChessBoard board) {
+        ChessSquareModel[] squareList = board.getSquareList();
+        long key = 0L;
+
+        for (int index = 0; index < squareList.length; index++) {
+            if (squareList[index].getPiece().getPieceName() == PieceName.PAWN) {
+                key ^= ZobristHelper.getPieceKey(squareList[index].getPiece(), index);
+            }
+        }
+
+        return key;
+    }
+}
@@ -0,0 +1,39 @@
+package ChessGameJava.Controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the game states found by ChessController.determineGameState. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public class ChessControllerTest {
+
+    @Test
+    public void kingAgainstKingIsADraw() {
+        assertEquals(GameState.DRAW, new ChessController("8/8/8/4k3/8/8/8/4K3 w - - 0 1").determineGameState());
+    }
+
+    @Test
+    public void kingAndKnightAgainstKingIsADraw() {
+        assertEquals(GameState.DRAW, new ChessController("8/8/8/4k3/8/8/8/3NK3 w - - 0 1").determineGameState());
+    }
+
+    @Test
+    public void kingAndBishopAgainstKingIsADraw() {
+        assertEquals(GameState.DRAW, new ChessController("8/8/8/4k3/8/8/8/3BK3 w - - 0 1").determineGameState());
+    }
+
+    @Test
+    public void kingAndRookAgainstKingIsOngoing() {
+        assertEquals(GameState.ONGOING, new ChessController("8/8/8/4k3/8/8/8/3RK3 w - - 0 1").determineGameState());
+    }
+
+    @Test
+    public void startingPositionIsOngoing() {
+        assertEquals(GameState.ONGOING, new ChessController().determineGameState());
+    }
+}
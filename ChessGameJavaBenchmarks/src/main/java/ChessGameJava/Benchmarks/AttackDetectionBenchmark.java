@@ -0,0 +1,68 @@
+package ChessGameJava.Benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import ChessGameJava.Logic.ChessBoard;
+import ChessGameJava.Logic.ChessSquareModel;
+import ChessGameJava.Logic.Colour;
+
+/**
+ * Benchmarks of ChessBoardModel.isSquareUnderAttackBy. The first benchmark measures the check 
+ * detection done on the king of the player to move and the second one measures a query of every 
+ * square of the board by both colours, which is closer to what castling generation and mate 
+ * detection do. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AttackDetectionBenchmark {
+
+    @Param
+    public BenchmarkPosition position;
+
+    @Param
+    public BoardType boardType;
+
+    private ChessBoard board;
+    private Colour player;
+    private Colour opponent;
+
+    @Setup
+    public void setup() {
+        this.board = this.boardType.fromBoard(this.position.createBoard());
+        this.player = this.position.getSideToMove();
+        this.opponent = this.player == Colour.WHITE ? Colour.BLACK : Colour.WHITE;
+    }
+
+    @Benchmark
+    public boolean isKingUnderAttack() {
+        return this.board.isSquareUnderAttackBy(this.board.getSquareOfKing(this.player), this.opponent);
+    }
+
+    @Benchmark
+    public void isEverySquareUnderAttack(Blackhole blackhole) {
+        for (ChessSquareModel square : this.board.getSquareList()) {
+            blackhole.consume(this.board.isSquareUnderAttackBy(square, Colour.WHITE));
+            blackhole.consume(this.board.isSquareUnderAttackBy(square, Colour.BLACK));
+        }
+    }
+}
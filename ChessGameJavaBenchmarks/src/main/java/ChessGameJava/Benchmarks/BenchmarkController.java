@@ -0,0 +1,30 @@
+package ChessGameJava.Benchmarks;
+
+import ChessGameJava.Controller.ChessController;
+import ChessGameJava.Controller.GameState;
+import ChessGameJava.Logic.ChessBoard;
+import ChessGameJava.Logic.Colour;
+
+/**
+ * ChessController exposing the protected methods the benchmarks need to measure. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public class BenchmarkController extends ChessController {
+
+    /**
+     * @param board The ChessBoard the game is played on. 
+     * @param startingPlayer The Colour of the player who plays the next move. 
+     */
+    public BenchmarkController(ChessBoard board, Colour startingPlayer) {
+        super(board, startingPlayer);
+    }
+
+    /**
+     * @return The GameState computed by ChessController.determineGameState. 
+     */
+    public GameState callDetermineGameState() {
+        return this.determineGameState();
+    }
+}
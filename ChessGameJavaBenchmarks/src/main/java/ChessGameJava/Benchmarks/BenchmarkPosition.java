@@ -0,0 +1,48 @@
+package ChessGameJava.Benchmarks;
+
+import ChessGameJava.Logic.ChessBoardModel;
+import ChessGameJava.Logic.Colour;
+import ChessGameJava.Utility.FenHelper;
+
+/**
+ * Enum of the fixed positions every benchmark is run on. The positions are described by their FEN string 
+ * and the boards are set up directly in them, see FenHelper. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public enum BenchmarkPosition {
+    MIDDLEGAME_ITALIAN("r1bq1rk1/pppp1ppp/2n2n2/2b1p3/2B1P3/2NP1N2/PPP2PPP/R1BQ1RK1 w - - 0 1"),
+    MIDDLEGAME_KIWIPETE("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1"),
+    ENDGAME_ROOKS("8/5pk1/6p1/8/3R4/6P1/5PK1/1r6 w - - 0 1"),
+    ENDGAME_PAWNS("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1");
+
+    private final String fen;
+
+    private BenchmarkPosition(String fen) {
+        this.fen = fen;
+    }
+
+    /**
+     * @return The FEN string of the position. 
+     */
+    public String getFen() {
+        return this.fen;
+    }
+
+    /**
+     * @return The Colour of the player who has to move in the position. 
+     */
+    public Colour getSideToMove() {
+        return FenHelper.getSideToMove(this.fen);
+    }
+
+    /**
+     * Creates a new ChessBoardModel set up in the position. 
+     * 
+     * @return The ChessBoardModel in the position. 
+     */
+    public ChessBoardModel createBoard() {
+        return new ChessBoardModel(this.fen);
+    }
+}
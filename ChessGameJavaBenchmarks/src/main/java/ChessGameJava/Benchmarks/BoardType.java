@@ -0,0 +1,26 @@
+package ChessGameJava.Benchmarks;
+
+import ChessGameJava.Logic.BitboardBoardModel;
+import ChessGameJava.Logic.ChessBoard;
+import ChessGameJava.Logic.ChessBoardModel;
+
+/**
+ * Enum of the implementations of ChessBoard the benchmarks can be run on. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+public enum BoardType {
+    ARRAY,
+    BITBOARD;
+
+    /**
+     * Converts a ChessBoardModel to the implementation described by this BoardType. 
+     * 
+     * @param board The ChessBoardModel holding the position. 
+     * @return A ChessBoard of this type holding the same position. 
+     */
+    public ChessBoard fromBoard(ChessBoardModel board) {
+        return this == BITBOARD ? new BitboardBoardModel(board) : board;
+    }
+}
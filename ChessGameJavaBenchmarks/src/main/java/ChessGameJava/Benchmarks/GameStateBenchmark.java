@@ -0,0 +1,50 @@
+package ChessGameJava.Benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ChessGameJava.Controller.GameState;
+
+/**
+ * Benchmark of ChessController.determineGameState, which runs after every move played from the UI. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameStateBenchmark {
+
+    @Param
+    public BenchmarkPosition position;
+
+    @Param
+    public BoardType boardType;
+
+    private BenchmarkController controller;
+
+    @Setup
+    public void setup() {
+        this.controller = new BenchmarkController(this.boardType.fromBoard(this.position.createBoard()), this.position.getSideToMove());
+    }
+
+    @Benchmark
+    public GameState determineGameState() {
+        return this.controller.callDetermineGameState();
+    }
+}
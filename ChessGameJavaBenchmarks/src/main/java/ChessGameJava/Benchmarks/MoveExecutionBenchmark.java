@@ -0,0 +1,105 @@
+package ChessGameJava.Benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import ChessGameJava.Controller.ChessController;
+import ChessGameJava.Logic.ChessBoard;
+import ChessGameJava.Logic.ChessBoardModel;
+import ChessGameJava.Logic.ChessSquareModel;
+import ChessGameJava.Logic.Colour;
+import ChessGameJava.Logic.Moves.BasicMove;
+import ChessGameJava.Logic.Moves.Castle;
+import ChessGameJava.Logic.Moves.ChessABSMove;
+import ChessGameJava.Logic.Moves.EnPassant;
+import ChessGameJava.Utility.Position;
+
+/**
+ * Benchmarks of the execute and revert cycle of the BasicMove, Castle and EnPassant moves. 
+ * 
+ * The position is reached by playing 1. e4 a6 2. Nf3 a5 3. Bc4 a4 4. e5 d5 from the starting position 
+ * which leaves white with a quiet knight move, a king side castle and an en-passant capture on d6. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoveExecutionBenchmark {
+
+    @Param
+    public BoardType boardType;
+
+    private static final String[] openingMoves = {"e2e4", "a7a6", "g1f3", "a6a5", "f1c4", "a5a4", "e4e5", "d7d5"};
+
+    private ChessBoard board;
+    private ChessABSMove basicMove;
+    private ChessABSMove castle;
+    private ChessABSMove enPassant;
+
+    @Setup
+    public void setup() {
+        ChessController controller = new ChessController(this.boardType.fromBoard(new ChessBoardModel()), Colour.WHITE);
+        for (String move : openingMoves) {
+            controller.playMove(Position.fromAlgebraic(move.substring(0, 2)), Position.fromAlgebraic(move.substring(2, 4)));
+        }
+        this.board = controller.getBoard();
+
+        this.basicMove = this.findMove("f3", "g5", BasicMove.class);
+        this.castle = this.findMove("e1", "g1", Castle.class);
+        this.enPassant = this.findMove("e5", "d6", EnPassant.class);
+    }
+
+    @Benchmark
+    public void basicMove(Blackhole blackhole) {
+        blackhole.consume(this.basicMove.processExecuteMove(this.board));
+        blackhole.consume(this.basicMove.processRevertMove(this.board));
+    }
+
+    @Benchmark
+    public void castle(Blackhole blackhole) {
+        blackhole.consume(this.castle.processExecuteMove(this.board));
+        blackhole.consume(this.castle.processRevertMove(this.board));
+    }
+
+    @Benchmark
+    public void enPassant(Blackhole blackhole) {
+        blackhole.consume(this.enPassant.processExecuteMove(this.board));
+        blackhole.consume(this.enPassant.processRevertMove(this.board));
+    }
+
+    /**
+     * Finds the move of the given class going from the first square to the second one. 
+     * 
+     * @param from The square of the piece in algebraic notation. 
+     * @param to The square the piece goes to in algebraic notation. 
+     * @param moveClass The class of the move we are looking for. 
+     * @return The ChessABSMove found. 
+     */
+    private ChessABSMove findMove(String from, String to, Class<? extends ChessABSMove> moveClass) {
+        ChessSquareModel square = this.board.getSquareModel(Position.fromAlgebraic(from));
+        for (ChessABSMove move : square.getPiece().getListMoves(square, this.board)) {
+            if (move.getClass() == moveClass && move.getSecondSquare().getPosition().equals(Position.fromAlgebraic(to))) {
+                return move;
+            }
+        }
+
+        throw new RuntimeException(String.format("Cannot find the move %s%s", from, to));
+    }
+}
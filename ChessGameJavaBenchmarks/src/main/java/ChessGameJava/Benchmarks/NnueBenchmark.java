@@ -0,0 +1,92 @@
+package ChessGameJava.Benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ChessGameJava.Engine.NnueEvaluator;
+import ChessGameJava.Engine.NnueNetwork;
+import ChessGameJava.Engine.PieceSquareEvaluator;
+import ChessGameJava.Logic.BitboardBoardModel;
+
+/**
+ * Benchmarks of the NnueEvaluator, reported as a number of operations per second: the evaluation of a 
+ * position, the update of the accumulators for a piece moving to an empty square and back, and the 
+ * computation of the accumulators from scratch. The evaluation of the PieceSquareEvaluator is measured 
+ * for comparison. The network has random weights, which does not change the cost of its inference. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NnueBenchmark {
+    private final static long seed = 2026L;
+
+    @Param
+    public BenchmarkPosition position;
+
+    @Param({ "256", "512" })
+    public int hiddenSize;
+
+    private BitboardBoardModel board;
+    private NnueEvaluator nnueEvaluator;
+    private PieceSquareEvaluator pieceSquareEvaluator;
+    private int movedCode;
+    private int fromIndex;
+    private int toIndex;
+
+    @Setup
+    public void setup() {
+        this.board = new BitboardBoardModel(this.position.createBoard(), this.position.getSideToMove());
+        this.nnueEvaluator = new NnueEvaluator(NnueNetwork.createRandom(this.hiddenSize, seed));
+        this.nnueEvaluator.attach(this.board);
+        this.pieceSquareEvaluator = new PieceSquareEvaluator();
+
+        for (int index = 0; index < 64; index++) {
+            if (this.board.getPieceCode(index) == BitboardBoardModel.noPiece) {
+                this.toIndex = index;
+            } else {
+                this.fromIndex = index;
+                this.movedCode = this.board.getPieceCode(index);
+            }
+        }
+    }
+
+    @Benchmark
+    public int nnueEvaluate() {
+        return this.nnueEvaluator.evaluate(this.board);
+    }
+
+    @Benchmark
+    public int pieceSquareEvaluate() {
+        return this.pieceSquareEvaluator.evaluate(this.board);
+    }
+
+    @Benchmark
+    public void accumulatorUpdate() {
+        this.nnueEvaluator.onPieceRemoved(this.movedCode, this.fromIndex);
+        this.nnueEvaluator.onPieceAdded(this.movedCode, this.toIndex);
+        this.nnueEvaluator.onPieceRemoved(this.movedCode, this.toIndex);
+        this.nnueEvaluator.onPieceAdded(this.movedCode, this.fromIndex);
+    }
+
+    @Benchmark
+    public void accumulatorRefresh() {
+        this.nnueEvaluator.refresh();
+    }
+}
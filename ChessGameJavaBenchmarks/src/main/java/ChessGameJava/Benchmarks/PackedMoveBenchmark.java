@@ -0,0 +1,66 @@
+package ChessGameJava.Benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import ChessGameJava.Logic.BitboardBoardModel;
+import ChessGameJava.Logic.BitboardMoveGenerator;
+
+/**
+ * Benchmarks of the native API of BitboardBoardModel: generating the packed moves of a position and 
+ * making and unmaking every one of them. Run with the GC profiler to confirm that nothing is allocated. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PackedMoveBenchmark {
+
+    @Param
+    public BenchmarkPosition position;
+
+    private BitboardBoardModel board;
+    private final int[] moves = new int[BitboardMoveGenerator.maxNumberOfMoves];
+
+    @Setup
+    public void setup() {
+        this.board = new BitboardBoardModel(this.position.createBoard(), this.position.getSideToMove());
+    }
+
+    @Benchmark
+    public int generateMoves() {
+        return BitboardMoveGenerator.generateMoves(this.board, this.moves);
+    }
+
+    @Benchmark
+    public int generateLegalMoves() {
+        return BitboardMoveGenerator.generateLegalMoves(this.board, this.moves);
+    }
+
+    @Benchmark
+    public void makeUnmakeMoves(Blackhole blackhole) {
+        int numberOfMoves = BitboardMoveGenerator.generateMoves(this.board, this.moves);
+        for (int i = 0; i < numberOfMoves; i++) {
+            this.board.makeMove(this.moves[i]);
+            blackhole.consume(this.board.getOccupancy());
+            this.board.unmakeMove();
+        }
+    }
+}
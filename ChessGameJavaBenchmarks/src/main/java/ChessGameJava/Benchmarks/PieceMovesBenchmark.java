@@ -0,0 +1,74 @@
+package ChessGameJava.Benchmarks;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import ChessGameJava.Logic.ChessBoard;
+import ChessGameJava.Logic.ChessSquareModel;
+import ChessGameJava.Utility.PieceName;
+
+/**
+ * Benchmarks of the getListAttackingSquares and getListMoves methods of every piece. Every operation 
+ * asks all the pieces of the selected type, of both colours, for their squares or their moves. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PieceMovesBenchmark {
+
+    @Param
+    public BenchmarkPosition position;
+
+    @Param
+    public BoardType boardType;
+
+    @Param({"KING", "QUEEN", "ROOK", "BISHOP", "KNIGHT", "PAWN"})
+    public PieceName pieceName;
+
+    private ChessBoard board;
+    private final ArrayList<ChessSquareModel> squares = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+        this.board = this.boardType.fromBoard(this.position.createBoard());
+        this.squares.clear();
+        for (ChessSquareModel square : this.board.getSquareList()) {
+            if (square.getPiece().getPieceName() == this.pieceName) {
+                this.squares.add(square);
+            }
+        }
+    }
+
+    @Benchmark
+    public void getListAttackingSquares(Blackhole blackhole) {
+        for (ChessSquareModel square : this.squares) {
+            blackhole.consume(square.getPiece().getListAttackingSquares(square, this.board));
+        }
+    }
+
+    @Benchmark
+    public void getListMoves(Blackhole blackhole) {
+        for (ChessSquareModel square : this.squares) {
+            blackhole.consume(square.getPiece().getListMoves(square, this.board));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package ChessGameJava.Benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ChessGameJava.Engine.Engine;
+import ChessGameJava.Engine.SearchLimits;
+import ChessGameJava.Engine.SearchResult;
+import ChessGameJava.Logic.BitboardBoardModel;
+
+/**
+ * Benchmark of the scaling of the search of the Engine with its number of threads. Every operation is a 
+ * search of searchTime milliseconds starting from an empty transposition table, the nodes counter reporting 
+ * the number of nodes visited per second by all the threads. With a perfect scaling, the nodes per second 
+ * grow linearly with the number of threads. 
+ * 
+ * @Author Charles Degrandpré
+ * @Last_Updated 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+    private final static int searchTime = 250;
+
+    @Param
+    public BenchmarkPosition position;
+
+    @Param({ "1", "2", "4", "8" })
+    public int threads;
+
+    private BitboardBoardModel board;
+    private Engine engine;
+    private final SearchLimits limits = new SearchLimits();
+
+    /**
+     * Counters reported next to the number of searches per second, as a number of events per second. 
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class SearchCounters {
+        public long nodes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.nodes = 0;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        this.board = new BitboardBoardModel(this.position.createBoard(), this.position.getSideToMove());
+        this.engine = new Engine();
+        this.engine.setThreads(this.threads);
+        this.limits.setMoveTime(searchTime);
+    }
+
+    @Benchmark
+    public int search(SearchCounters counters) {
+        this.engine.clear();
+        SearchResult result = this.engine.search(this.board, this.limits);
+        counters.nodes += result.getNodes();
+        return result.getBestMove();
+    }
+}